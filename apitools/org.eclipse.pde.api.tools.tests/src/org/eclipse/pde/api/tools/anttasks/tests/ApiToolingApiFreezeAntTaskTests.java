@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -96,4 +96,25 @@ public class ApiToolingApiFreezeAntTaskTests extends AntRunnerTestCase {
 			assertEquals("Wrong exception", "org.apache.tools.ant.BuildException", e.getClass().getCanonicalName()); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 	}
+
+	/**
+	 * Tests comparing the bundles with several threads
+	 */
+	@Test
+	public void test5() throws Exception {
+		runTaskAndVerify("test5"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that an invalid thread count is rejected
+	 */
+	@Test
+	public void test6() throws Exception {
+		try {
+			runTaskAndVerify("test6"); //$NON-NLS-1$
+			fail("Should not be there"); //$NON-NLS-1$
+		} catch (Exception e) {
+			assertEquals("Wrong exception", "org.apache.tools.ant.BuildException", e.getClass().getCanonicalName()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -84,4 +84,12 @@ public class ApiToolingCompareAntTaskTests extends AntRunnerTestCase {
 		runTaskAndVerify("test3"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests comparing the bundles with several threads
+	 */
+	@Test
+	public void test4() throws Exception {
+		runTaskAndVerify("test4"); //$NON-NLS-1$
+	}
+
 }
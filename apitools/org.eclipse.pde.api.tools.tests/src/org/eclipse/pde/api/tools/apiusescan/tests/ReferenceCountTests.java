@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.osgi.util.NLS;
@@ -28,6 +30,7 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.search.IReferenceCollection;
 import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
 import org.eclipse.pde.api.tools.internal.search.UseScanManager;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
 import org.junit.Before;
 import org.junit.Test;
@@ -66,6 +69,52 @@ public class ReferenceCountTests {
 		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
 	}
 
+	/**
+	 * Tests that the references are the same when read from the index of the
+	 * scan written by an earlier lookup
+	 */
+	@Test
+	public void testReferenceCountFromIndex() {
+		String location = ExternalDependencyTestUtils.setupReport("reportAll", true); //$NON-NLS-1$
+		if (location == null) {
+			fail("Could not setup the report : reportAll.zip"); //$NON-NLS-1$
+		}
+		IApiComponent apiComponent = fBaseline.getApiComponent(ExternalDependencyTestUtils.PROJECT_NAME);
+		String[][] apiUseTpes = new String[][] {
+				{"tests.apiusescan.coretestproject.ClassWithInnerType"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.ITestInterface"}  //$NON-NLS-1$
+		};
+		int[] expectedResult = new int[] {7, 5};
+		// the first lookup indexes the scan, the second one reads the index
+		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
+		verifyReferenceCount(apiComponent, apiUseTpes, expectedResult);
+	}
+
+	/**
+	 * Tests that the index of a scan directory is rebuilt when the directory
+	 * changes
+	 */
+	@Test
+	public void testReferenceCountFromChangedDirectory() {
+		String location = ExternalDependencyTestUtils.setupReport("reportAll", true); //$NON-NLS-1$
+		if (location == null) {
+			fail("Could not setup the report : reportAll.zip"); //$NON-NLS-1$
+		}
+		IApiComponent apiComponent = fBaseline.getApiComponent(ExternalDependencyTestUtils.PROJECT_NAME);
+		String[] apiUseTypes = new String[] { "tests.apiusescan.coretestproject.ITestInterface" }; //$NON-NLS-1$
+		try {
+			assertEquals(5, fUseScanManager.getExternalDependenciesFor(apiComponent, apiUseTypes, new NullProgressMonitor()).length);
+			File[] referees = new File(location).listFiles(File::isDirectory);
+			assertEquals(1, referees.length);
+			Util.delete(new File(referees[0], "tests.apiusescan.clienttestprojectTwo (1.0.0.201011170119)")); //$NON-NLS-1$
+			// only forget the references, not the index
+			apiComponent.getExternalDependencies().clear();
+			assertEquals(3, fUseScanManager.getExternalDependenciesFor(apiComponent, apiUseTypes, new NullProgressMonitor()).length);
+		} finally {
+			fUseScanManager.clearCache();
+		}
+	}
+
 	public void verifyReferenceCount(IApiComponent apiComponent, String[][] apiUseTpes, int[] expectedResult) {
 		String errorMessage = "Incorrect number of references for the set {0}"; //$NON-NLS-1$
 		for (int i = 0; i < apiUseTpes.length; i++) {
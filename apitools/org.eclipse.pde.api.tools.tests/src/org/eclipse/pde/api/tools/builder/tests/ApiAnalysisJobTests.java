@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the scheduling of the {@link ApiAnalysisJob}s of a project when the
+ * API analysis runs in parallel
+ */
+public class ApiAnalysisJobTests {
+
+	/**
+	 * Delay keeping scheduled jobs waiting during a test
+	 */
+	private static final long DELAY = 60 * 60 * 1000;
+
+	private IProject project;
+	private boolean parallelAnalysis;
+
+	@Before
+	public void setUp() throws CoreException {
+		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+		parallelAnalysis = prefs.getBoolean(ICoreConstants.PARALLEL_API_ANALYSIS);
+		prefs.setValue(ICoreConstants.PARALLEL_API_ANALYSIS, true);
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getSimpleName());
+		project.create(null);
+		project.open(null);
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		Job.getJobManager().cancel(ApiAnalysisJob.class);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.PARALLEL_API_ANALYSIS, parallelAnalysis);
+		project.delete(true, null);
+	}
+
+	/**
+	 * Tests that a pending analysis of a full build is found, and is not
+	 * cancelled by the analysis of an incremental build
+	 */
+	@Test
+	public void testIncrementalBuildKeepsFullBuild() {
+		assertFalse("No analysis should be pending", ApiAnalysisBuilder.hasAnalysisJob(project)); //$NON-NLS-1$
+		ApiAnalysisJob fullBuild = createJob(true);
+		fullBuild.schedule(DELAY);
+		assertTrue("Analysis should be pending", ApiAnalysisBuilder.hasAnalysisJob(project)); //$NON-NLS-1$
+
+		ApiAnalysisJob incrementalBuild = createJob(false);
+		incrementalBuild.cancelSimilarJobs(false);
+		incrementalBuild.schedule(DELAY);
+		assertEquals(Job.SLEEPING, fullBuild.getState());
+
+		ApiAnalysisJob nextIncrementalBuild = createJob(false);
+		nextIncrementalBuild.cancelSimilarJobs(false);
+		assertEquals(Job.NONE, incrementalBuild.getState());
+		assertEquals(Job.SLEEPING, fullBuild.getState());
+	}
+
+	/**
+	 * Tests that the analysis of a full build cancels all pending analyses of
+	 * the project
+	 */
+	@Test
+	public void testFullBuildCancelsPendingBuilds() {
+		ApiAnalysisJob fullBuild = createJob(true);
+		fullBuild.schedule(DELAY);
+		ApiAnalysisJob incrementalBuild = createJob(false);
+		incrementalBuild.schedule(DELAY);
+
+		createJob(true).cancelSimilarJobs(true);
+		assertEquals(Job.NONE, fullBuild.getState());
+		assertEquals(Job.NONE, incrementalBuild.getState());
+		assertFalse("No analysis should be pending", ApiAnalysisBuilder.hasAnalysisJob(project)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that disposing the workspace baseline cancels the pending analyses
+	 */
+	@Test
+	public void testDisposalCancelsPendingBuilds() throws Exception {
+		ApiBaselineManager manager = ApiPlugin.getDefault().getApiBaselineManager();
+		assertNotNull("Missing workspace baseline", manager.getWorkspaceBaseline()); //$NON-NLS-1$
+		ApiAnalysisJob fullBuild = createJob(true);
+		fullBuild.schedule(DELAY);
+
+		manager.disposeWorkspaceBaseline();
+		assertEquals(Job.NONE, fullBuild.getState());
+		Job.getJobManager().join(ApiBaselineManager.class, null);
+	}
+
+	private ApiAnalysisJob createJob(boolean fullBuild) {
+		return new ApiAnalysisBuilder().new ApiAnalysisJob(getClass().getSimpleName(), project, fullBuild, null,
+				new IProject[0]);
+	}
+}
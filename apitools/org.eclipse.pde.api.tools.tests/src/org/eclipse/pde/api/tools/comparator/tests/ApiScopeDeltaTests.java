@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -247,4 +247,48 @@ public class ApiScopeDeltaTests extends DeltaTestSetup {
 			// expected as scope is null
 		}
 	}
+
+	/**
+	 * Use api scope of API components compared by several threads
+	 */
+	@Test
+	public void test8() throws CoreException {
+		deployBundles("test2"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		ApiScope scope = new ApiScope();
+		for (IApiComponent apiComponent : after.getApiComponents()) {
+			scope.addElement(apiComponent);
+		}
+		IDelta delta = ApiComparator.compare(scope, before, VisibilityModifiers.API, true, false, 4, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		IDelta[] allLeavesDeltas = collectLeaves(delta);
+		assertEquals("Wrong size", 1, allLeavesDeltas.length); //$NON-NLS-1$
+		IDelta child = allLeavesDeltas[0];
+		assertEquals("Wrong kind", IDelta.REMOVED, child.getKind()); //$NON-NLS-1$
+		assertEquals("Wrong flag", IDelta.METHOD, child.getFlags()); //$NON-NLS-1$
+		assertEquals("Wrong element type", IDelta.CLASS_ELEMENT_TYPE, child.getElementType()); //$NON-NLS-1$
+		assertEquals("Different delta", ApiComparator.compare(scope, before, VisibilityModifiers.API, true, null).toString(), delta.toString()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Use api scope of an API baseline compared by several threads
+	 */
+	@Test
+	public void test9() throws CoreException {
+		deployBundles("test1"); //$NON-NLS-1$
+		IApiBaseline before = getBeforeState();
+		IApiBaseline after = getAfterState();
+		ApiScope scope = new ApiScope();
+		scope.addElement(after);
+		IDelta delta = ApiComparator.compare(scope, before, VisibilityModifiers.API, false, false, 4, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		IDelta[] allLeavesDeltas = collectLeaves(delta);
+		assertEquals("Wrong size", 1, allLeavesDeltas.length); //$NON-NLS-1$
+		IDelta child = allLeavesDeltas[0];
+		assertEquals("Wrong kind", IDelta.REMOVED, child.getKind()); //$NON-NLS-1$
+		assertEquals("Wrong flag", IDelta.METHOD, child.getFlags()); //$NON-NLS-1$
+		assertEquals("Wrong element type", IDelta.CLASS_ELEMENT_TYPE, child.getElementType()); //$NON-NLS-1$
+		assertEquals("Different delta", ApiComparator.compare(scope, before, VisibilityModifiers.API, false, null).toString(), delta.toString()); //$NON-NLS-1$
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,11 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.comparator.DeltaXmlVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.ApiComparator;
 import org.eclipse.pde.api.tools.internal.provisional.comparator.DeltaProcessor;
@@ -28,6 +32,7 @@ import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Util;
 import org.junit.Test;
 
 /**
@@ -578,4 +583,29 @@ public class BundlesDeltaTests extends DeltaTestSetup {
 		assertNotNull("No delta", delta); //$NON-NLS-1$
 		assertFalse("Equals to NO_DELTA", delta == ApiComparator.NO_DELTA); //$NON-NLS-1$
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests that comparing baselines with several threads gives the same delta
+	 * as a sequential comparison
+	 */
+	@Test
+	public void test17() throws CoreException {
+		deployBundles("test14"); //$NON-NLS-1$
+		deployBundle("test1", BEFORE, "deltatest0"); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiBaseline beforeState = getBeforeState();
+		IApiBaseline afterState = getAfterState();
+
+		IDelta delta = ApiComparator.compare(beforeState, afterState, VisibilityModifiers.API, true, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		List<String> timings = new ArrayList<>();
+		IDelta parallelDelta = ApiComparator.compare(beforeState, afterState, VisibilityModifiers.API, true, 4, (id, time) -> timings.add(id), null);
+		assertNotNull("No delta", parallelDelta); //$NON-NLS-1$
+		assertEquals("Wrong timings", List.of("deltatest1"), timings); //$NON-NLS-1$ //$NON-NLS-2$
+
+		DeltaXmlVisitor xmlVisitor = new DeltaXmlVisitor();
+		delta.accept(xmlVisitor);
+		DeltaXmlVisitor parallelXmlVisitor = new DeltaXmlVisitor();
+		parallelDelta.accept(parallelXmlVisitor);
+		assertEquals("Different deltas", Util.serializeDocument(xmlVisitor.getDocument()), Util.serializeDocument(parallelXmlVisitor.getDocument())); //$NON-NLS-1$
+	}
+}
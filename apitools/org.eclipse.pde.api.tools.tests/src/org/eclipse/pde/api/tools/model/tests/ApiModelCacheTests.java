@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -34,9 +35,12 @@ public class ApiModelCacheTests {
 	static final String TEST_COMP_ID = "testcomp-id"; //$NON-NLS-1$
 	static final String TEST_BASELINE_ID = "testbaseline-id"; //$NON-NLS-1$
 
+	long budget = ApiModelCache.getCache().getMemoryBudget();
+
 	@After
 	public void tearDown() throws Exception {
 		ApiModelCache.getCache().flushCaches();
+		ApiModelCache.getCache().setMemoryBudget(budget);
 	}
 
 	/**
@@ -160,4 +164,32 @@ public class ApiModelCacheTests {
 		assertTrue("The type 'a.b.c.testee1' should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(element)); //$NON-NLS-1$
 		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that the least recently used types are evicted once the estimated
+	 * size of the cache exceeds its memory budget
+	 */
+	@Test
+	public void testEvictionOverBudget() throws Exception {
+		ApiModelCache cache = ApiModelCache.getCache();
+		cacheType("a.b.c.evictee0"); //$NON-NLS-1$
+		long typesize = cache.getEstimatedSize();
+		assertTrue("The cached type should have an estimated size", typesize > 0); //$NON-NLS-1$
+		cache.setMemoryBudget(typesize * 10);
+		for (int i = 1; i < 10; i++) {
+			cacheType("a.b.c.evictee" + i); //$NON-NLS-1$
+		}
+		// keep the first type recently used
+		assertNotNull("The element 'a.b.c.evictee0' should exist in the cache", //$NON-NLS-1$
+				cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.evictee0", IApiElement.TYPE)); //$NON-NLS-1$
+		cacheType("a.b.c.evictee10"); //$NON-NLS-1$
+		assertTrue("The cache should be within its budget", cache.getEstimatedSize() <= cache.getMemoryBudget()); //$NON-NLS-1$
+		assertNotNull("The recently used element 'a.b.c.evictee0' should not have been evicted", //$NON-NLS-1$
+				cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.evictee0", IApiElement.TYPE)); //$NON-NLS-1$
+		assertNull("The least recently used element 'a.b.c.evictee1' should have been evicted", //$NON-NLS-1$
+				cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, "a.b.c.evictee1", IApiElement.TYPE)); //$NON-NLS-1$
+		assertTrue("The statistics should report evictions", cache.getStatistics().contains("evictions")); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.flushCaches();
+		assertEquals("The flushed cache should have no estimated size", 0, cache.getEstimatedSize()); //$NON-NLS-1$
+	}
 }
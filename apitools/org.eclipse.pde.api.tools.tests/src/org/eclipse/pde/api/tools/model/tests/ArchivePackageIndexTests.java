@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.ArchivePackageIndex;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the persistent index of the package tables of archives
+ */
+public class ArchivePackageIndexTests {
+
+	private Path archive;
+
+	@Before
+	public void setUp() throws Exception {
+		assumeTrue("The index requires the framework", ApiPlugin.isRunningInFramework()); //$NON-NLS-1$
+		archive = Files.createTempFile("archive", ".jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		Files.writeString(archive, "content"); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (archive != null) {
+			Files.deleteIfExists(archive);
+		}
+	}
+
+	/**
+	 * Tests that the package table of an archive is indexed and loaded again
+	 */
+	@Test
+	public void testIndexIsLoaded() {
+		String location = archive.toString();
+		assertNull("Archive should not be indexed", ArchivePackageIndex.read(location)); //$NON-NLS-1$
+		Map<String, Map<String, String>> packages = createPackages("a", "a.b.c"); //$NON-NLS-1$ //$NON-NLS-2$
+		ArchivePackageIndex.write(location, packages);
+		assertEquals(packages, ArchivePackageIndex.read(location));
+	}
+
+	/**
+	 * Tests that the index of a modified archive is not used
+	 */
+	@Test
+	public void testIndexOfModifiedArchiveIsInvalid() throws Exception {
+		String location = archive.toString();
+		ArchivePackageIndex.write(location, createPackages("a")); //$NON-NLS-1$
+		FileTime lastModified = Files.getLastModifiedTime(archive);
+		Files.setLastModifiedTime(archive, FileTime.fromMillis(lastModified.toMillis() + 10000));
+		assertNull("Index of modified archive should be invalid", ArchivePackageIndex.read(location)); //$NON-NLS-1$
+
+		ArchivePackageIndex.write(location, createPackages("a")); //$NON-NLS-1$
+		lastModified = Files.getLastModifiedTime(archive);
+		Files.writeString(archive, "more", StandardOpenOption.APPEND); //$NON-NLS-1$
+		Files.setLastModifiedTime(archive, lastModified);
+		assertNull("Index of resized archive should be invalid", ArchivePackageIndex.read(location)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that an index that has been read can be replaced
+	 */
+	@Test
+	public void testIndexIsReplaced() {
+		String location = archive.toString();
+		ArchivePackageIndex.write(location, createPackages("a")); //$NON-NLS-1$
+		assertEquals(createPackages("a"), ArchivePackageIndex.read(location)); //$NON-NLS-1$
+		Map<String, Map<String, String>> packages = createPackages("b", "c"); //$NON-NLS-1$ //$NON-NLS-2$
+		ArchivePackageIndex.write(location, packages);
+		assertEquals(packages, ArchivePackageIndex.read(location));
+	}
+
+	/**
+	 * Tests that an archive container indexes the archive
+	 */
+	@Test
+	public void testContainerBuildsIndex() throws Exception {
+		Path sample = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar").toPath(); //$NON-NLS-1$ //$NON-NLS-2$
+		Files.copy(sample, archive, StandardCopyOption.REPLACE_EXISTING);
+		String location = archive.toString();
+		ArchiveApiTypeContainer container = new ArchiveApiTypeContainer(null, location);
+		assertArrayEquals(new String[] { "", "a", "a.b.c" }, container.getPackageNames()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		Map<String, Map<String, String>> packages = ArchivePackageIndex.read(location);
+		assertNotNull("Archive should be indexed", packages); //$NON-NLS-1$
+		assertEquals(Set.of("", "a", "a.b.c"), packages.keySet()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that an archive container uses the index
+	 */
+	@Test
+	public void testContainerUsesIndex() throws CoreException {
+		String location = archive.toString();
+		Map<String, Map<String, String>> packages = createPackages("", "a", "a.b.c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		ArchivePackageIndex.write(location, packages);
+		// the archive itself is no jar, so the packages can only come from the index
+		ArchiveApiTypeContainer container = new ArchiveApiTypeContainer(null, location);
+		assertArrayEquals(new String[] { "", "a", "a.b.c" }, container.getPackageNames()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Tests that an index file is touched when it is used, so that only unused
+	 * index files are deleted
+	 */
+	@Test
+	public void testIndexIsTouched() throws Exception {
+		String location = archive.toString();
+		ArchivePackageIndex.write(location, createPackages("a")); //$NON-NLS-1$
+		String name = UUID.nameUUIDFromBytes(location.getBytes(StandardCharsets.UTF_8)).toString();
+		Path indexFile = ApiPlugin.getDefault().getStateLocation().append(".archive_index").append(name).toPath(); //$NON-NLS-1$
+		assertTrue("Missing index file", Files.isRegularFile(indexFile)); //$NON-NLS-1$
+		long lastUsed = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(10);
+		Files.setLastModifiedTime(indexFile, FileTime.fromMillis(lastUsed));
+		assertEquals(createPackages("a"), ArchivePackageIndex.read(location)); //$NON-NLS-1$
+		assertTrue("Index file not touched", Files.getLastModifiedTime(indexFile).toMillis() > lastUsed); //$NON-NLS-1$
+	}
+
+	private static Map<String, Map<String, String>> createPackages(String... names) {
+		Map<String, Map<String, String>> packages = new TreeMap<>();
+		for (String name : names) {
+			String prefix = name.isEmpty() ? "" : name + '.'; //$NON-NLS-1$
+			Map<String, String> fileNames = new TreeMap<>();
+			fileNames.put(prefix + "Type", prefix.replace('.', '/') + "Type.class"); //$NON-NLS-1$ //$NON-NLS-2$
+			packages.put(name, fileNames);
+		}
+		return packages;
+	}
+}
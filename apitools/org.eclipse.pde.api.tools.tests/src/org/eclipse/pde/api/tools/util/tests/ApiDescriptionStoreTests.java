@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.util.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.ApiDescriptionManager;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
+import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
+import org.eclipse.pde.api.tools.tests.AbstractApiTest;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
+import org.eclipse.pde.api.tools.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the API description of a workspace project is saved to and
+ * restored from its binary file, and migrated from the XML file of earlier
+ * versions
+ */
+public class ApiDescriptionStoreTests extends AbstractApiTest {
+
+	private static final String TESTING_PACKAGE = "a.b.c"; //$NON-NLS-1$
+
+	/**
+	 * Name of the binary API description file
+	 */
+	private static final String BINARY_FILE_NAME = ".api_description.bin"; //$NON-NLS-1$
+
+	private final IPath SRC_LOC = TestSuiteHelper.getPluginDirectoryPath().append("test-source").append("a").append("b").append("c"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	/**
+	 * Tests that a saved description is restored with the same annotations, the
+	 * packages being loaded when they are first queried, and that a restored
+	 * description is saved again with its changes
+	 */
+	@Test
+	public void testRoundTrip() throws Exception {
+		Map<String, String> original = getAnnotations(getDescription());
+		assertTrue("The description should contain the test types", original.size() > 2); //$NON-NLS-1$
+		save();
+		assertTrue("Missing binary file", Files.isRegularFile(getFile(BINARY_FILE_NAME))); //$NON-NLS-1$
+
+		ProjectApiDescription restored = restore();
+		// query a member before the package is visited
+		IMethodDescriptor foo = Factory.methodDescriptor("a.b.c.TestClass1", "foo", "()V"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IApiAnnotations annotations = restored.resolveAnnotations(foo);
+		assertNotNull("Missing annotations of a.b.c.TestClass1#foo()", annotations); //$NON-NLS-1$
+		assertEquals(original.get(foo.toString()), annotations.toString());
+		assertEquals(original, getAnnotations(restored));
+
+		restored.setRestrictions(foo, RestrictionModifiers.NO_REFERENCE);
+		Map<String, String> modified = getAnnotations(restored);
+		assertNotEquals(original, modified);
+		save();
+		assertEquals(modified, getAnnotations(restore()));
+	}
+
+	/**
+	 * Tests that a description saved by an earlier version as XML is restored
+	 * with the same annotations and replaced by the binary file on the next
+	 * save
+	 */
+	@Test
+	public void testMigration() throws Exception {
+		ProjectApiDescription description = getDescription();
+		Map<String, String> original = getAnnotations(description);
+		Path xmlFile = getFile(IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		Files.createDirectories(xmlFile.getParent());
+		Util.writeDocumentToFile(description.getXML(), xmlFile);
+		ApiDescriptionManager.getManager().clean(getTestingProject(), false, true);
+		Files.deleteIfExists(getFile(BINARY_FILE_NAME));
+
+		ProjectApiDescription restored = restore();
+		assertEquals(original, getAnnotations(restored));
+		save();
+		assertTrue("Missing binary file", Files.isRegularFile(getFile(BINARY_FILE_NAME))); //$NON-NLS-1$
+		assertFalse("The XML file should be deleted", Files.exists(xmlFile)); //$NON-NLS-1$
+		assertEquals(original, getAnnotations(restore()));
+	}
+
+	/**
+	 * Returns the description of the testing project with the annotations of
+	 * the test types
+	 */
+	private ProjectApiDescription getDescription() throws CoreException {
+		IJavaProject project = getTestingProject();
+		IPackageFragmentRoot root = project.findPackageFragmentRoot(IPath.fromOSString(project.getElementName()).append(ProjectUtils.SRC_FOLDER).makeAbsolute());
+		assertNotNull("the 'src' package fragment root must exist", root); //$NON-NLS-1$
+		for (String name : List.of("TestClass1", "TestClass3")) { //$NON-NLS-1$ //$NON-NLS-2$
+			FileUtils.importFileFromDirectory(SRC_LOC.append(name + ".java").toFile(), root.getPackageFragment(TESTING_PACKAGE).getPath()); //$NON-NLS-1$
+		}
+		project.getProject().build(IncrementalProjectBuilder.FULL_BUILD, null);
+		IApiComponent component = getWorkspaceBaseline().getApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing component must exist", component); //$NON-NLS-1$
+		IApiDescription description = component.getApiDescription();
+		assertTrue("the description should be a project description", description instanceof ProjectApiDescription); //$NON-NLS-1$
+		return (ProjectApiDescription) description;
+	}
+
+	/**
+	 * Drops the cached description of the testing project and restores it from
+	 * its saved file
+	 */
+	private ProjectApiDescription restore() throws CoreException {
+		ApiDescriptionManager manager = ApiDescriptionManager.getManager();
+		manager.clean(getTestingProject(), false, true);
+		ProjectComponent component = (ProjectComponent) getWorkspaceBaseline().getApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		return (ProjectApiDescription) manager.getApiDescription(component, component.getBundleDescription());
+	}
+
+	private static void save() throws CoreException {
+		ResourcesPlugin.getWorkspace().save(true, null);
+	}
+
+	private Path getFile(String name) {
+		return ApiDescriptionManager.API_DESCRIPTIONS_CONTAINER_PATH.append(TESTING_PLUGIN_PROJECT_NAME).append(name).toPath();
+	}
+
+	/**
+	 * Returns the annotations of all elements of the given description
+	 */
+	private static Map<String, String> getAnnotations(ApiDescription description) {
+		Map<String, String> annotations = new TreeMap<>();
+		description.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations elementAnnotations) {
+				annotations.put(element.toString(), elementAnnotations.toString());
+				return true;
+			}
+		}, null);
+		return annotations;
+	}
+
+	IJavaProject getTestingProject() {
+		return JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject(TESTING_PLUGIN_PROJECT_NAME));
+	}
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		createProject(TESTING_PLUGIN_PROJECT_NAME, new String[] { TESTING_PACKAGE });
+		ProjectUtils.addExportedPackage(getTestingProject().getProject(), TESTING_PACKAGE, false, List.of());
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		ApiDescriptionManager.getManager().clean(getTestingProject(), true, true);
+		deleteProject(TESTING_PLUGIN_PROJECT_NAME);
+		ApiTestingEnvironment.dispose(getWorkspaceBaseline());
+		super.tearDown();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -642,7 +642,8 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 			return Status.OK_STATUS;
 		};
 
-		if (ApiAnalysisBuilder.isRunningAsJob()) {
+		// the analysis of full builds runs in jobs too if it runs in parallel
+		if (ApiAnalysisBuilder.isRunningAsJob() || ApiAnalysisBuilder.isParallelAnalysis()) {
 			Job.getJobManager().cancel(ApiAnalysisJob.class);
 			Job.getJobManager().cancel(ApiBaselineManager.class);
 			Job job = new Job("Disposing Workspace API Baseline") { //$NON-NLS-1$
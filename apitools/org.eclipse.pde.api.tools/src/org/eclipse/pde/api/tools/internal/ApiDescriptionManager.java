@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.jar.JarFile;
 
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ISaveContext;
 import org.eclipse.core.resources.ISaveParticipant;
 import org.eclipse.core.runtime.CoreException;
@@ -51,7 +52,6 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.pde.internal.core.natures.PluginProject;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -154,7 +154,11 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			desc.clean();
 		}
 		if (delete) {
-			File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
+			File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(ApiDescriptionStore.FILE_NAME).toFile();
+			if (file.exists()) {
+				file.delete();
+			}
+			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 			if (file.exists()) {
 				file.delete();
 			}
@@ -222,18 +226,27 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 
 	@Override
 	public synchronized void saving(ISaveContext context) throws CoreException {
-		if (context.getKind() == ISaveContext.PROJECT_SAVE && !PluginProject.isJavaProject(context.getProject())) {
-			return;
+		IProject saveProject = null;
+		if (context.getKind() == ISaveContext.PROJECT_SAVE) {
+			if (!PluginProject.isJavaProject(context.getProject())) {
+				return;
+			}
+			saveProject = context.getProject();
 		}
 
 		for (Entry<IJavaProject, IApiDescription> entry : fDescriptions.entrySet()) {
 			IJavaProject project = entry.getKey();
+			if (saveProject != null && !saveProject.equals(project.getProject())) {
+				// only the description of the saved project is written
+				continue;
+			}
 			ProjectApiDescription desc = (ProjectApiDescription) entry.getValue();
 			if (desc.isModified()) {
 				Path dir = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toPath();
-				Document xml = desc.getXML();
 				try {
-					Util.writeDocumentToFile(xml, dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
+					ApiDescriptionStore.write(desc, dir.resolve(ApiDescriptionStore.FILE_NAME));
+					// the binary file replaces the XML file of earlier versions
+					Files.deleteIfExists(dir.resolve(IApiCoreConstants.API_DESCRIPTION_XML_NAME));
 					desc.setModified(false);
 				} catch (IOException e) {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
@@ -244,11 +257,20 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 
 	/**
 	 * Restores the API description from its saved file, if any and returns true
-	 * if successful.
+	 * if successful. The binary file is preferred, the XML file written by
+	 * earlier versions is only read if there is no binary file yet.
 	 *
 	 * @return whether the restore succeeded
 	 */
 	private boolean restoreDescription(IJavaProject project, ProjectApiDescription description) throws CoreException {
+		Path binaryFile = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(ApiDescriptionStore.FILE_NAME).toPath();
+		if (Files.isRegularFile(binaryFile)) {
+			try {
+				return ApiDescriptionStore.read(project, description, binaryFile);
+			} catch (IOException e) {
+				abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_1, project.getElementName()), e);
+			}
+		}
 		File file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.API_DESCRIPTION_XML_NAME).toFile();
 		if (file.exists()) {
 			try {
@@ -264,6 +286,8 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 					description.fPackageTimeStamp = timestamp;
 					description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
 					restoreChildren(description, root, null, description.fPackageMap);
+					// convert to the binary file on the next save
+					description.setModified(true);
 					return true;
 				}
 			} catch (IOException e) {
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.PackageNode;
+import org.eclipse.pde.api.tools.internal.ProjectApiDescription.TypeNode;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
+
+/**
+ * Reads and writes the binary form of {@link ProjectApiDescription}s, which
+ * replaces the <code>.api_description</code> XML file in the state location of
+ * the API tools plug-in.
+ * <p>
+ * The file records the same nodes as the XML file. The header of each package
+ * node is followed by the encoded subtree of the package, prefixed with its
+ * length. When a description is restored only the package nodes are created;
+ * the subtree of a package is kept as bytes and only materialized when the
+ * package is first queried (see {@link PackageNode#loadChildren()}). Subtrees
+ * that have not been materialized are written back as they were read.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+final class ApiDescriptionStore {
+
+	/**
+	 * Name of the binary API description file in the folder of a project
+	 */
+	static final String FILE_NAME = ".api_description.bin"; //$NON-NLS-1$
+
+	/**
+	 * Magic number of API description files: 'APID'
+	 */
+	private static final int MAGIC = 0x41504944;
+
+	/**
+	 * Version of the file format, must be incremented whenever the format
+	 * changes
+	 */
+	private static final int VERSION = 1;
+
+	private static final byte KIND_TYPE = 1;
+	private static final byte KIND_FIELD = 2;
+	private static final byte KIND_METHOD = 3;
+
+	private ApiDescriptionStore() {
+	}
+
+	/**
+	 * Restores the package nodes of the given description from the given
+	 * file.
+	 *
+	 * @return whether the description was restored, <code>false</code> if the
+	 *         file has a different format or description version
+	 * @throws IOException if the file cannot be read or is corrupt
+	 * @throws CoreException if a stored element cannot be restored
+	 */
+	static boolean read(IJavaProject project, ProjectApiDescription description, Path file) throws IOException, CoreException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+		try {
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				return false;
+			}
+			String version = readString(buffer);
+			description.setEmbeddedVersion(version);
+			if (!IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
+				return false;
+			}
+			description.fPackageTimeStamp = buffer.getLong();
+			description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
+			int packageCount = buffer.getInt();
+			for (int i = 0; i < packageCount; i++) {
+				String name = readString(buffer);
+				int vis = buffer.getInt();
+				int res = buffer.getInt();
+				IPackageFragment[] fragments = new IPackageFragment[buffer.getInt()];
+				for (int j = 0; j < fragments.length; j++) {
+					String handle = readString(buffer);
+					IJavaElement je = JavaCore.create(handle);
+					if (je == null || je.getElementType() != IJavaElement.PACKAGE_FRAGMENT) {
+						abort(ScannerMessages.ApiDescriptionManager_2 + handle);
+					}
+					fragments[j] = (IPackageFragment) je;
+				}
+				if (fragments.length == 0) {
+					abort(ScannerMessages.ApiDescriptionManager_2);
+				}
+				int length = buffer.getInt();
+				if (length < 0 || length > buffer.remaining()) {
+					throw new IOException("Invalid API description file " + file); //$NON-NLS-1$
+				}
+				IPackageDescriptor descriptor = Factory.packageDescriptor(name);
+				PackageNode node = description.newPackageNode(fragments, null, descriptor, vis, res);
+				if (length > 0) {
+					node.setStoredChildren(buffer.slice(buffer.position(), length));
+					buffer.position(buffer.position() + length);
+				}
+				description.fPackageMap.put(descriptor, node);
+			}
+			return true;
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException("Invalid API description file " + file, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Materializes the stored subtree of a package node.
+	 *
+	 * @param description the description of the node
+	 * @param stored the stored subtree
+	 * @param node the package node
+	 * @throws CoreException if the subtree is corrupt or an element cannot be
+	 *             restored
+	 */
+	static void readChildren(ProjectApiDescription description, ByteBuffer stored, PackageNode node) throws CoreException {
+		try {
+			readChildren(description, stored, node, node.children);
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new CoreException(Status.error(ScannerMessages.ApiDescriptionManager_4, e));
+		}
+	}
+
+	private static void readChildren(ProjectApiDescription description, ByteBuffer buffer, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException {
+		int count = buffer.getInt();
+		for (int i = 0; i < count; i++) {
+			byte kind = buffer.get();
+			switch (kind) {
+				case KIND_TYPE -> {
+					String handle = readString(buffer);
+					int vis = buffer.getInt();
+					int res = buffer.getInt();
+					long timeStamp = buffer.getLong();
+					IJavaElement je = JavaCore.create(handle);
+					if (je == null || je.getElementType() != IJavaElement.TYPE) {
+						abort(ScannerMessages.ApiDescriptionManager_3 + handle);
+					}
+					IType type = (IType) je;
+					IElementDescriptor elementDesc = Factory.typeDescriptor(type.getFullyQualifiedName('$'));
+					TypeNode node = description.newTypeNode(type, parentNode, elementDesc, vis, res);
+					node.fTimeStamp = timeStamp;
+					childrenMap.put(elementDesc, node);
+					readChildren(description, buffer, node, node.children);
+				}
+				case KIND_FIELD, KIND_METHOD -> {
+					String name = readString(buffer);
+					String signature = kind == KIND_METHOD ? readString(buffer) : null;
+					int vis = buffer.getInt();
+					int res = buffer.getInt();
+					if (!(parentNode.element instanceof IReferenceTypeDescriptor type)) {
+						abort(ScannerMessages.ApiDescriptionManager_4);
+						return;
+					}
+					IElementDescriptor elementDesc = kind == KIND_METHOD ? type.getMethod(name, signature) : type.getField(name);
+					childrenMap.put(elementDesc, description.newNode(parentNode, elementDesc, vis, res));
+				}
+				default -> abort(ScannerMessages.ApiDescriptionManager_4);
+			}
+		}
+	}
+
+	/**
+	 * Writes the given description to the given file. Like the XML file, only
+	 * packages and types with API visibility and restricted members are
+	 * written.
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	static void write(ProjectApiDescription description, Path file) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		synchronized (description) {
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			writeString(out, IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION);
+			out.writeLong(description.fPackageTimeStamp);
+			List<PackageNode> packages = new ArrayList<>(description.fPackageMap.size());
+			for (ManifestNode node : description.fPackageMap.values()) {
+				if (node instanceof PackageNode pkg && node.hasApiVisibility(node)) {
+					packages.add(pkg);
+				}
+			}
+			out.writeInt(packages.size());
+			ByteArrayOutputStream subtree = new ByteArrayOutputStream();
+			for (PackageNode node : packages) {
+				writeString(out, ((IPackageDescriptor) node.element).getName());
+				out.writeInt(node.visibility);
+				out.writeInt(node.restrictions);
+				out.writeInt(node.fFragments.length);
+				for (IPackageFragment fragment : node.fFragments) {
+					writeString(out, fragment.getHandleIdentifier());
+				}
+				ByteBuffer stored = node.getStoredChildren();
+				if (stored != null) {
+					// not materialized since it was read, so it has not changed
+					out.writeInt(stored.remaining());
+					out.write(stored.array(), stored.arrayOffset() + stored.position(), stored.remaining());
+				} else {
+					subtree.reset();
+					writeChildren(new DataOutputStream(subtree), node.children);
+					out.writeInt(subtree.size());
+					subtree.writeTo(out);
+				}
+			}
+			out.flush();
+		}
+		Files.createDirectories(file.getParent());
+		Path tempFile = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp"); //$NON-NLS-1$
+		try {
+			try (BufferedOutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+				bytes.writeTo(out);
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static void writeChildren(DataOutputStream out, Map<IElementDescriptor, ManifestNode> children) throws IOException {
+		List<ManifestNode> persisted = new ArrayList<>(children.size());
+		for (ManifestNode node : children.values()) {
+			if (node instanceof TypeNode ? node.hasApiVisibility(node) : isPersistedMember(node)) {
+				persisted.add(node);
+			}
+		}
+		out.writeInt(persisted.size());
+		for (ManifestNode node : persisted) {
+			if (node instanceof TypeNode type) {
+				out.writeByte(KIND_TYPE);
+				writeString(out, type.fType.getHandleIdentifier());
+				out.writeInt(node.visibility);
+				out.writeInt(node.restrictions);
+				out.writeLong(type.fTimeStamp);
+				writeChildren(out, node.children);
+			} else if (node.element instanceof IMethodDescriptor method) {
+				out.writeByte(KIND_METHOD);
+				writeString(out, method.getName());
+				writeString(out, method.getSignature());
+				out.writeInt(node.visibility);
+				out.writeInt(node.restrictions);
+			} else {
+				out.writeByte(KIND_FIELD);
+				writeString(out, ((IFieldDescriptor) node.element).getName());
+				out.writeInt(node.visibility);
+				out.writeInt(node.restrictions);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given node is a member that is persisted, i.e. a
+	 * restricted method or field
+	 */
+	private static boolean isPersistedMember(ManifestNode node) {
+		int type = node.element.getElementType();
+		return (type == IElementDescriptor.METHOD || type == IElementDescriptor.FIELD) && !RestrictionModifiers.isUnrestricted(node.restrictions);
+	}
+
+	private static void abort(String message) throws CoreException {
+		throw new CoreException(Status.error(message));
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException();
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -73,6 +73,12 @@ public interface IApiCoreConstants {
 	 * Preference to store the API Use Scan report location
 	 */
 	public static final String API_USE_SCAN_LOCATION = "API_USE_SCAN_LOCATION"; //$NON-NLS-1$
+	/**
+	 * Preference to store the memory budget of the API model cache, in
+	 * megabytes. A value of <code>0</code> or less uses a fraction of the
+	 * maximum heap.
+	 */
+	public static final String API_MODEL_CACHE_SIZE = "API_MODEL_CACHE_SIZE"; //$NON-NLS-1$
 
 	/**
 	 * Constant representing <code>XML</code>
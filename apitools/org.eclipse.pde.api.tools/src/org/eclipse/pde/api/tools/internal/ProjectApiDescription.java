@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -99,6 +100,12 @@ public class ProjectApiDescription extends ApiDescription {
 
 		IPackageFragment[] fFragments;
 
+		/**
+		 * The stored subtree of this package that has not been materialized
+		 * yet, or <code>null</code>
+		 */
+		private volatile ByteBuffer fStoredChildren;
+
 		/**
 		 * Constructs a new node.
 		 */
@@ -116,12 +123,61 @@ public class ProjectApiDescription extends ApiDescription {
 					return null;
 				}
 			}
+			loadChildren();
 			return this;
 		}
 
+		/**
+		 * Sets the stored subtree of this package, which is materialized when
+		 * the package is first queried.
+		 *
+		 * @param stored the encoded subtree, see {@link ApiDescriptionStore}
+		 */
+		void setStoredChildren(ByteBuffer stored) {
+			fStoredChildren = stored;
+		}
+
+		/**
+		 * Returns the stored subtree of this package if it has not been
+		 * materialized yet.
+		 *
+		 * @return the encoded subtree or <code>null</code>
+		 */
+		ByteBuffer getStoredChildren() {
+			return fStoredChildren;
+		}
+
+		/**
+		 * Materializes the stored subtree of this package, if any. A subtree
+		 * that cannot be restored is dropped and rebuilt on demand.
+		 */
+		void loadChildren() {
+			if (fStoredChildren == null) {
+				return;
+			}
+			synchronized (this) {
+				ByteBuffer stored = fStoredChildren;
+				if (stored == null) {
+					return;
+				}
+				if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+					System.out.println("Loading stored children of manifest node: " + this); //$NON-NLS-1$
+				}
+				try {
+					ApiDescriptionStore.readChildren(ProjectApiDescription.this, stored.duplicate(), this);
+				} catch (CoreException e) {
+					ApiPlugin.log(e.getStatus());
+					children.clear();
+					modified();
+				}
+				fStoredChildren = null;
+			}
+		}
+
 		@Override
 		void persistXML(Document document, Element parentElement) {
 			if (hasApiVisibility(this)) {
+				loadChildren();
 				Element pkg = document.createElement(IApiXmlConstants.ELEMENT_PACKAGE);
 				for (IPackageFragment fFragment : fFragments) {
 					Element fragment = document.createElement(IApiXmlConstants.ELEMENT_PACKAGE_FRAGMENT);
@@ -338,6 +394,11 @@ public class ProjectApiDescription extends ApiDescription {
 	public synchronized void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
 		boolean completeVisit = true;
 		if (fInSynch) {
+			for (ManifestNode node : fPackageMap.values()) {
+				if (node instanceof PackageNode pkg) {
+					pkg.loadChildren();
+				}
+			}
 			super.accept(visitor, monitor);
 		} else {
 			try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
@@ -529,7 +530,9 @@ public abstract class AbstractProblemDetector implements IApiProblemDetector {
 	 * - and if yes, cancels given monitor if the API analysis runs in a job
 	 */
 	public static void checkIfDisposed(IApiComponent component, IProgressMonitor monitor) {
-		if (component != null && !monitor.isCanceled() && ApiAnalysisBuilder.isRunningAsJob()) {
+		if (component != null && !monitor.isCanceled() && (ApiAnalysisBuilder.isRunningAsJob()
+				|| ApiAnalysisBuilder.isParallelAnalysis()
+						&& Job.getJobManager().currentJob() instanceof ApiAnalysisBuilder.ApiAnalysisJob)) {
 			try {
 				if (component.isDisposed()) {
 					monitor.setCanceled(true);
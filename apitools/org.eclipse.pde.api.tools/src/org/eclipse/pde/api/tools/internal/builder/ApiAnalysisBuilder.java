@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -177,6 +178,12 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 	private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
 
+	/**
+	 * Job group bounding the number of {@link ApiAnalysisJob}s of full builds
+	 * running in parallel, see {@link #isParallelAnalysis()}
+	 */
+	private static JobGroup parallelAnalysisGroup;
+
 	/**
 	 * Bug 549838:  In case auto-building on a API tools settings change  is not desired,
 	 * specify VM property: {@code -Dorg.eclipse.disableAutoBuildOnSettingsChange=true}
@@ -187,7 +194,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * Cleans up markers associated with API Tools on the given resource.
 	 */
 	void cleanupMarkers(IResource resource) {
-		if (isRunningAsJob()) {
+		if (isDeferringMarkers()) {
 			new ApiAnalysisMarkersJob(() -> cleanupMarkersInternally(resource)).schedule();
 		} else {
 			cleanupMarkersInternally(resource);
@@ -373,10 +380,16 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			return projects;
 		}
 		boolean fullBuild = kind == FULL_BUILD;
-		if (isRunningAsJob()) {
+		// the analysis of an incremental build shares the state of this builder
+		// with a pending analysis of the project, so it runs after it
+		boolean parallel = isParallelAnalysis() && (fullBuild || hasAnalysisJob(currentproject));
+		if (parallel || isRunningAsJob()) {
 			ApiAnalysisJob job = new ApiAnalysisJob(BuilderMessages.api_analysis_builder, currentproject, fullBuild,
 					wbaseline, projects);
 			job.cancelSimilarJobs(fullBuild);
+			if (parallel) {
+				job.setJobGroup(getParallelAnalysisGroup());
+			}
 			job.schedule(100);
 			job.setPriority(Job.DECORATE);
 		} else {
@@ -591,11 +604,18 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			return super.belongsTo(family) || ApiAnalysisJob.class == family;
 		}
 
-		void cancelSimilarJobs(boolean fullBuild) {
+		/**
+		 * Cancels the other jobs of the project that are superseded by this
+		 * job: all of them for a full build, those of incremental builds
+		 * otherwise. The analysis of an incremental build does not replace a
+		 * full build, it runs after it as both use the
+		 * {@link ApiAnalysisJobRule} of the project.
+		 */
+		public void cancelSimilarJobs(boolean fullBuild) {
 			Job[] jobs = Job.getJobManager().find(ApiAnalysisJob.class);
 			for (Job job : jobs) {
 				ApiAnalysisJob ajob = (ApiAnalysisJob) job;
-				if (fullBuild == ajob.fullBuild && project.equals(ajob.project)) {
+				if (ajob != this && (fullBuild || !ajob.fullBuild) && project.equals(ajob.project)) {
 					job.cancel();
 				}
 			}
@@ -851,6 +871,63 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		return runAsJob;
 	}
 
+	/**
+	 * Returns whether the analysis of full builds runs in parallel for
+	 * independent projects. The analysis of each project is then performed by
+	 * an {@link ApiAnalysisJob} of a job group that is bounded by the number
+	 * of available processors, while the build continues with the next
+	 * project. The markers of each project are updated in a batch once its
+	 * analysis has completed. An incremental build of a project whose analysis
+	 * is still pending or running is analyzed by a job of the group as well,
+	 * after that analysis.
+	 *
+	 * @return whether the analysis of full builds runs in parallel
+	 */
+	public static boolean isParallelAnalysis() {
+		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+		return prefs.getBoolean(ICoreConstants.PARALLEL_API_ANALYSIS);
+	}
+
+	/**
+	 * Returns whether an {@link ApiAnalysisJob} of the given project is
+	 * waiting or running
+	 *
+	 * @param project the project
+	 * @return whether the analysis of the project is pending
+	 */
+	public static boolean hasAnalysisJob(IProject project) {
+		for (Job job : Job.getJobManager().find(ApiAnalysisJob.class)) {
+			if (project.equals(((ApiAnalysisJob) job).project)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether markers have to be updated by an
+	 * {@link ApiAnalysisMarkersJob} rather than directly, i.e. whether the
+	 * analysis is not running in the build
+	 */
+	private static boolean isDeferringMarkers() {
+		return isRunningAsJob() || Job.getJobManager().currentJob() instanceof ApiAnalysisJob;
+	}
+
+	private static synchronized JobGroup getParallelAnalysisGroup() {
+		if (parallelAnalysisGroup == null) {
+			parallelAnalysisGroup = new JobGroup(BuilderMessages.api_analysis_builder,
+					Runtime.getRuntime().availableProcessors(), 0) {
+				@Override
+				protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs,
+						int numberOfCanceledJobs) {
+					// a failed analysis does not affect the analysis of other projects
+					return false;
+				}
+			};
+		}
+		return parallelAnalysisGroup;
+	}
+
 	/**
 	 * if its worth doing a full build considering the given set if projects
 	 *
@@ -970,7 +1047,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	protected void createMarkers() {
 		IApiProblem[] problems = getAnalyzer().getProblems();
-		if (isRunningAsJob()) {
+		if (isDeferringMarkers()) {
 			new ApiAnalysisMarkersJob(() -> createMarkersInternally(problems)).schedule();
 		} else {
 			createMarkersInternally(problems);
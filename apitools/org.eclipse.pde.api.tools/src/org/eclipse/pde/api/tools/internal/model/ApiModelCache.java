@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2019 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,58 +13,134 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.jdt.internal.core.util.LRUCache;
-import org.eclipse.pde.api.tools.internal.SynchronizedOverflowingLRUCache;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
 
 /**
  * Manages the caches of {@link IApiElement}s
+ * <p>
+ * The cache is bounded by an estimate of the memory used by the cached
+ * elements rather than by a number of elements. The budget can be configured
+ * with the {@link IApiCoreConstants#API_MODEL_CACHE_SIZE} preference. Lookups
+ * do not lock; when the budget is exceeded the least recently used elements
+ * are evicted in one batch. Hit, miss and eviction counts are available from
+ * {@link #getStatistics()} and are traced with the
+ * <code>org.eclipse.pde.api.tools/debug/modelcache</code> debug option.
+ * </p>
  *
  * @since 1.0.2
  */
 public final class ApiModelCache {
 
 	/**
-	 * Cache used for {@link IApiElement}s
+	 * Key of a cached type
 	 */
-	static class Cache<K, V> extends SynchronizedOverflowingLRUCache<K, V> {
+	record TypeKey(String baseline, String component, String typename) {
+	}
 
+	/**
+	 * A cached element along with its estimated size and last access time
+	 */
+	static final class Entry {
+		final TypeKey key;
 		/**
-		 * Constructor
+		 * The key of the root type for member types, <code>null</code> for
+		 * root types
 		 */
-		public Cache(int size, int overflow) {
-			super(size, overflow);
-		}
+		final TypeKey rootKey;
+		final IApiElement element;
+		final long size;
+		volatile long lastAccess;
 
-		@Override
-		protected boolean close(LRUCacheEntry<K, V> entry) {
-			return true;
+		Entry(TypeKey key, TypeKey rootKey, IApiElement element, long size, long lastAccess) {
+			this.key = key;
+			this.rootKey = rootKey;
+			this.element = element;
+			this.size = size;
+			this.lastAccess = lastAccess;
 		}
-
-		@Override
-		protected LRUCache<K, V> newInstance(int size, int newOverflow) {
-			return new Cache<>(size, newOverflow);
-		}
-
 	}
 
-	static final int DEFAULT_CACHE_SIZE = 1000;
-	static final int DEFAULT_OVERFLOW = (int) (DEFAULT_CACHE_SIZE * 0.1f);
+	/**
+	 * Estimated fixed overhead of a cached type, including its handle and
+	 * cache entry
+	 */
+	static final long TYPE_OVERHEAD = 320;
+	/**
+	 * Estimated fixed overhead of a method or field of a cached type
+	 */
+	static final long MEMBER_OVERHEAD = 120;
+	/**
+	 * Fraction of the budget the cache is trimmed to when it overflows
+	 */
+	static final float TRIM_RATIO = 0.75f;
+	/**
+	 * Fraction of the maximum heap used when no budget is configured
+	 */
+	static final int DEFAULT_HEAP_FRACTION = 8;
+
 	static ApiModelCache fInstance = null;
 
-	Cache<String, Cache<String, Cache<String, IApiElement>>> fRootCache;
-	Cache<String, Cache<String, ApiType>> fMemberTypeCache;
+	/**
+	 * Root types
+	 */
+	final Map<TypeKey, Entry> fTypes = new ConcurrentHashMap<>();
+	/**
+	 * Member types (and root types with a '$' in their name) grouped by the key
+	 * of their root type. Groups are only modified inside
+	 * {@link ConcurrentHashMap#compute} calls so that removing a group cannot
+	 * lose a concurrently added member.
+	 */
+	final Map<TypeKey, Map<String, Entry>> fMemberTypes = new ConcurrentHashMap<>();
+	/**
+	 * Names of the baselines that had elements cached
+	 */
+	final Set<String> fBaselines = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong fSize = new AtomicLong();
+	/**
+	 * Logical clock used to order accesses for eviction
+	 */
+	private final AtomicLong fClock = new AtomicLong();
+	private final ReentrantLock fEvictionLock = new ReentrantLock();
+	private volatile long fBudget;
+
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
 
 	/**
 	 * Constructor - no instantiation
 	 */
 	private ApiModelCache() {
+		fBudget = computeBudget();
+		if (ApiPlugin.isRunningInFramework()) {
+			InstanceScope.INSTANCE.getNode(ApiPlugin.PLUGIN_ID).addPreferenceChangeListener(event -> {
+				if (IApiCoreConstants.API_MODEL_CACHE_SIZE.equals(event.getKey())) {
+					setMemoryBudget(computeBudget());
+				}
+			});
+		}
 	}
 
 	/**
@@ -80,15 +156,98 @@ public final class ApiModelCache {
 	}
 
 	/**
-	 * Returns the key to use in a cache. The key is of the form:
-	 * <code>[baselineid].[componentid].[typename]</code><br>
+	 * Computes the memory budget from the preferences, using a fraction of the
+	 * maximum heap if no budget is configured
+	 *
+	 * @return the budget in bytes
+	 */
+	private static long computeBudget() {
+		long megabytes = 0;
+		if (ApiPlugin.isRunningInFramework()) {
+			IEclipsePreferences node = InstanceScope.INSTANCE.getNode(ApiPlugin.PLUGIN_ID);
+			megabytes = node.getLong(IApiCoreConstants.API_MODEL_CACHE_SIZE, 0);
+		}
+		if (megabytes > 0) {
+			return megabytes * 1024 * 1024;
+		}
+		return Runtime.getRuntime().maxMemory() / DEFAULT_HEAP_FRACTION;
+	}
+
+	/**
+	 * Sets the estimated number of bytes the cached elements may use, evicting
+	 * elements if the cache is now over budget
+	 *
+	 * @param bytes the new budget
+	 */
+	public void setMemoryBudget(long bytes) {
+		fBudget = Math.max(0, bytes);
+		evictIfNeeded();
+	}
+
+	/**
+	 * Returns the estimated number of bytes the cached elements may use
+	 *
+	 * @return the budget in bytes
+	 */
+	public long getMemoryBudget() {
+		return fBudget;
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by the cached elements
+	 *
+	 * @return the estimated size in bytes
+	 */
+	public long getEstimatedSize() {
+		return fSize.get();
+	}
+
+	/**
+	 * Returns a description of the cache usage: size, budget, hits, misses and
+	 * evictions since the cache was created
+	 *
+	 * @return the cache statistics
+	 */
+	public String getStatistics() {
+		int members = 0;
+		for (Map<String, Entry> group : fMemberTypes.values()) {
+			members += group.size();
+		}
+		return "API model cache: " + fTypes.size() + " types, " + members + " member types, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ (fSize.get() / 1024) + "/" + (fBudget / 1024) + " KB, " //$NON-NLS-1$ //$NON-NLS-2$
+				+ fHits.sum() + " hits, " + fMisses.sum() + " misses, " + fEvictions.sum() + " evictions"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Returns the estimated memory used by the given element
 	 *
-	 * @return the member type cache key to use
+	 * @return the estimated size in bytes
 	 */
-	private String getCacheKey(String baseline, String component, String typename) {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(baseline).append('.').append(component).append('.').append(typename);
-		return buffer.toString();
+	static long estimateSize(IApiElement element) {
+		long size = TYPE_OVERHEAD + sizeOf(element.getName());
+		if (element instanceof ApiType type) {
+			for (IApiMethod method : type.getMethods()) {
+				size += estimateSize(method);
+				String[] exceptions = method.getExceptionNames();
+				if (exceptions != null) {
+					for (String exception : exceptions) {
+						size += sizeOf(exception);
+					}
+				}
+			}
+			for (IApiField field : type.getFields()) {
+				size += estimateSize(field);
+			}
+		}
+		return size;
+	}
+
+	private static long estimateSize(IApiMember member) {
+		return MEMBER_OVERHEAD + sizeOf(member.getName()) + sizeOf(member.getSignature()) + sizeOf(member.getGenericSignature());
+	}
+
+	private static long sizeOf(String value) {
+		return value == null ? 0 : 40 + value.length();
 	}
 
 	/**
@@ -103,9 +262,6 @@ public final class ApiModelCache {
 	public void cacheElementInfo(IApiElement element) throws CoreException {
 		switch (element.getType()) {
 			case IApiElement.TYPE: {
-				if (fRootCache == null) {
-					fRootCache = new Cache<>(DEFAULT_CACHE_SIZE / 150, DEFAULT_OVERFLOW / 150);
-				}
 				IApiComponent comp = element.getApiComponent();
 				if (comp != null) {
 					IApiBaseline baseline = comp.getBaseline();
@@ -113,46 +269,25 @@ public final class ApiModelCache {
 					if (id == null) {
 						return;
 					}
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baseline.getName());
-					if (compcache == null) {
-						compcache = new Cache<>(DEFAULT_CACHE_SIZE / 2, DEFAULT_OVERFLOW / 2);
-						fRootCache.put(baseline.getName(), compcache);
-					}
-					Cache<String, IApiElement> typecache = compcache.get(id);
-					if (typecache == null) {
-						typecache = new Cache<>(DEFAULT_CACHE_SIZE * 2, DEFAULT_OVERFLOW);
-						compcache.put(comp.getSymbolicName(), typecache);
-					}
+					fBaselines.add(baseline.getName());
 					ApiType type = (ApiType) element;
-					if (type.isMemberType() || isMemberType(type.getName()) /*
-																			 * cache
-																			 * even
-																			 * a
-																			 * root
-																			 * type
-																			 * with
-																			 * a
-																			 * '$'
-																			 * in
-																			 * its
-																			 * name
-																			 * here
-																			 * as
-																			 * well
-																			 */) {
-						if (this.fMemberTypeCache == null) {
-							this.fMemberTypeCache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-						}
-						String key = getCacheKey(baseline.getName(), id, getRootName(type.getName()));
-						Cache<String, ApiType> mcache = this.fMemberTypeCache.get(key);
-						if (mcache == null) {
-							mcache = new Cache<>(DEFAULT_CACHE_SIZE, DEFAULT_OVERFLOW);
-							this.fMemberTypeCache.put(key, mcache);
-						}
-						mcache.put(type.getName(), type);
+					TypeKey key = new TypeKey(baseline.getName(), id, type.getName());
+					// cache even a root type with a '$' in its name here as well
+					if (type.isMemberType() || isMemberType(type.getName())) {
+						TypeKey rootKey = new TypeKey(baseline.getName(), id, getRootName(type.getName()));
+						Entry entry = new Entry(key, rootKey, element, estimateSize(element), fClock.incrementAndGet());
+						fMemberTypes.compute(rootKey, (k, group) -> {
+							Map<String, Entry> members = group == null ? new ConcurrentHashMap<>() : group;
+							Entry old = members.put(type.getName(), entry);
+							fSize.addAndGet(entry.size - (old == null ? 0 : old.size));
+							return members;
+						});
 					} else {
-						typecache.put(element.getName(), element);
+						Entry entry = new Entry(key, null, element, estimateSize(element), fClock.incrementAndGet());
+						Entry old = fTypes.put(key, entry);
+						fSize.addAndGet(entry.size - (old == null ? 0 : old.size));
 					}
+					evictIfNeeded();
 				}
 				break;
 			}
@@ -203,68 +338,48 @@ public final class ApiModelCache {
 		if (baselineid == null || componentid == null) {
 			return null;
 		}
-		switch (type) {
-			case IApiElement.TYPE: {
-				if (isMemberType(identifier)) {
-					if (this.fMemberTypeCache != null) {
-						Cache<String, ApiType> mcache = this.fMemberTypeCache
-								.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						if (mcache != null) {
-							return mcache.get(identifier);
-						}
-					}
-				} else {
-					if (this.fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null && identifier != null) {
-								IApiElement ele = typecache.get(identifier);
-								if (ele != null) {
-									return ele;
-								}
-
-							}
-						}
-					}
-				}
-				break;
-			}
-			default:
-				break;
+		if (type == IApiElement.TYPE && identifier != null) {
+			Entry entry = getEntry(baselineid, componentid, identifier);
+			if (entry == null && componentid.startsWith("JavaSE-")) { //$NON-NLS-1$
+				// for system component, retrieve element from any baseline
+				// instead of recreating the structure and caching the
+				// equivalent element info
+				entry = getEntryFromAnyBaseline(baselineid, componentid, identifier);
 			}
-		if (componentid.startsWith("JavaSE-") && this.fRootCache != null) { //$NON-NLS-1$
-			// for system component, retrieve element from any baseline instead
-			// of recreating the structure and caching the equivalent element info
-			IApiElement element = getElementInfoFromAnyBaseline(baselineid, componentid, identifier);
-			if (element != null) {
-				return element;
+			if (entry != null) {
+				entry.lastAccess = fClock.incrementAndGet();
+				fHits.increment();
+				return entry.element;
 			}
 		}
+		fMisses.increment();
 		return null;
 	}
 
-	private IApiElement getElementInfoFromAnyBaseline(String baselineid, String componentid, String updatedIdentifier) {
-		List<String> elements = fRootCache.keysSnapshot();
-		for (String otherBaselines : elements) {
-				if (otherBaselines.equals(baselineid)) {
-					continue;
-				}
-				Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(otherBaselines);
-				if (compcache != null) {
-					Cache<String, IApiElement> typecache = compcache.get(componentid);
-					if (typecache != null && updatedIdentifier != null) {
-						IApiElement ele = typecache.get(updatedIdentifier);
-						if (ele != null) {
-							return ele;
-						}
-					}
-				}
+	private Entry getEntry(String baselineid, String componentid, String identifier) {
+		if (isMemberType(identifier)) {
+			Map<String, Entry> group = fMemberTypes.get(new TypeKey(baselineid, componentid, getRootName(identifier)));
+			return group != null ? group.get(identifier) : null;
+		}
+		return fTypes.get(new TypeKey(baselineid, componentid, identifier));
+	}
+
+	private Entry getEntryFromAnyBaseline(String baselineid, String componentid, String identifier) {
+		if (isMemberType(identifier)) {
+			return null;
+		}
+		for (String otherBaseline : fBaselines) {
+			if (otherBaseline.equals(baselineid)) {
+				continue;
 			}
+			Entry entry = fTypes.get(new TypeKey(otherBaseline, componentid, identifier));
+			if (entry != null) {
+				return entry;
+			}
+		}
 		return null;
 	}
 
-
 	/**
 	 * Removes the {@link IApiElement} from the given component (given its id)
 	 * with the given identifier and of the given type.
@@ -282,60 +397,27 @@ public final class ApiModelCache {
 		switch (type) {
 			case IApiElement.TYPE: {
 				if (componentid != null && identifier != null) {
-					boolean removed = true;
-					// clean member type cache
-					if (this.fMemberTypeCache != null) {
-						if (isMemberType(identifier)) {
-							Cache<String, ApiType> mcache = this.fMemberTypeCache.get(getCacheKey(baselineid, componentid, getRootName(identifier)));
-							if (mcache != null) {
-								return mcache.remove(identifier) != null;
-							}
-						} else {
-							this.fMemberTypeCache.remove(getCacheKey(baselineid, componentid, getRootName(identifier)));
-						}
-					}
-					if (fRootCache != null) {
-						Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-						if (compcache != null) {
-							Cache<String, IApiElement> typecache = compcache.get(componentid);
-							if (typecache != null) {
-								removed &= typecache.remove(identifier) != null;
-								if (typecache.isEmpty()) {
-									removed &= compcache.remove(componentid) != null;
-								}
-								if (compcache.isEmpty()) {
-									removed &= fRootCache.remove(baselineid) != null;
-								}
-								return removed;
-							}
-
-						}
-					} else {
-						return false;
+					TypeKey rootKey = new TypeKey(baselineid, componentid, getRootName(identifier));
+					if (isMemberType(identifier)) {
+						Entry entry = getEntry(baselineid, componentid, identifier);
+						return entry != null && removeEntry(entry);
 					}
+					// removing a root type drops all of its member types
+					removeMemberGroup(rootKey);
+					Entry entry = fTypes.get(rootKey);
+					return entry != null && removeEntry(entry);
 				}
 				break;
 			}
 			case IApiElement.COMPONENT: {
-				flushMemberCache();
-				if (fRootCache != null && componentid != null) {
-					Cache<String, Cache<String, IApiElement>> compcache = fRootCache.get(baselineid);
-					if (compcache != null) {
-						boolean removed = compcache.remove(componentid) != null;
-						if (compcache.isEmpty()) {
-							removed &= fRootCache.remove(baselineid) != null;
-						}
-						return removed;
-					}
+				if (componentid != null) {
+					return removeAll(key -> key.baseline().equals(baselineid) && key.component().equals(componentid));
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					return fRootCache.remove(baselineid) != null;
-				}
-				break;
+				fBaselines.remove(baselineid);
+				return removeAll(key -> key.baseline().equals(baselineid));
 			}
 			default:
 				break;
@@ -356,26 +438,20 @@ public final class ApiModelCache {
 		switch (element.getType()) {
 			case IApiElement.COMPONENT:
 			case IApiElement.TYPE: {
-				if (fRootCache != null) {
-					IApiComponent comp = element.getApiComponent();
-					if (comp != null) {
-						try {
-							IApiBaseline baseline = comp.getBaseline();
-							return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
-						} catch (CoreException ce) {
-							ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
-						}
+				IApiComponent comp = element.getApiComponent();
+				if (comp != null) {
+					try {
+						IApiBaseline baseline = comp.getBaseline();
+						return removeElementInfo(baseline.getName(), comp.getSymbolicName(), element.getName(), element.getType());
+					} catch (CoreException ce) {
+						ApiPlugin.log("Failed to remove element info for " + comp.getName(), ce); //$NON-NLS-1$
 					}
 				}
 				break;
 			}
 			case IApiElement.BASELINE: {
-				flushMemberCache();
-				if (fRootCache != null) {
-					IApiBaseline baseline = (IApiBaseline) element;
-					return fRootCache.remove(baseline.getName()) != null;
-				}
-				break;
+				IApiBaseline baseline = (IApiBaseline) element;
+				return removeElementInfo(baseline.getName(), null, null, IApiElement.BASELINE);
 			}
 			default:
 				break;
@@ -384,21 +460,104 @@ public final class ApiModelCache {
 	}
 
 	/**
-	 * Clears out all cached information.
+	 * Removes the given entry if it is still cached
+	 *
+	 * @return true if the entry was removed
 	 */
-	public void flushCaches() {
-		if (fRootCache != null) {
-			fRootCache.flush();
+	private boolean removeEntry(Entry entry) {
+		if (entry.rootKey == null) {
+			if (fTypes.remove(entry.key, entry)) {
+				fSize.addAndGet(-entry.size);
+				return true;
+			}
+			return false;
 		}
-		flushMemberCache();
+		boolean[] removed = new boolean[1];
+		fMemberTypes.computeIfPresent(entry.rootKey, (k, group) -> {
+			if (group.remove(entry.key.typename(), entry)) {
+				fSize.addAndGet(-entry.size);
+				removed[0] = true;
+			}
+			return group.isEmpty() ? null : group;
+		});
+		return removed[0];
 	}
 
 	/**
-	 * Flushes the cache of member types
+	 * Removes all member types of the given root type
+	 *
+	 * @return true if any member type was removed
 	 */
-	private void flushMemberCache() {
-		if (this.fMemberTypeCache != null) {
-			this.fMemberTypeCache.flush();
+	private boolean removeMemberGroup(TypeKey rootKey) {
+		Map<String, Entry> group = fMemberTypes.remove(rootKey);
+		if (group == null) {
+			return false;
+		}
+		for (Entry entry : group.values()) {
+			fSize.addAndGet(-entry.size);
+		}
+		return true;
+	}
+
+	/**
+	 * Removes all types whose key matches the given filter
+	 *
+	 * @return true if any type was removed
+	 */
+	private boolean removeAll(Predicate<TypeKey> filter) {
+		boolean removed = false;
+		for (TypeKey rootKey : fMemberTypes.keySet()) {
+			if (filter.test(rootKey)) {
+				removed |= removeMemberGroup(rootKey);
+			}
+		}
+		for (Entry entry : fTypes.values()) {
+			if (filter.test(entry.key)) {
+				removed |= removeEntry(entry);
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Evicts the least recently used elements if the cache is over budget. Only
+	 * one thread evicts at a time, other threads continue without waiting.
+	 */
+	private void evictIfNeeded() {
+		if (fSize.get() <= fBudget || !fEvictionLock.tryLock()) {
+			return;
+		}
+		try {
+			long target = (long) (fBudget * TRIM_RATIO);
+			List<Entry> entries = new ArrayList<>(fTypes.values());
+			for (Map<String, Entry> group : fMemberTypes.values()) {
+				entries.addAll(group.values());
+			}
+			entries.sort(Comparator.comparingLong(entry -> entry.lastAccess));
+			for (Entry entry : entries) {
+				if (fSize.get() <= target) {
+					break;
+				}
+				if (removeEntry(entry)) {
+					fEvictions.increment();
+				}
+			}
+			if (ApiPlugin.DEBUG_MODEL_CACHE) {
+				System.out.println(getStatistics());
+			}
+		} finally {
+			fEvictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Clears out all cached information.
+	 */
+	public void flushCaches() {
+		removeAll(key -> true);
+		fBaselines.clear();
+		if (ApiPlugin.DEBUG_MODEL_CACHE) {
+			System.out.println(getStatistics());
 		}
 	}
 
@@ -408,13 +567,6 @@ public final class ApiModelCache {
 	 * @return true if the cache has no entries, false otherwise
 	 */
 	public boolean isEmpty() {
-		boolean empty = true;
-		if (fRootCache != null) {
-			empty &= fRootCache.isEmpty();
-		}
-		if (this.fMemberTypeCache != null) {
-			empty &= this.fMemberTypeCache.isEmpty();
-		}
-		return empty;
+		return fTypes.isEmpty() && fMemberTypes.isEmpty();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,12 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * Whether the packages of the archive are stored in the
+	 * {@link ArchivePackageIndex}
+	 */
+	private final boolean fIndexed;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -126,8 +132,23 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 * @param path   location of the file in the local file system
 	 */
 	public ArchiveApiTypeContainer(IApiElement parent, String path) {
+		this(parent, path, true);
+	}
+
+	/**
+	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
+	 * file at the specified location.
+	 *
+	 * @param parent  the parent {@link IApiElement} or <code>null</code> if none
+	 * @param path    location of the file in the local file system
+	 * @param indexed whether the packages of the archive are stored in the
+	 *                {@link ArchivePackageIndex}, which is pointless for
+	 *                temporary archives
+	 */
+	ArchiveApiTypeContainer(IApiElement parent, String path, boolean indexed) {
 		super(parent, IApiElement.API_TYPE_CONTAINER, path);
 		this.fLocation = path;
+		this.fIndexed = indexed;
 	}
 
 	/**
@@ -220,10 +241,21 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	}
 
 	/**
-	 * Initializes cache of packages and types.
+	 * Initializes cache of packages and types, from the persistent
+	 * {@link ArchivePackageIndex} if the archive has not changed since it was
+	 * indexed.
 	 */
+	@SuppressWarnings("restriction")
 	private synchronized void init() throws CoreException {
 		if (fPackages == null) {
+			boolean isJrtImage = fLocation.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR);
+			boolean indexed = fIndexed && !isJrtImage;
+			if (indexed) {
+				fPackages = ArchivePackageIndex.read(fLocation);
+				if (fPackages != null) {
+					return;
+				}
+			}
 			fPackages = new TreeMap<>();
 			try {
 				Path location = getLocation();
@@ -245,6 +277,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			} catch (IOException e) {
 				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 			}
+			if (indexed) {
+				ArchivePackageIndex.write(fLocation, fPackages);
+			}
 		}
 	}
 
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Persistent index of the package tables of {@link ArchiveApiTypeContainer}s,
+ * stored in the state location of the API tools plug-in.
+ * <p>
+ * Each archive is indexed in its own file, which records the path, size and
+ * modification time of the archive together with the class file entries of
+ * each package. An index file is only used if the format version and all of
+ * the recorded archive attributes still match, so that baselines loaded after
+ * a restart do not need to open and enumerate every archive again.
+ * </p>
+ * <p>
+ * Index files are touched whenever they are used. Once per session, the index
+ * files that were not used for {@link #UNUSED_INDEX_FILE_AGE} are deleted, like
+ * those of removed or updated archives.
+ * </p>
+ * <p>
+ * The index is only available when running in the framework; otherwise
+ * {@link #read(String)} always answers <code>null</code> and
+ * {@link #write(String, Map)} does nothing.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+public final class ArchivePackageIndex {
+
+	/**
+	 * Version of the index file format, must be incremented whenever the
+	 * format changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Magic number of index files: 'APIX'
+	 */
+	private static final int MAGIC = 0x41504958;
+
+	/**
+	 * Name of the folder in the state location holding the index files
+	 */
+	private static final String INDEX_FOLDER = ".archive_index"; //$NON-NLS-1$
+
+	/**
+	 * Time after which an index file that was not used is deleted
+	 */
+	private static final long UNUSED_INDEX_FILE_AGE = TimeUnit.DAYS.toMillis(30);
+
+	private static final AtomicBoolean UNUSED_INDEX_FILES_DELETED = new AtomicBoolean();
+
+	private ArchivePackageIndex() {
+	}
+
+	/**
+	 * Returns the indexed package table of the archive at the given location, or
+	 * <code>null</code> if there is no index for the archive or the archive has
+	 * changed since it was indexed.
+	 *
+	 * @param location the absolute path of the archive
+	 * @return the map of package names to a map of class names to class file
+	 *         entry names, or <code>null</code>
+	 */
+	public static Map<String, Map<String, String>> read(String location) {
+		Path indexFile = getIndexFile(location);
+		if (indexFile == null || !Files.isRegularFile(indexFile)) {
+			return null;
+		}
+		try {
+			// the file is small, it is read at once rather than mapped, as a
+			// mapped file can not be replaced on Windows until it is unmapped
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				return null;
+			}
+			BasicFileAttributes attributes = Files.readAttributes(Path.of(location), BasicFileAttributes.class);
+			if (!location.equals(readString(buffer)) || buffer.getLong() != attributes.size()
+					|| buffer.getLong() != attributes.lastModifiedTime().toMillis()) {
+				return null;
+			}
+			Map<String, Map<String, String>> packages = new TreeMap<>();
+			int packageCount = buffer.getInt();
+			for (int i = 0; i < packageCount; i++) {
+				String pkg = readString(buffer);
+				Map<String, String> fileNames = new TreeMap<>();
+				int classCount = buffer.getInt();
+				for (int j = 0; j < classCount; j++) {
+					String name = readString(buffer);
+					fileNames.put(getClassName(name), name);
+				}
+				packages.put(pkg, fileNames);
+			}
+			Files.setLastModifiedTime(indexFile, FileTime.fromMillis(System.currentTimeMillis()));
+			return packages;
+		} catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+			// corrupt or outdated, the archive will be indexed again
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the package table of the archive at the given location. Failures
+	 * are logged and otherwise ignored, the archive will simply be enumerated
+	 * again the next time.
+	 *
+	 * @param location the absolute path of the archive
+	 * @param packages the map of package names to a map of class names to class
+	 *            file entry names
+	 */
+	public static void write(String location, Map<String, Map<String, String>> packages) {
+		Path indexFile = getIndexFile(location);
+		if (indexFile == null) {
+			return;
+		}
+		Path tempFile = null;
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(Path.of(location), BasicFileAttributes.class);
+			Files.createDirectories(indexFile.getParent());
+			tempFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				writeString(out, location);
+				out.writeLong(attributes.size());
+				out.writeLong(attributes.lastModifiedTime().toMillis());
+				out.writeInt(packages.size());
+				for (Map.Entry<String, Map<String, String>> entry : packages.entrySet()) {
+					writeString(out, entry.getKey());
+					Map<String, String> fileNames = entry.getValue();
+					out.writeInt(fileNames.size());
+					for (String name : fileNames.values()) {
+						writeString(out, name);
+					}
+				}
+			}
+			Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			tempFile = null;
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to write package index of " + location, e); //$NON-NLS-1$
+		} finally {
+			if (tempFile != null) {
+				try {
+					Files.deleteIfExists(tempFile);
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the fully qualified class name for the given class file entry
+	 * name
+	 */
+	static String getClassName(String entryName) {
+		return entryName.substring(0, entryName.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+	}
+
+	/**
+	 * Returns the index file for the archive at the given location or
+	 * <code>null</code> if the index is not available
+	 */
+	private static Path getIndexFile(String location) {
+		ApiPlugin plugin = ApiPlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		Path folder = plugin.getStateLocation().append(INDEX_FOLDER).toPath();
+		if (UNUSED_INDEX_FILES_DELETED.compareAndSet(false, true)) {
+			deleteUnusedIndexFiles(folder);
+		}
+		String name = UUID.nameUUIDFromBytes(location.getBytes(StandardCharsets.UTF_8)).toString();
+		return folder.resolve(name);
+	}
+
+	/**
+	 * Deletes the index files in the given folder that were not used for
+	 * {@link #UNUSED_INDEX_FILE_AGE}, and the leftovers of interrupted writes.
+	 */
+	private static void deleteUnusedIndexFiles(Path folder) {
+		if (!Files.isDirectory(folder)) {
+			return;
+		}
+		long oldest = System.currentTimeMillis() - UNUSED_INDEX_FILE_AGE;
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+			for (Path file : files) {
+				if (Files.getLastModifiedTime(file).toMillis() < oldest) {
+					Files.deleteIfExists(file);
+				}
+			}
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to delete unused package indexes", e); //$NON-NLS-1$
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException();
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
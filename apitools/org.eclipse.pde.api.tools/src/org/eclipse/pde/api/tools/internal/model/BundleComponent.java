@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -696,7 +696,8 @@ public class BundleComponent extends Component {
 									// the other one and thus a difference cannot be found.
 									Path dir = Util.createTempDirectory(TMP_API_FILE_PREFIX).toRealPath();
 									Path file = extractEntry(zip, entry, dir);
-									return new ArchiveApiTypeContainer(this, file.toRealPath().toString());
+									// extracted again to a new directory the next time, so not indexed
+									return new ArchiveApiTypeContainer(this, file.toRealPath().toString(), false);
 								}
 							}
 						}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,23 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ObjLongConsumer;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
@@ -99,6 +110,40 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, 1, null, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference.
+	 * <p>
+	 * With more than one thread, the pairs of API components are compared
+	 * concurrently, each pair being compared entirely on one thread. The deltas
+	 * of the pairs are added to the returned delta on the calling thread in the
+	 * order of the components of the reference baseline, so the returned delta
+	 * does not depend on the number of threads.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param threads the number of threads used to compare the API components,
+	 *            values less than <code>1</code> are treated as <code>1</code>
+	 * @param timings if not <code>null</code>, notified on the calling thread
+	 *            with the symbolic name of each compared API component and the
+	 *            time in milliseconds its comparison took
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 * @since 1.3.600
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int threads, final ObjLongConsumer<String> timings, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -106,44 +151,25 @@ public class ApiComparator {
 		IApiComponent[] apiComponents = referenceBaseline.getApiComponents();
 		IApiComponent[] apiComponents2 = baseline.getApiComponents();
 		Set<String> apiComponentsIds = new HashSet<>();
-		final Delta globalDelta = new Delta();
-		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
+		List<ComponentComparison> comparisons = new ArrayList<>(apiComponents.length);
+		for (IApiComponent apiComponent : apiComponents) {
 			if (!apiComponent.isSystemComponent()) {
 				String id = apiComponent.getSymbolicName();
 				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
+				if (apiComponentBaseline != null) {
 					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
-					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
-						}
-					}
-				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
 				}
+				comparisons.add(new ComponentComparison(apiComponent, apiComponentBaseline));
+			}
+		}
+		final Delta globalDelta = new Delta();
+		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(comparisons.size());
+		if (threads > 1 && comparisons.size() > 1) {
+			compareParallel(comparisons, referenceBaseline, baseline, visibilityModifiers, force, threads, timings, globalDelta, apiLoopMonitor);
+		} else {
+			for (ComponentComparison comparison : comparisons) {
+				comparison.compare(referenceBaseline, baseline, visibilityModifiers, force, apiLoopMonitor.split(1));
+				comparison.addTo(globalDelta, timings);
 			}
 		}
 		SubMonitor elementLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents2.length);
@@ -162,6 +188,137 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * The comparison of an API component of the reference baseline with the API
+	 * component of the same name in the other baseline, holding its results
+	 * until they are added to the global delta
+	 */
+	private static final class ComponentComparison {
+		final IApiComponent component;
+		final IApiComponent componentBaseline;
+		IDelta versionDelta;
+		IDelta delta;
+		long time = -1;
+
+		ComponentComparison(IApiComponent component, IApiComponent componentBaseline) {
+			this.component = component;
+			this.componentBaseline = componentBaseline;
+		}
+
+		void compare(IApiBaseline referenceBaseline, IApiBaseline baseline, int visibilityModifiers, boolean force, IProgressMonitor monitor) {
+			String id = component.getSymbolicName();
+			if (componentBaseline == null) {
+				// report removal of an API component
+				delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT, null,
+						id, id);
+				return;
+			}
+			String versionString = component.getVersion();
+			String versionString2 = componentBaseline.getVersion();
+			versionDelta = checkBundleVersionChanges(componentBaseline, id, versionString, versionString2);
+			if (!versionString.equals(versionString2) || force) {
+				long start = System.currentTimeMillis();
+				try {
+					delta = ApiComparator.compare(component, componentBaseline, referenceBaseline, baseline,
+							visibilityModifiers, monitor);
+				} finally {
+					time = System.currentTimeMillis() - start;
+					if (ApiPlugin.DEBUG_API_COMPARATOR) {
+						System.out.println("Time spent for " + id + " " + versionString + " : " + time + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					}
+				}
+			}
+		}
+
+		void addTo(Delta globalDelta, ObjLongConsumer<String> timings) {
+			if (versionDelta != null) {
+				globalDelta.add(versionDelta);
+			}
+			if (delta != null && delta != NO_DELTA) {
+				globalDelta.add(delta);
+			}
+			if (timings != null && time >= 0) {
+				timings.accept(component.getSymbolicName(), time);
+			}
+		}
+	}
+
+	/**
+	 * Runs the given comparisons concurrently on a bounded pool of threads and
+	 * adds their results to the global delta on the calling thread, in the
+	 * order of the given list.
+	 */
+	private static void compareParallel(List<ComponentComparison> comparisons, IApiBaseline referenceBaseline, IApiBaseline baseline, int visibilityModifiers, boolean force, int threads, ObjLongConsumer<String> timings, Delta globalDelta, SubMonitor monitor) {
+		ExecutorService executor = newExecutor(Math.min(threads, comparisons.size()));
+		// shared by all workers, canceled from the calling thread
+		NullProgressMonitor workermonitor = new NullProgressMonitor();
+		try {
+			List<Future<?>> futures = new ArrayList<>(comparisons.size());
+			for (ComponentComparison comparison : comparisons) {
+				futures.add(executor.submit(() -> {
+					if (!workermonitor.isCanceled()) {
+						comparison.compare(referenceBaseline, baseline, visibilityModifiers, force, workermonitor);
+					}
+				}));
+			}
+			for (int i = 0; i < comparisons.size(); i++) {
+				ComponentComparison comparison = comparisons.get(i);
+				monitor.subTask(comparison.component.getSymbolicName());
+				awaitComparison(futures.get(i), monitor, workermonitor);
+				comparison.addTo(globalDelta, timings);
+				monitor.split(1);
+			}
+		} finally {
+			workermonitor.setCanceled(true);
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns a pool of the given number of daemon threads to compare API
+	 * components
+	 */
+	static ExecutorService newExecutor(int threads) {
+		return Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "API Comparator"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Waits for the given comparison to complete and returns its result,
+	 * rethrowing any runtime exception or error it failed with
+	 *
+	 * @throws OperationCanceledException if the monitor is canceled while
+	 *             waiting
+	 */
+	static <T> T awaitComparison(Future<T> future, IProgressMonitor monitor, IProgressMonitor workermonitor) {
+		while (true) {
+			if (monitor.isCanceled()) {
+				workermonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// poll the monitor again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				workermonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException re) {
+					throw re;
+				} else if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -529,6 +686,41 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the given scope
+	 * with the given API baseline.
+	 * <p>
+	 * With more than one thread, the API components of the scope are compared
+	 * concurrently, as are the API components of the API baselines of the
+	 * scope, see
+	 * {@link #compare(IApiBaseline, IApiBaseline, int, boolean, int, ObjLongConsumer, IProgressMonitor)}.
+	 * The returned delta does not depend on the number of threads.
+	 * </p>
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param threads the number of threads used to compare the API components,
+	 *            values less than <code>1</code> are treated as <code>1</code>
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 * @since 1.3.600
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int threads, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
@@ -536,8 +728,13 @@ public class ApiComparator {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		final Set<IDelta> deltas = new HashSet<>();
 		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
-				continueOnResolverError, localmonitor.split(1));
-		scope.accept(visitor);
+				continueOnResolverError, threads, localmonitor.split(1));
+		try {
+			scope.accept(visitor);
+			visitor.awaitComparisons();
+		} finally {
+			visitor.cancelComparisons();
+		}
 
 		// If set to continue on error, return whatever deltas were
 		// collected
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,16 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.builder.AbstractProblemDetector;
 import org.eclipse.pde.api.tools.internal.comparator.Delta;
@@ -30,6 +37,11 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 /**
  * ApiScope visitor implementation to run the comparison on all elements of the
  * scope.
+ * <p>
+ * With more than one thread, the API components of the scope are compared
+ * concurrently, and their deltas are only added once
+ * {@link #awaitComparisons()} is called after the scope was visited.
+ * </p>
  */
 public class CompareApiScopeVisitor extends ApiScopeVisitor {
 
@@ -40,29 +52,37 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	boolean continueOnResolverError = false;
 	boolean containsErrors = false;
 	SubMonitor monitor;
+	int threads;
+	ExecutorService executor;
+	final List<Future<List<IDelta>>> comparisons = new ArrayList<>();
+	// shared by all workers, canceled from the calling thread
+	final NullProgressMonitor workermonitor = new NullProgressMonitor();
 
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
+		this(deltas, baseline, force, visibilityModifiers, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * @param threads the number of threads used to compare the API components,
+	 *            values less than <code>1</code> are treated as <code>1</code>
+	 * @since 1.3.600
+	 */
+	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final int threads, final SubMonitor monitor) {
 		this.deltas = deltas;
 		this.referenceBaseline = baseline;
 		this.visibilityModifiers = visibilityModifiers;
 		this.force = force;
 		this.continueOnResolverError = continueOnResolverError;
+		this.threads = threads;
 		this.monitor = monitor;
 	}
 
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
 		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, this.threads, null, null);
 		if (delta != null) {
-			delta.accept(new DeltaVisitor() {
-				@Override
-				public void endVisit(IDelta localDelta) {
-					if (localDelta.getChildren().length == 0) {
-						CompareApiScopeVisitor.this.deltas.add(localDelta);
-					}
-				}
-			});
+			addLeaves(delta, this.deltas);
 		} else {
 			this.containsErrors = true;
 		}
@@ -109,8 +129,26 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		}
 
 		subMonitor.split(50);
+		if (this.threads > 1) {
+			if (this.executor == null) {
+				this.executor = ApiComparator.newExecutor(this.threads);
+			}
+			this.comparisons.add(this.executor.submit(() -> {
+				List<IDelta> leaves = new ArrayList<>();
+				if (!this.workermonitor.isCanceled()) {
+					addLeaves(compareComponent(referenceComponent, component, this.workermonitor), leaves);
+				}
+				return leaves;
+			}));
+		} else {
+			addLeaves(compareComponent(referenceComponent, component, null), this.deltas);
+		}
+		return false;
+	}
+
+	private IDelta compareComponent(IApiComponent referenceComponent, IApiComponent component, IProgressMonitor compareMonitor) {
 		final Delta globalDelta = new Delta();
-		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, null));
+		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, compareMonitor));
 		if (referenceComponent != null) {
 			String versionString = referenceComponent.getVersion();
 			String versionString2 = component.getVersion();
@@ -119,15 +157,49 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				globalDelta.add(bundleVersionChangesDelta);
 			}
 		}
-		globalDelta.accept(new DeltaVisitor() {
+		return globalDelta;
+	}
+
+	private static void addLeaves(IDelta delta, Collection<IDelta> deltas) {
+		delta.accept(new DeltaVisitor() {
 			@Override
 			public void endVisit(IDelta localDelta) {
 				if (localDelta.getChildren().length == 0) {
-					CompareApiScopeVisitor.this.deltas.add(localDelta);
+					deltas.add(localDelta);
 				}
 			}
 		});
-		return false;
+	}
+
+	/**
+	 * Waits for the concurrent comparisons of API components to complete and
+	 * adds their deltas. Does nothing if the API components are compared on
+	 * the calling thread.
+	 *
+	 * @throws org.eclipse.core.runtime.OperationCanceledException if the
+	 *             monitor is canceled while waiting
+	 * @since 1.3.600
+	 */
+	public void awaitComparisons() {
+		for (Future<List<IDelta>> comparison : this.comparisons) {
+			this.deltas.addAll(ApiComparator.awaitComparison(comparison, this.monitor, this.workermonitor));
+		}
+		this.comparisons.clear();
+	}
+
+	/**
+	 * Cancels the pending concurrent comparisons of API components and
+	 * releases their threads.
+	 *
+	 * @since 1.3.600
+	 */
+	public void cancelComparisons() {
+		this.workermonitor.setCanceled(true);
+		this.comparisons.clear();
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+			this.executor = null;
+		}
 	}
 
 	@Override
@@ -18,11 +18,18 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -118,11 +125,74 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * Reporter used by the parallel search to collect the results of a single
+	 * scope element, so they can be handed to the real reporter in scope order
+	 */
+	static final class BufferedSearchReporter implements IApiSearchReporter {
+		private final List<IApiElement> elements = new ArrayList<>();
+		private final List<IReference[]> references = new ArrayList<>();
+
+		@Override
+		public void reportResults(IApiElement element, IReference[] refs) {
+			elements.add(element);
+			references.add(refs);
+		}
+
+		@Override
+		public void reportNotSearched(IApiElement[] notsearched) {
+			// not used by the engine
+		}
+
+		@Override
+		public void reportMetadata(IMetadata data) {
+			// not used by the engine
+		}
+
+		@Override
+		public void reportCounts() {
+			// not used by the engine
+		}
+
+		/**
+		 * Passes all collected results to the given reporter in the order they
+		 * were collected
+		 */
+		void replay(IApiSearchReporter reporter) {
+			for (int i = 0; i < elements.size(); i++) {
+				reporter.reportResults(elements.get(i), references.get(i));
+			}
+		}
+	}
+
 	/**
 	 * Simple string used for reporting what is being searched
 	 */
 	private String fRequestorContext = null;
 
+	/**
+	 * The number of threads used to search the elements of the scope
+	 */
+	private int fThreadCount = 1;
+
+	/**
+	 * Sets the number of threads used to search the elements of the scope.
+	 * <p>
+	 * With more than one thread, the scope elements are searched concurrently,
+	 * each element being searched entirely on one thread. The requestor must
+	 * then support being called concurrently for different components. Results
+	 * are still passed to the reporter from the calling thread and in scope
+	 * order, so the output does not depend on the thread count.
+	 * </p>
+	 *
+	 * @param threads the number of threads to use, values less than
+	 *            <code>1</code> are treated as <code>1</code>
+	 * @since 1.3.600
+	 */
+	public void setThreadCount(int threads) {
+		fThreadCount = Math.max(1, threads);
+	}
+
 	/**
 	 * Returns the set of resolved references for the given {@link IApiType}
 	 *
@@ -247,6 +317,27 @@ public final class ApiSearchEngine {
 		IApiElement[] scopeelements = scope.getApiElements();
 		SubMonitor localmonitor = SubMonitor.convert(monitor, MessageFormat.format(SearchMessages.ApiSearchEngine_searching_projects, fRequestorContext), scopeelements.length * 2 + 1);
 		long start = System.currentTimeMillis();
+		MultiStatus mstatus = null;
+		if (fThreadCount > 1 && scopeelements.length > 1) {
+			mstatus = searchParallel(requestor, scopeelements, reporter, localmonitor);
+		} else {
+			mstatus = searchSequential(requestor, scopeelements, reporter, localmonitor);
+		}
+		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+			System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds"); //$NON-NLS-1$//$NON-NLS-2$
+		}
+		if (mstatus != null) {
+			throw new CoreException(mstatus);
+		}
+	}
+
+	/**
+	 * Searches the given scope elements one after the other on the calling
+	 * thread
+	 *
+	 * @return the status of any failed searches or <code>null</code>
+	 */
+	private MultiStatus searchSequential(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, SubMonitor localmonitor) {
 		long loopstart = 0;
 		String taskname = null;
 		MultiStatus mstatus = null;
@@ -263,7 +354,7 @@ public final class ApiSearchEngine {
 				localmonitor.setTaskName(taskname);
 				if (localmonitor.isCanceled()) {
 					reporter.reportResults(scopeelements[i], NO_REFERENCES);
-					return;
+					return null;
 				}
 				localmonitor.worked(1);
 				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
@@ -271,18 +362,128 @@ public final class ApiSearchEngine {
 							+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
 				}
 			} catch (CoreException ce) {
-				if (mstatus == null) {
-					mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+				mstatus = addError(mstatus, ce);
+			}
+		}
+		return mstatus;
+	}
+
+	/**
+	 * Searches the given scope elements concurrently on a bounded pool of
+	 * {@link #fThreadCount} threads. Each element is searched into its own
+	 * {@link BufferedSearchReporter}, which is handed to the given reporter on
+	 * the calling thread in scope order. Only a limited number of elements are
+	 * searched ahead of the one being reported, to bound the number of results
+	 * held in memory.
+	 *
+	 * @return the status of any failed searches or <code>null</code>
+	 */
+	private MultiStatus searchParallel(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, SubMonitor localmonitor) {
+		int threads = Math.min(fThreadCount, scopeelements.length);
+		int window = threads * 2;
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "API Use Scan"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		// shared by all workers, canceled from the calling thread
+		NullProgressMonitor workermonitor = new NullProgressMonitor();
+		List<Future<BufferedSearchReporter>> futures = new ArrayList<>(scopeelements.length);
+		MultiStatus mstatus = null;
+		try {
+			for (int i = 0; i < Math.min(window, scopeelements.length); i++) {
+				futures.add(submit(executor, requestor, scopeelements[i], workermonitor));
+			}
+			for (int i = 0; i < scopeelements.length; i++) {
+				String taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project, scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext);
+				localmonitor.setTaskName(taskname);
+				BufferedSearchReporter results = null;
+				try {
+					results = awaitResults(futures.get(i), localmonitor);
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException ce) {
+						mstatus = addError(mstatus, ce);
+					} else if (cause instanceof RuntimeException re) {
+						throw re;
+					} else if (cause instanceof Error error) {
+						throw error;
+					} else {
+						mstatus = addError(mstatus, new CoreException(Status.error(cause.getMessage(), cause)));
+					}
+				}
+				futures.set(i, null);
+				if (localmonitor.isCanceled()) {
+					workermonitor.setCanceled(true);
+					reporter.reportResults(scopeelements[i], NO_REFERENCES);
+					return null;
+				}
+				if (results != null) {
+					results.replay(reporter);
+				}
+				if (i + window < scopeelements.length) {
+					futures.add(submit(executor, requestor, scopeelements[i + window], workermonitor));
+				}
+				localmonitor.worked(2);
+				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+					System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done"); //$NON-NLS-1$
 				}
-				mstatus.add(Status.error(ce.getMessage(), ce));
 			}
+		} finally {
+			executor.shutdownNow();
 		}
-		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-			System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds"); //$NON-NLS-1$//$NON-NLS-2$
+		return mstatus;
+	}
+
+	/**
+	 * Schedules the search of the given element on the given executor
+	 */
+	private Future<BufferedSearchReporter> submit(ExecutorService executor, IApiSearchRequestor requestor, IApiElement element, IProgressMonitor monitor) {
+		return executor.submit(() -> {
+			long loopstart = System.currentTimeMillis();
+			BufferedSearchReporter results = new BufferedSearchReporter();
+			if (!monitor.isCanceled()) {
+				searchReferences(requestor, element, results, monitor);
+			}
+			if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+				System.out.println("Searched " + element.getApiComponent().getSymbolicName() + " in " //$NON-NLS-1$ //$NON-NLS-2$
+						+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
+			}
+			return results;
+		});
+	}
+
+	/**
+	 * Waits for the given search to complete, returning early with
+	 * <code>null</code> if the monitor is canceled or the thread is interrupted
+	 */
+	private BufferedSearchReporter awaitResults(Future<BufferedSearchReporter> future, IProgressMonitor monitor) throws ExecutionException {
+		while (!monitor.isCanceled()) {
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// poll the monitor again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				monitor.setCanceled(true);
+			}
 		}
-		if (mstatus != null) {
-			throw new CoreException(mstatus);
+		return null;
+	}
+
+	/**
+	 * Adds the given exception to the given status, creating the status if
+	 * required
+	 *
+	 * @return the status the exception was added to
+	 */
+	private MultiStatus addError(MultiStatus mstatus, CoreException ce) {
+		MultiStatus status = mstatus;
+		if (status == null) {
+			status = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
 		}
+		status.add(Status.error(ce.getMessage(), ce));
+		return status;
 	}
 
 	/**
@@ -0,0 +1,479 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * Persistent index of an API use scan, stored in the state location of the
+ * API tools plug-in.
+ * <p>
+ * A use scan location (a directory or an archive) is parsed once with the
+ * {@link UseScanParser} and the references it contains are written to an index
+ * file, grouped by referenced component and by referenced root type. The
+ * directory of the index is kept in memory, so looking up the references to
+ * some types of a component only reads the records of these types. The index
+ * is rebuilt when the time stamp of the scan location changes: the size and
+ * modification time of an archive, or the number, total size and latest
+ * modification time of the files of a directory. As computing the time stamp
+ * of a directory visits all of its files, it is only recomputed if it was not
+ * checked within the {@link #REVALIDATION_INTERVAL}.
+ * </p>
+ * <p>
+ * The index file starts with the records of the types, followed by the
+ * directory and a trailer holding the position of the directory.
+ * </p>
+ *
+ * @since 1.3.600
+ */
+final class UseScanIndex {
+
+	/**
+	 * Magic number of index files: 'APUS'
+	 */
+	private static final int MAGIC = 0x41505553;
+
+	/**
+	 * Version of the index file format, must be incremented whenever the
+	 * format changes
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Name of the folder in the state location holding the index files
+	 */
+	private static final String INDEX_FOLDER = ".use_scan_index"; //$NON-NLS-1$
+
+	/**
+	 * Size of the trailer: directory position, magic number and version
+	 */
+	private static final int TRAILER_SIZE = 16;
+
+	/**
+	 * Minimum time in milliseconds between two checks whether a use scan
+	 * location has changed, so that looking up the references to each
+	 * component doesn't visit all files of the scan
+	 */
+	private static final long REVALIDATION_INTERVAL = 1000;
+
+	/**
+	 * Position and length of the records of a type in the index file
+	 */
+	private record Entry(long position, int length) {
+	}
+
+	private final Path fIndexFile;
+
+	private final long[] fStamp;
+
+	/**
+	 * Time the stamp of the use scan location was last computed
+	 */
+	private final AtomicLong fValidated = new AtomicLong(System.currentTimeMillis());
+
+	/**
+	 * Map of referenced component ids to the map of referenced root types to
+	 * their records
+	 */
+	private final Map<String, Map<String, Entry>> fDirectory;
+
+	private UseScanIndex(Path indexFile, long[] stamp, Map<String, Map<String, Entry>> directory) {
+		fIndexFile = indexFile;
+		fStamp = stamp;
+		fDirectory = directory;
+	}
+
+	/**
+	 * Returns the index of the given use scan location, or <code>null</code>
+	 * if the location has not been indexed yet, its index is outdated or the
+	 * index is not available because the framework is not running.
+	 *
+	 * @param location the configured use scan directory or archive
+	 * @return the index or <code>null</code>
+	 */
+	static UseScanIndex read(File location) {
+		Path indexFile = getIndexFile(location);
+		if (indexFile == null || !Files.isRegularFile(indexFile)) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < TRAILER_SIZE) {
+				return null;
+			}
+			ByteBuffer trailer = read(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+			long directoryPosition = trailer.getLong();
+			if (trailer.getInt() != MAGIC || trailer.getInt() != VERSION || directoryPosition < 0 || directoryPosition > size - TRAILER_SIZE) {
+				return null;
+			}
+			ByteBuffer buffer = read(channel, directoryPosition, (int) (size - TRAILER_SIZE - directoryPosition));
+			if (!location.getAbsolutePath().equals(readString(buffer))) {
+				return null;
+			}
+			long[] stamp = new long[] { buffer.getLong(), buffer.getLong(), buffer.getLong() };
+			if (!isCurrent(stamp, computeStamp(location))) {
+				return null;
+			}
+			int componentCount = buffer.getInt();
+			Map<String, Map<String, Entry>> directory = new HashMap<>(componentCount);
+			for (int i = 0; i < componentCount; i++) {
+				String component = readString(buffer);
+				int typeCount = buffer.getInt();
+				Map<String, Entry> types = new HashMap<>(typeCount);
+				for (int j = 0; j < typeCount; j++) {
+					types.put(readString(buffer), new Entry(buffer.getLong(), buffer.getInt()));
+				}
+				directory.put(component, types);
+			}
+			return new UseScanIndex(indexFile, stamp, directory);
+		} catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+			// corrupt or outdated, the scan will be indexed again
+			return null;
+		}
+	}
+
+	/**
+	 * Parses the given use scan and writes its index.
+	 *
+	 * @param location the configured use scan directory or archive
+	 * @param xmlLocation the XML directory of the scan to parse, see
+	 *            {@link UseScanManager#getExactScanLocation(String)}
+	 * @param monitor progress monitor
+	 * @return the new index or <code>null</code> if the index is not available
+	 *         because the framework is not running
+	 * @throws Exception if the scan cannot be parsed or the index cannot be
+	 *             written
+	 */
+	static UseScanIndex write(File location, String xmlLocation, IProgressMonitor monitor) throws Exception {
+		Path indexFile = getIndexFile(location);
+		if (indexFile == null) {
+			return null;
+		}
+		long[] stamp = computeStamp(location);
+		Collector collector = new Collector();
+		new UseScanParser().parse(xmlLocation, monitor, new UseScanReferenceVisitor(null, null, collector));
+
+		Map<String, Map<String, Entry>> directory = new HashMap<>(collector.references.size());
+		Files.createDirectories(indexFile.getParent());
+		Path tempFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream records = new DataOutputStream(bytes);
+				for (Map.Entry<String, Map<String, Set<IReferenceDescriptor>>> component : collector.references.entrySet()) {
+					Map<String, Entry> types = new HashMap<>();
+					for (Map.Entry<String, Set<IReferenceDescriptor>> type : component.getValue().entrySet()) {
+						bytes.reset();
+						records.writeInt(type.getValue().size());
+						for (IReferenceDescriptor reference : type.getValue()) {
+							writeReference(records, reference);
+						}
+						types.put(type.getKey(), new Entry(out.size(), bytes.size()));
+						bytes.writeTo(out);
+					}
+					directory.put(component.getKey(), types);
+				}
+				long directoryPosition = out.size();
+				writeString(out, location.getAbsolutePath());
+				for (long value : stamp) {
+					out.writeLong(value);
+				}
+				out.writeInt(directory.size());
+				for (Map.Entry<String, Map<String, Entry>> component : directory.entrySet()) {
+					writeString(out, component.getKey());
+					out.writeInt(component.getValue().size());
+					for (Map.Entry<String, Entry> type : component.getValue().entrySet()) {
+						writeString(out, type.getKey());
+						out.writeLong(type.getValue().position());
+						out.writeInt(type.getValue().length());
+					}
+				}
+				out.writeLong(directoryPosition);
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+			}
+			Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+		return new UseScanIndex(indexFile, stamp, directory);
+	}
+
+	/**
+	 * Returns whether this index is still current for the given use scan
+	 * location. The time stamp of a directory is computed from the attributes
+	 * of all of its files, it does not read their content. The time stamp is
+	 * not recomputed if it was checked within the
+	 * {@link #REVALIDATION_INTERVAL}.
+	 *
+	 * @param location the configured use scan directory or archive
+	 * @return whether this index is current
+	 */
+	boolean isCurrent(File location) {
+		long now = System.currentTimeMillis();
+		long validated = fValidated.get();
+		if (now - validated < REVALIDATION_INTERVAL || !fValidated.compareAndSet(validated, now)) {
+			return true; // checked recently or being checked by another thread
+		}
+		return isCurrent(fStamp, computeStamp(location));
+	}
+
+	/**
+	 * Adds the references to the given types of the given component to the
+	 * given collection.
+	 *
+	 * @param componentId the symbolic name of the referenced component
+	 * @param types the referenced root types or <code>null</code> for all of
+	 *            the types of the component
+	 * @param references the collection to add the references to
+	 * @throws IOException if the index cannot be read
+	 */
+	void addReferences(String componentId, String[] types, IReferenceCollection references) throws IOException {
+		Map<String, Entry> entries = fDirectory.get(componentId);
+		if (entries == null) {
+			return;
+		}
+		Map<String, Entry> lookup;
+		if (types == null) {
+			lookup = entries;
+		} else {
+			lookup = new LinkedHashMap<>();
+			for (String type : types) {
+				Entry entry = entries.get(type);
+				if (entry != null) {
+					lookup.put(type, entry);
+				}
+			}
+			if (lookup.isEmpty()) {
+				return;
+			}
+		}
+		try (FileChannel channel = FileChannel.open(fIndexFile, StandardOpenOption.READ)) {
+			for (Map.Entry<String, Entry> type : lookup.entrySet()) {
+				ByteBuffer buffer = read(channel, type.getValue().position(), type.getValue().length());
+				int count = buffer.getInt();
+				for (int i = 0; i < count; i++) {
+					references.add(type.getKey(), readReference(buffer));
+				}
+			}
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException("Invalid use scan index " + fIndexFile, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Collects the references of a use scan by referenced component and root
+	 * type
+	 */
+	private static final class Collector implements IReferenceCollection {
+
+		final Map<String, Map<String, Set<IReferenceDescriptor>>> references = new HashMap<>();
+
+		@Override
+		public void add(String type, IReferenceDescriptor referenceDescriptor) {
+			references.computeIfAbsent(referenceDescriptor.getReferencedComponent().getId(), id -> new HashMap<>())
+					.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(referenceDescriptor);
+		}
+
+		@Override
+		public boolean hasReferencesTo(String type) {
+			return false;
+		}
+
+		@Override
+		public IReferenceDescriptor[] getAllExternalDependencies() {
+			return new IReferenceDescriptor[0];
+		}
+
+		@Override
+		public IReferenceDescriptor[] getExternalDependenciesTo(String[] types) {
+			return new IReferenceDescriptor[0];
+		}
+
+		@Override
+		public void clear() {
+			references.clear();
+		}
+	}
+
+	private static void writeReference(DataOutputStream out, IReferenceDescriptor reference) throws IOException {
+		writeComponent(out, reference.getComponent());
+		writeMember(out, reference.getMember());
+		out.writeInt(reference.getLineNumber());
+		writeComponent(out, reference.getReferencedComponent());
+		writeMember(out, reference.getReferencedMember());
+		out.writeInt(reference.getReferenceKind());
+		out.writeInt(reference.getReferenceFlags());
+		out.writeInt(reference.getVisibility());
+	}
+
+	private static IReferenceDescriptor readReference(ByteBuffer buffer) {
+		IComponentDescriptor from = readComponent(buffer);
+		IMemberDescriptor origin = readMember(buffer);
+		int line = buffer.getInt();
+		IComponentDescriptor to = readComponent(buffer);
+		IMemberDescriptor target = readMember(buffer);
+		return new ReferenceDescriptor(from, origin, line, to, target, buffer.getInt(), buffer.getInt(), buffer.getInt(), null);
+	}
+
+	private static void writeComponent(DataOutputStream out, IComponentDescriptor component) throws IOException {
+		writeString(out, component.getId());
+		writeString(out, component.getVersion());
+	}
+
+	private static IComponentDescriptor readComponent(ByteBuffer buffer) {
+		return Factory.componentDescriptor(readString(buffer), readString(buffer));
+	}
+
+	private static void writeMember(DataOutputStream out, IMemberDescriptor member) throws IOException {
+		out.writeByte(member.getElementType());
+		switch (member.getElementType()) {
+			case IElementDescriptor.METHOD -> {
+				IMethodDescriptor method = (IMethodDescriptor) member;
+				writeString(out, method.getEnclosingType().getQualifiedName());
+				writeString(out, method.getName());
+				writeString(out, method.getSignature());
+			}
+			case IElementDescriptor.FIELD -> {
+				IFieldDescriptor field = (IFieldDescriptor) member;
+				writeString(out, field.getEnclosingType().getQualifiedName());
+				writeString(out, field.getName());
+			}
+			default -> writeString(out, ((IReferenceTypeDescriptor) member).getQualifiedName());
+		}
+	}
+
+	private static IMemberDescriptor readMember(ByteBuffer buffer) {
+		int type = buffer.get();
+		String typeName = readString(buffer);
+		return switch (type)
+			{
+			case IElementDescriptor.METHOD -> Factory.methodDescriptor(typeName, readString(buffer), readString(buffer));
+			case IElementDescriptor.FIELD -> Factory.fieldDescriptor(typeName, readString(buffer));
+			case IElementDescriptor.TYPE -> Factory.typeDescriptor(typeName);
+			default -> throw new IllegalArgumentException();
+			};
+	}
+
+	/**
+	 * Computes the time stamp of the given use scan location: the size and
+	 * modification time of an archive, or the number, total size and latest
+	 * modification time of the files of a directory.
+	 */
+	private static long[] computeStamp(File location) {
+		if (location.isFile()) {
+			return new long[] { -1, location.length(), location.lastModified() };
+		}
+		long[] stamp = new long[3];
+		try (Stream<Path> files = Files.walk(location.toPath())) {
+			files.forEach(file -> {
+				try {
+					BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+					if (attributes.isRegularFile()) {
+						stamp[0]++;
+						stamp[1] += attributes.size();
+						stamp[2] = Math.max(stamp[2], attributes.lastModifiedTime().toMillis());
+					}
+				} catch (IOException e) {
+					// deleted while walking, the stamp will differ anyway
+				}
+			});
+		} catch (IOException | RuntimeException e) {
+			// never current
+			return new long[] { -1, -1, -1 };
+		}
+		return stamp;
+	}
+
+	private static boolean isCurrent(long[] stamp, long[] current) {
+		return current[1] >= 0 && stamp[0] == current[0] && stamp[1] == current[1] && stamp[2] == current[2];
+	}
+
+	/**
+	 * Returns the index file for the given use scan location or
+	 * <code>null</code> if the index is not available
+	 */
+	private static Path getIndexFile(File location) {
+		ApiPlugin plugin = ApiPlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		String name = UUID.nameUUIDFromBytes(location.getAbsolutePath().getBytes(StandardCharsets.UTF_8)).toString();
+		return plugin.getStateLocation().append(INDEX_FOLDER).append(name).toPath();
+	}
+
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Unexpected end of use scan index"); //$NON-NLS-1$
+			}
+		}
+		return buffer.flip();
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length == -1) {
+			return null;
+		}
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException();
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,14 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
@@ -89,6 +92,18 @@ public class UseScanManager {
 
 	private String[] fLocations = null;
 
+	/**
+	 * The indexes of the use scan locations read or written so far, keyed by
+	 * the absolute path of the location
+	 */
+	private final Map<String, UseScanIndex> fIndexes = new ConcurrentHashMap<>();
+
+	/**
+	 * The locks of the use scan locations, keyed by the absolute path of the
+	 * location
+	 */
+	private final Map<String, Object> fIndexLocks = new ConcurrentHashMap<>();
+
 	/**
 	 * {@link FileFilter} for finding use scan directories
 	 */
@@ -169,49 +184,21 @@ public class UseScanManager {
 				locations = fLocations;
 			}
 			if (locations != null) {
-				IStringVariableManager stringManager = null;
 				localmonitor.setWorkRemaining(locations.length);
-				for (int i = 0; i < locations.length; i++) {
+				for (String location : locations) {
 					SubMonitor iterationMonitor = localmonitor.split(1);
-					File file = new File(locations[i]);
-					if (!file.exists()) {
+					File file = new File(location);
+					if (!file.exists() || (file.isFile() && !Util.isArchive(file.getName()))) {
 						continue;
 					}
-					if (file.isFile()) {
-						if (Util.isArchive(file.getName())) {
-							String destDirPath = tempLocation + file.getName() + '.' + file.getAbsolutePath().hashCode();
-							if (stringManager == null) {
-								stringManager = VariablesPlugin.getDefault().getStringVariableManager();
-							}
-							destDirPath = stringManager.performStringSubstitution(destDirPath);
-							locations[i] = destDirPath + '/' + file.lastModified();
-							File unzipDirLoc = new File(destDirPath);
-							if (unzipDirLoc.exists()) {
-								String[] childDirs = unzipDirLoc.list();
-								for (String childDir : childDirs) {
-									if (!childDir.equals(String.valueOf(file.lastModified()))) {
-										FileManager.getManager().recordTempFileRoot(destDirPath + '/' + childDir);
-									}
-								}
-							} else {
-								Util.unzip(file.getPath(), locations[i]);
-							}
-						} else {
-							continue;
-						}
-					}
 					try {
-						locations[i] = getExactScanLocation(locations[i]);
-						if (locations[i] == null) {
-							String message;
-							if (file.isDirectory()) {
-								message = NLS.bind(SearchMessages.UseScanManager_InvalidDir, file.getAbsolutePath());
-							} else {
-								message = NLS.bind(SearchMessages.UseScanManager_InvalidArchive, file.getAbsolutePath());
-							}
-							throw new Exception(message);
+						UseScanIndex index = getIndex(file, iterationMonitor);
+						if (index != null) {
+							index.addReferences(apiComponent.getSymbolicName(), types, references);
+						} else {
+							// no index outside of the framework, parse the scan
+							parser.parse(getScanLocation(file), iterationMonitor, visitor);
 						}
-						parser.parse(locations[i], iterationMonitor, visitor);
 					} catch (Exception e) {
 						ApiPlugin.log(e); // log the exception and continue with
 											// next location
@@ -229,6 +216,89 @@ public class UseScanManager {
 		}
 	}
 
+	/**
+	 * Returns the index of the given use scan location, indexing the scan if
+	 * it has not been indexed yet or has changed since it was indexed.
+	 *
+	 * @return the index or <code>null</code> if not running in the framework
+	 */
+	private UseScanIndex getIndex(File file, IProgressMonitor monitor) throws Exception {
+		String key = file.getAbsolutePath();
+		UseScanIndex outdated = fIndexes.get(key);
+		if (outdated != null && outdated.isCurrent(file)) {
+			return outdated;
+		}
+		// A location is indexed by one thread at a time: the other threads
+		// looking up references in the same location wait for its index
+		// instead of extracting and parsing the scan again. Lookups in other
+		// locations are not blocked.
+		synchronized (fIndexLocks.computeIfAbsent(key, k -> new Object())) {
+			UseScanIndex index = fIndexes.get(key);
+			if (index != null && index != outdated) {
+				return index; // indexed by another thread in the meantime
+			}
+			index = UseScanIndex.read(file);
+			if (index == null) {
+				String scanLocation = getScanLocation(file);
+				index = UseScanIndex.write(file, scanLocation, monitor);
+				if (index != null && file.isFile()) {
+					// the extracted archive is no longer needed once indexed
+					FileManager.getManager().recordTempFileRoot(getExtractionDirectory(file));
+				}
+			}
+			if (index != null) {
+				fIndexes.put(key, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Returns the directory the given use scan archive is extracted to
+	 */
+	private String getExtractionDirectory(File file) throws CoreException {
+		String destDirPath = tempLocation + file.getName() + '.' + file.getAbsolutePath().hashCode();
+		IStringVariableManager stringManager = VariablesPlugin.getDefault().getStringVariableManager();
+		return stringManager.performStringSubstitution(destDirPath);
+	}
+
+	/**
+	 * Returns the XML directory of the given use scan location, extracting the
+	 * scan if the location is an archive.
+	 *
+	 * @throws Exception if the location does not contain a use scan
+	 */
+	private String getScanLocation(File file) throws Exception {
+		String location = file.getAbsolutePath();
+		if (file.isFile()) {
+			String destDirPath = getExtractionDirectory(file);
+			location = destDirPath + '/' + file.lastModified();
+			File unzipDirLoc = new File(destDirPath);
+			if (unzipDirLoc.exists()) {
+				String[] childDirs = unzipDirLoc.list();
+				for (String childDir : childDirs) {
+					if (!childDir.equals(String.valueOf(file.lastModified()))) {
+						FileManager.getManager().recordTempFileRoot(destDirPath + '/' + childDir);
+					}
+				}
+			}
+			if (!new File(location).exists()) {
+				Util.unzip(file.getPath(), location);
+			}
+		}
+		String scanLocation = getExactScanLocation(location);
+		if (scanLocation == null) {
+			String message;
+			if (file.isDirectory()) {
+				message = NLS.bind(SearchMessages.UseScanManager_InvalidDir, file.getAbsolutePath());
+			} else {
+				message = NLS.bind(SearchMessages.UseScanManager_InvalidArchive, file.getAbsolutePath());
+			}
+			throw new Exception(message);
+		}
+		return scanLocation;
+	}
+
 	/**
 	 * Returns the scan
 	 */
@@ -384,5 +454,6 @@ public class UseScanManager {
 			reference.clear();
 		}
 		fApiComponentCache.flush();
+		fIndexes.clear();
 	}
 }
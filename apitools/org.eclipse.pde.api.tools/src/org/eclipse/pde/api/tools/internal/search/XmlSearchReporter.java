@@ -73,7 +73,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	}
 
 	@Override
-	public void reportResults(IApiElement element, final IReference[] references) {
+	public synchronized void reportResults(IApiElement element, final IReference[] references) {
 		if (references.length == 0) {
 			// This reporter does not create xml for components with no
 			// references
@@ -174,7 +174,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	}
 
 	@Override
-	public void reportCounts() {
+	public synchronized void reportCounts() {
 		if (this.debug) {
 			System.out.println("Writing file for counting total references..."); //$NON-NLS-1$
 		}
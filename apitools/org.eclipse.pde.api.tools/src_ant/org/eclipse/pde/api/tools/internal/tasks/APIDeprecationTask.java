@@ -41,6 +41,7 @@ public class APIDeprecationTask extends CommonUtilsTask {
 	private String eeFileLocation;
 	private String excludeListLocation;
 	private String includeListLocation;
+	private int threads = 1;
 	private static final String REPORT_XML_FILE_NAME = "apiDeprecation.xml"; //$NON-NLS-1$
 
 	@Override
@@ -107,7 +108,8 @@ public class APIDeprecationTask extends CommonUtilsTask {
 			time = System.currentTimeMillis();
 		}
 		try {
-			delta = ApiComparator.compare(referenceBaseline, currentBaseline, VisibilityModifiers.API, true, null);
+			delta = ApiComparator.compare(referenceBaseline, currentBaseline, VisibilityModifiers.API, true, this.threads,
+					this.debug ? (id, ms) -> System.out.println("Compared " + id + " : " + ms + "ms") : null, null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		} finally {
 			if (this.debug) {
 				System.out.println("API deprecation check : " + (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -173,6 +175,28 @@ public class APIDeprecationTask extends CommonUtilsTask {
 		this.debug = Boolean.toString(true).equals(debugValue);
 	}
 
+	/**
+	 * Set the number of threads used to compare the bundles of both baselines.
+	 * <p>
+	 * The report does not depend on the number of threads.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the given number of threads
+	 */
+	public void setThreads(String threads) {
+		try {
+			this.threads = Integer.parseInt(threads);
+		} catch (NumberFormatException e) {
+			this.threads = 0;
+		}
+		if (this.threads < 1) {
+			throw new BuildException(NLS.bind(Messages.APIDeprecationTask_invalid_thread_count, threads));
+		}
+	}
+
 	/**
 	 * Set the execution environment file to use.
 	 * <p>
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,7 @@ public class APIFreezeTask extends CommonUtilsTask {
 	private String eeFileLocation;
 	private String excludeListLocation;
 	private String includeListLocation;
+	private int threads = 1;
 
 	/**
 	 * When <code>true</code>, components containing resolver errors will still
@@ -140,7 +141,7 @@ public class APIFreezeTask extends CommonUtilsTask {
 			time = System.currentTimeMillis();
 		}
 		try {
-			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, null);
+			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, this.threads, null);
 		} catch (CoreException e) {
 			// ignore
 		} finally {
@@ -376,6 +377,28 @@ public class APIFreezeTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Set the number of threads used to compare the bundles against the reference baseline.
+	 * <p>
+	 * The report does not depend on the number of threads.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the given number of threads
+	 */
+	public void setThreads(String threads) {
+		try {
+			this.threads = Integer.parseInt(threads);
+		} catch (NumberFormatException e) {
+			this.threads = 0;
+		}
+		if (this.threads < 1) {
+			throw new BuildException(NLS.bind(Messages.APIFreezeTask_invalid_thread_count, threads));
+		}
+	}
+
 	/**
 	 * Modifies the given doc to add a new element under the root element that
 	 * lists all the components that had resolver errors which could affect the
@@ -118,6 +118,11 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * The number of threads used to search the scope components
+	 */
+	private int threads = 1;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -269,6 +274,28 @@ public final class ApiUseTask extends CommonUtilsTask {
 		archivePatterns = parsePatterns(patterns);
 	}
 
+	/**
+	 * Sets the number of threads used to search the components of the scope.
+	 * <p>
+	 * The reports do not depend on the number of threads.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the given number of threads
+	 */
+	public void setThreads(String threads) {
+		try {
+			this.threads = Integer.parseInt(threads);
+		} catch (NumberFormatException e) {
+			this.threads = 0;
+		}
+		if (this.threads < 1) {
+			throw new BuildException(NLS.bind(Messages.ApiUseTask_invalid_thread_count, threads));
+		}
+	}
+
 	protected void assertParameters() throws BuildException {
 		if (this.reportLocation == null) {
 			StringWriter out = new StringWriter();
@@ -302,6 +329,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			TreeSet<IApiComponent> scope = new TreeSet<>(Util.componentsorter);
 			getContext(baseline, ids, scope);
 			ApiSearchEngine engine = new ApiSearchEngine();
+			engine.setThreadCount(this.threads);
 			UseSearchRequestor requestor = new UseSearchRequestor(ids, scope.toArray(new IApiElement[scope.size()]), getSearchFlags());
 			requestor.setJarPatterns(archivePatterns);
 			requestor.setFilterRoot(filters);
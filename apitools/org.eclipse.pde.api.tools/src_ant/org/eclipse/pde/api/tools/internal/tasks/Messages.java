@@ -94,6 +94,10 @@ public class Messages extends NLS {
 	public static String ApiUseTask_missing_baseline_argument;
 	public static String ApiUseTask_missing_report_location;
 	public static String ApiUseTask_search_engine_problem;
+	public static String ApiUseTask_invalid_thread_count;
+	public static String APIDeprecationTask_invalid_thread_count;
+	public static String APIFreezeTask_invalid_thread_count;
+	public static String CompareTask_invalid_thread_count;
 	public static String UseTask_no_scan_both_types_not_searched_for;
 
 	public static String AddedElement;
@@ -38,6 +38,7 @@ import org.osgi.framework.Bundle;
 	FullComponentTest.class,
 	ExtendedReferenceMethodComponentTest.class,
 	ExtendedLifeCycleMethodComponentTest.class,
+	ProjectStateStoreTest.class,
 })
 public class AllDSAnnotationsTests {
 
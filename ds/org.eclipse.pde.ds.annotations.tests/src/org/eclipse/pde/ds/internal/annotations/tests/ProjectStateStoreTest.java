@@ -0,0 +1,177 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationVersion;
+import org.eclipse.pde.ds.internal.annotations.ProjectState;
+import org.eclipse.pde.ds.internal.annotations.ProjectStateStore;
+import org.eclipse.pde.ds.internal.annotations.ValidationErrorLevel;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SuppressWarnings("restriction")
+public class ProjectStateStoreTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File stateFile;
+
+	private ProjectState state;
+
+	@Before
+	public void setUp() throws Exception {
+		stateFile = new File(folder.getRoot(), "state.dat");
+		state = new ProjectState();
+		state.setPath("OSGI-INF");
+		state.setSpecVersion(DSAnnotationVersion.V1_3);
+		state.setErrorLevel(ValidationErrorLevel.error);
+		state.setMissingUnbindMethodLevel(ValidationErrorLevel.warning);
+		state.updateMappings("a/A.java", mappings("a.A", "OSGI-INF/a.A.xml"));
+		state.updateMappings("b/B.java", mappings("b.B1", "OSGI-INF/b.B1.xml", "b.B2", "OSGI-INF/b.B2.xml"));
+	}
+
+	@Test
+	public void roundTrip() throws Exception {
+		ProjectStateStore.save(stateFile, state);
+		assertEquals(state, ProjectStateStore.load(stateFile));
+
+		long length = stateFile.length();
+		state.setErrorLevel(ValidationErrorLevel.warning);
+		state.updateMappings("a/A.java", mappings("a.A", "OSGI-INF/a.Renamed.xml"));
+		state.updateMappings("b/B.java", new HashMap<>());
+		state.updateMappings("c/C.java", mappings("c.C", "OSGI-INF/c.C.xml"));
+		ProjectStateStore.save(stateFile, state);
+		assertTrue("Changes not appended!", stateFile.length() > length);
+		assertEquals(state, ProjectStateStore.load(stateFile));
+	}
+
+	@Test
+	public void loadedStateAppendsChanges() throws Exception {
+		ProjectStateStore.save(stateFile, state);
+		ProjectState loaded = ProjectStateStore.load(stateFile);
+		long length = stateFile.length();
+		loaded.updateMappings("c/C.java", mappings("c.C", "OSGI-INF/c.C.xml"));
+		ProjectStateStore.save(stateFile, loaded);
+		assertTrue("Changes not appended!", stateFile.length() > length);
+
+		state.updateMappings("c/C.java", mappings("c.C", "OSGI-INF/c.C.xml"));
+		assertEquals(state, ProjectStateStore.load(stateFile));
+	}
+
+	@Test
+	public void appendedChangesAreCompacted() throws Exception {
+		ProjectStateStore.save(stateFile, state);
+		long length = stateFile.length();
+		state.updateMappings("a/A.java", mappings("a.A", "OSGI-INF/a.A0.xml"));
+		ProjectStateStore.save(stateFile, state);
+		long recordLength = stateFile.length() - length;
+		for (int i = 1; i < 200; i++) {
+			state.updateMappings("a/A.java", mappings("a.A", "OSGI-INF/a.A" + (i % 10) + ".xml"));
+			ProjectStateStore.save(stateFile, state);
+		}
+
+		assertTrue("State file not compacted!", stateFile.length() < length + 100 * recordLength);
+		assertEquals(state, ProjectStateStore.load(stateFile));
+	}
+
+	@Test
+	public void movedTypesAreKept() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			state.updateMappings("a/A" + i + ".java", mappings("t.T" + i, "OSGI-INF/t.T" + i + ".xml"));
+		}
+		ProjectStateStore.save(stateFile, state);
+		// the records of the units are appended in no particular order
+		for (int i = 0; i < 10; i++) {
+			state.updateMappings("a/A" + i + ".java", new HashMap<>());
+			state.updateMappings("b/B" + i + ".java", mappings("t.T" + i, "OSGI-INF/t.T" + i + ".xml"));
+		}
+		ProjectStateStore.save(stateFile, state);
+
+		ProjectState loaded = ProjectStateStore.load(stateFile);
+		assertEquals(state, loaded);
+		for (int i = 0; i < 10; i++) {
+			assertEquals("OSGI-INF/t.T" + i + ".xml", loaded.getModelFile("t.T" + i));
+		}
+	}
+
+	@Test
+	public void unchangedSettingsAreNotAppended() throws Exception {
+		ProjectStateStore.save(stateFile, state);
+		long length = stateFile.length();
+		state.setPath("OSGI-INF");
+		state.setSpecVersion(DSAnnotationVersion.V1_3);
+		state.setErrorLevel(ValidationErrorLevel.error);
+		state.setMissingUnbindMethodLevel(ValidationErrorLevel.warning);
+		ProjectStateStore.save(stateFile, state);
+		// only the commit record
+		assertEquals(length + 1, stateFile.length());
+
+		state.setErrorLevel(ValidationErrorLevel.warning);
+		ProjectStateStore.save(stateFile, state);
+		assertTrue("Settings not appended!", stateFile.length() > length + 2);
+		assertEquals(state, ProjectStateStore.load(stateFile));
+	}
+
+	@Test
+	public void interruptedSaveIsDropped() throws Exception {
+		ProjectStateStore.save(stateFile, state);
+		ProjectState saved = state.clone();
+		state.updateMappings("c/C.java", mappings("c.C", "OSGI-INF/c.C.xml"));
+		ProjectStateStore.save(stateFile, state);
+		// drop the commit record of the appended changes
+		try (RandomAccessFile file = new RandomAccessFile(stateFile, "rw")) {
+			file.setLength(file.length() - 1);
+		}
+
+		ProjectState loaded = ProjectStateStore.load(stateFile);
+		assertEquals(saved, loaded);
+
+		// the uncommitted records are not kept by the next save
+		ProjectStateStore.save(stateFile, loaded);
+		assertEquals(getFullLength(loaded), stateFile.length());
+		assertEquals(saved, ProjectStateStore.load(stateFile));
+	}
+
+	@Test
+	public void failedAppendRewritesFile() throws Exception {
+		ProjectStateStore.save(stateFile, state);
+		state.updateMappings("c/C.java", mappings("c.C", "OSGI-INF/c.C.xml"));
+		stateFile.setWritable(false);
+		try {
+			assumeFalse("State file still writable!", stateFile.canWrite());
+			assertThrows(IOException.class, () -> ProjectStateStore.save(stateFile, state));
+		} finally {
+			stateFile.setWritable(true);
+		}
+
+		ProjectStateStore.save(stateFile, state);
+		assertEquals(getFullLength(state), stateFile.length());
+		assertEquals(state, ProjectStateStore.load(stateFile));
+	}
+
+	private long getFullLength(ProjectState state) throws IOException {
+		File file = new File(folder.newFolder(), "state.dat");
+		ProjectStateStore.save(file, state.clone());
+		return file.length();
+	}
+
+	private static HashMap<String, String> mappings(String... entries) {
+		HashMap<String, String> mappings = new HashMap<>();
+		for (int i = 0; i < entries.length; i += 2) {
+			mappings.put(entries[i], entries[i + 1]);
+		}
+
+		return mappings;
+	}
+}
@@ -16,13 +16,10 @@
 package org.eclipse.pde.ds.internal.annotations;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.lang.ref.SoftReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,6 +27,12 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -67,6 +70,8 @@ import org.eclipse.jdt.core.compiler.BuildContext;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.pde.core.IBaseModel;
 import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.build.IBuildModel;
@@ -100,12 +105,18 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	private static final QualifiedName PROP_STATE = new QualifiedName(Activator.PLUGIN_ID, "state"); //$NON-NLS-1$
 
-	private static final String STATE_FILENAME = "state.dat"; //$NON-NLS-1$
+	private static final String STATE_FILENAME = "state.bin"; //$NON-NLS-1$
+
+	// Java serialized state of previous versions
+	private static final String LEGACY_STATE_FILENAME = "state.dat"; //$NON-NLS-1$
 
 	static final String BUILDPATH_PROBLEM_MARKER = "org.eclipse.pde.ds.annotations.buildpath_problem"; //$NON-NLS-1$
 
 	private static final Debug debug = Debug.getDebug("ds-annotation-builder"); //$NON-NLS-1$
 
+	// minimum number of compilation units parsed by each thread in parallel processing mode
+	private static final int MIN_BATCH_SIZE = 20;
+
 	private final Map<IJavaProject, ProjectContext> processingContext = Collections.synchronizedMap(new HashMap<IJavaProject, ProjectContext>());
 
 	@Override
@@ -235,6 +246,12 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	}
 
 	private static ProjectState loadState(IProject project) throws IOException {
+		File legacyStateFile = getLegacyStateFile(project);
+		if (legacyStateFile.exists()) {
+			// not read anymore, the project is built from scratch once
+			legacyStateFile.delete();
+		}
+
 		File stateFile = getStateFile(project);
 		if (!stateFile.canRead()) {
 			if (debug.isDebugging())
@@ -243,21 +260,21 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			return null;
 		}
 
-		try (ObjectInputStream in = new ObjectInputStream(new FileInputStream(stateFile))) {
-			ProjectState state = (ProjectState) in.readObject();
+		ProjectState state = ProjectStateStore.load(stateFile);
+		if (state == null) {
+			if (debug.isDebugging())
+				debug.trace(String.format("Project state file has a different format version: %s", stateFile)); //$NON-NLS-1$
 
-			if (debug.isDebugging()) {
-				debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
-				for (String cuKey : state.getCompilationUnits())
-					debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
-			}
+			return null;
+		}
 
-			return state;
-		} catch (ClassNotFoundException e) {
-			IOException ex = new IOException("Unable to deserialize project state."); //$NON-NLS-1$
-			ex.initCause(e);
-			throw ex;
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Loaded state for project: %s", project.getName())); //$NON-NLS-1$
+			for (String cuKey : state.getCompilationUnits())
+				debug.trace(String.format("%s -> %s", cuKey, state.getModelFiles(cuKey))); //$NON-NLS-1$
 		}
+
+		return state;
 	}
 
 	@Override
@@ -438,9 +455,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 		}
 
-		try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream(stateFile))) {
-			out.writeObject(state);
-		}
+		ProjectStateStore.save(stateFile, state);
 	}
 
 	private void updateProject(IProject project, final Collection<String> retained, final Collection<String> abandoned) {
@@ -701,20 +716,121 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	}
 
 	private void processAnnotations(IJavaProject javaProject, Map<ICompilationUnit, BuildContext> fileMap) {
+		ProjectContext projectContext = processingContext.get(javaProject);
+		ProjectState state = projectContext.getState();
+
+		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
+		AnnotationProcessor processor = new AnnotationProcessor(projectContext, fileMap);
+
+		int threads = Math.min(cuArr.length / MIN_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+		if (threads < 2 || !isParallelProcessing(javaProject.getProject())) {
+			createParser(javaProject, state).createASTs(cuArr, new String[0], processor, null);
+		} else {
+			processInParallel(javaProject, state, cuArr, processor, threads);
+		}
+	}
+
+	private ASTParser createParser(IJavaProject javaProject, ProjectState state) {
 		@SuppressWarnings("deprecation")
 		ASTParser parser = ASTParser.newParser(AST.JLS4);
 		parser.setResolveBindings(true);
 		parser.setBindingsRecovery(true);
 		parser.setProject(javaProject);
 		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setIgnoreMethodBodies(state.getErrorLevel() == ValidationErrorLevel.ignore);
+		return parser;
+	}
 
-		ProjectContext projectContext = processingContext.get(javaProject);
-		ProjectState state = projectContext.getState();
+	private boolean isParallelProcessing(IProject project) {
+		IPreferencesService prefs = Platform.getPreferencesService();
+		return prefs.getBoolean(Activator.PLUGIN_ID, Activator.PREF_PARALLEL_PROCESSING, false, new IScopeContext[] { new ProjectScope(project), InstanceScope.INSTANCE, DefaultScope.INSTANCE });
+	}
 
-		parser.setIgnoreMethodBodies(state.getErrorLevel() == ValidationErrorLevel.ignore);
+	/**
+	 * Partitions the compilation units into batches that are parsed concurrently,
+	 * each with its own parser.
+	 * <p>
+	 * Bindings of an AST are only valid while it is being accepted, and the
+	 * component descriptors, the project state and the problems must only be
+	 * modified on the build thread, which holds the workspace lock. Thus the
+	 * parser threads hand each AST over to the build thread and wait until the
+	 * processor has accepted it, while the other batches keep being parsed.
+	 * </p>
+	 */
+	private void processInParallel(IJavaProject javaProject, ProjectState state, ICompilationUnit[] cuArr, AnnotationProcessor processor, int threads) {
+		long start = System.currentTimeMillis();
+		BlockingQueue<ParsedUnit> queue = new LinkedBlockingQueue<>();
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "DS Annotation Processor " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
 
-		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
-		parser.createASTs(cuArr, new String[0], new AnnotationProcessor(projectContext, fileMap), null);
+		try {
+			int batchSize = (cuArr.length + threads - 1) / threads;
+			int batches = 0;
+			for (int i = 0; i < cuArr.length; i += batchSize) {
+				ICompilationUnit[] batch = Arrays.copyOfRange(cuArr, i, Math.min(i + batchSize, cuArr.length));
+				executor.execute(() -> parseBatch(javaProject, state, batch, queue));
+				batches++;
+			}
+
+			int finished = 0;
+			while (finished < batches) {
+				ParsedUnit unit = queue.take();
+				if (unit == ParsedUnit.END) {
+					finished++;
+					continue;
+				}
+
+				try {
+					processor.acceptAST(unit.source(), unit.ast());
+				} finally {
+					unit.accepted().countDown();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			// release parser threads still waiting for their ASTs to be accepted
+			executor.shutdownNow();
+		}
+
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Processed %d compilation units in project %s using %d threads in %d ms.", cuArr.length, javaProject.getElementName(), threads, System.currentTimeMillis() - start)); //$NON-NLS-1$
+		}
+	}
+
+	private void parseBatch(IJavaProject javaProject, ProjectState state, ICompilationUnit[] batch, BlockingQueue<ParsedUnit> queue) {
+		try {
+			createParser(javaProject, state).createASTs(batch, new String[0], new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					ParsedUnit unit = new ParsedUnit(source, ast, new CountDownLatch(1));
+					queue.add(unit);
+					try {
+						unit.accepted().await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}, null);
+		} catch (RuntimeException e) {
+			Activator.log(Status.error(String.format("Error processing annotations in project %s.", javaProject.getElementName()), e)); //$NON-NLS-1$
+		} finally {
+			queue.add(ParsedUnit.END);
+		}
+	}
+
+	/**
+	 * An AST handed over to the build thread, the parser thread waits for the
+	 * latch to be released before it continues.
+	 */
+	private record ParsedUnit(ICompilationUnit source, CompilationUnit ast, CountDownLatch accepted) {
+
+		// marks the end of a batch
+		static final ParsedUnit END = new ParsedUnit(null, null, null);
 	}
 
 	public static boolean isManaged(IProject project) {
@@ -723,8 +839,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				return true;
 			}
 
-			File stateFile = getStateFile(project);
-			return stateFile.canRead();
+			return getStateFile(project).canRead() || getLegacyStateFile(project).canRead();
 		} catch (CoreException e) {
 			return false;
 		}
@@ -735,4 +850,9 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		File stateFile = new File(workDir, STATE_FILENAME);
 		return stateFile;
 	}
+
+	private static File getLegacyStateFile(IProject project) {
+		File workDir = project.getWorkingLocation(Activator.PLUGIN_ID).toFile();
+		return new File(workDir, LEGACY_STATE_FILENAME);
+	}
 }
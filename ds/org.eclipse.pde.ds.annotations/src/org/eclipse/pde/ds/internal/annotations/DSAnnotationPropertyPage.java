@@ -90,6 +90,8 @@ public class DSAnnotationPropertyPage extends PropertyPage implements IWorkbench
 
 	private Button enableBAPLGeneration;
 
+	private Button enableParallelProcessing;
+
 	private IWorkingCopyManager wcManager;
 
 	@Override
@@ -302,6 +304,11 @@ public class DSAnnotationPropertyPage extends PropertyPage implements IWorkbench
 		enableBAPLGeneration.setText(Messages.DSAnnotationPropertyPage_enableBAPLGenerationLabel_text);
 		enableBAPLGeneration.setFont(JFaceResources.getDialogFont());
 
+		enableParallelProcessing = new Button(optionBlockControl, SWT.CHECK);
+		enableParallelProcessing.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+		enableParallelProcessing.setText(Messages.DSAnnotationPropertyPage_enableParallelProcessingLabel_text);
+		enableParallelProcessing.setFont(JFaceResources.getDialogFont());
+
 		Dialog.applyDialogFont(composite);
 		return composite;
 	}
@@ -315,6 +322,7 @@ public class DSAnnotationPropertyPage extends PropertyPage implements IWorkbench
 		String errorLevel = prefs.get(Activator.PREF_VALIDATION_ERROR_LEVEL, ValidationErrorLevel.error.name());
 		String missingUnbindMethodLevel = prefs.get(Activator.PREF_MISSING_UNBIND_METHOD_ERROR_LEVEL, errorLevel);
 		boolean generateBAPL = prefs.getBoolean(Activator.PREF_GENERATE_BAPL, true);
+		boolean parallelProcessing = prefs.getBoolean(Activator.PREF_PARALLEL_PROCESSING, false);
 
 		if (useProjectSettings()) {
 			IScopeContext scopeContext = new ProjectScope(getProject());
@@ -326,6 +334,7 @@ public class DSAnnotationPropertyPage extends PropertyPage implements IWorkbench
 			errorLevel = prefs.get(Activator.PREF_VALIDATION_ERROR_LEVEL, errorLevel);
 			missingUnbindMethodLevel = prefs.get(Activator.PREF_MISSING_UNBIND_METHOD_ERROR_LEVEL, missingUnbindMethodLevel);
 			generateBAPL = prefs.getBoolean(Activator.PREF_GENERATE_BAPL, generateBAPL);
+			parallelProcessing = prefs.getBoolean(Activator.PREF_PARALLEL_PROCESSING, parallelProcessing);
 		}
 
 		enableCheckbox.setSelection(enableValue);
@@ -342,6 +351,7 @@ public class DSAnnotationPropertyPage extends PropertyPage implements IWorkbench
 		errorLevelCombo.select(getEnumIndex(errorLevel, ValidationErrorLevel.values(), 0));
 		missingUnbindMethodCombo.select(getEnumIndex(missingUnbindMethodLevel, ValidationErrorLevel.values(), 0));
 		enableBAPLGeneration.setSelection(generateBAPL);
+		enableParallelProcessing.setSelection(parallelProcessing);
 
 		setErrorMessage(null);
 	}
@@ -487,6 +497,7 @@ public class DSAnnotationPropertyPage extends PropertyPage implements IWorkbench
 			prefs.put(Activator.PREF_MISSING_UNBIND_METHOD_ERROR_LEVEL, levels[Math.max(Math.min(errorLevelIndex, levels.length - 1), 0)].name());
 
 			prefs.putBoolean(Activator.PREF_GENERATE_BAPL, enableBAPLGeneration.getSelection());
+			prefs.putBoolean(Activator.PREF_PARALLEL_PROCESSING, enableParallelProcessing.getSelection());
 		}
 
 		try {
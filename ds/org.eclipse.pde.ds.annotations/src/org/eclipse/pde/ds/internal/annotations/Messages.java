@@ -210,6 +210,7 @@ public class Messages extends NLS {
 	public static String DSAnnotationPropertyPage_workspaceLink_text;
 
 	public static String DSAnnotationPropertyPage_enableBAPLGenerationLabel_text;
+	public static String DSAnnotationPropertyPage_enableParallelProcessingLabel_text;
 
 	public static String DSAnnotationPropertyPage_specVersionLabel_text;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,19 +13,18 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
-import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.core.JavaCore;
 
-public class ProjectState implements Serializable, Cloneable {
-
-	private static final long serialVersionUID = 8616641822921441882L;
+public class ProjectState implements Cloneable {
 
 	// current state file format version
 	public static final int FORMAT_VERSION = 1;
@@ -51,12 +50,24 @@ public class ProjectState implements Serializable, Cloneable {
 	// (de)serialized state file format version
 	private int formatVersion = FORMAT_VERSION;
 
+	// package fragment root-relative CU paths whose mappings changed since the state was last saved
+	private Set<String> changedUnits = new HashSet<>();
+
+	// whether the settings changed since the state was last saved
+	private boolean settingsChanged;
+
+	// number of CU records in the state file, or -1 if the file must be rewritten
+	private int storedUnits = -1;
+
 	public int getFormatVersion() {
 		return formatVersion;
 	}
 
 	public void setFormatVersion(int formatVersion) {
-		this.formatVersion = formatVersion;
+		if (this.formatVersion != formatVersion) {
+			this.formatVersion = formatVersion;
+			settingsChanged = true;
+		}
 	}
 
 	public Collection<String> getCompilationUnits() {
@@ -78,6 +89,8 @@ public class ProjectState implements Serializable, Cloneable {
 			return null;
 		}
 
+		changedUnits.add(cuKey);
+
 		Collection<String> oldDSKeys = null;
 		if (files != null) {
 			oldDSKeys = new HashSet<>(cuTypes.size());
@@ -128,17 +141,64 @@ public class ProjectState implements Serializable, Cloneable {
 		if (!dsKeys.isEmpty()) {
 			getTypes().put(cuKey, new HashSet<>(dsKeys.keySet()));
 			getFiles().putAll(dsKeys);
+			changedUnits.add(cuKey);
 		}
 
 		return oldDSKeys;
 	}
 
+	/**
+	 * Returns the component types of the given CU mapped to the
+	 * plugin-root-relative (portable) paths of their generated DS files.
+	 */
+	Map<String, String> getMappings(String cuKey) {
+		Collection<String> cuTypes = types == null ? null : types.get(cuKey);
+		if (cuTypes == null || files == null) {
+			return Collections.emptyMap();
+		}
+
+		HashMap<String, String> mappings = new HashMap<>(cuTypes.size());
+		for (String type : cuTypes) {
+			String dsKey = files.get(type);
+			if (dsKey != null) {
+				mappings.put(type, dsKey);
+			}
+		}
+
+		return mappings;
+	}
+
+	Set<String> getChangedUnits() {
+		return Collections.unmodifiableSet(changedUnits);
+	}
+
+	boolean isSettingsChanged() {
+		return settingsChanged;
+	}
+
+	int getStoredUnits() {
+		return storedUnits;
+	}
+
+	/**
+	 * Records that the state has been saved (or loaded) and that the state file
+	 * contains the given number of CU records.
+	 */
+	void setSaved(int storedUnits) {
+		this.storedUnits = storedUnits;
+		changedUnits.clear();
+		settingsChanged = false;
+	}
+
 	public String getPath() {
 		return path;
 	}
 
 	public void setPath(String path) {
-		this.path = path;
+		if (!Objects.equals(this.path, path)) {
+			this.path = path;
+			settingsChanged = true;
+		}
 	}
 
 	public DSAnnotationVersion getSpecVersion() {
@@ -146,7 +206,10 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public void setSpecVersion(DSAnnotationVersion specVersion) {
-		this.specVersion = specVersion;
+		if (this.specVersion != specVersion) {
+			this.specVersion = specVersion;
+			settingsChanged = true;
+		}
 	}
 
 	public ValidationErrorLevel getErrorLevel() {
@@ -154,7 +217,10 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public void setErrorLevel(ValidationErrorLevel errorLevel) {
-		this.errorLevel = errorLevel;
+		if (this.errorLevel != errorLevel) {
+			this.errorLevel = errorLevel;
+			settingsChanged = true;
+		}
 	}
 
 	public ValidationErrorLevel getMissingUnbindMethodLevel() {
@@ -162,7 +228,10 @@ public class ProjectState implements Serializable, Cloneable {
 	}
 
 	public void setMissingUnbindMethodLevel(ValidationErrorLevel missingUnbindMethodLevel) {
-		this.missingUnbindMethodLevel = missingUnbindMethodLevel;
+		if (this.missingUnbindMethodLevel != missingUnbindMethodLevel) {
+			this.missingUnbindMethodLevel = missingUnbindMethodLevel;
+			settingsChanged = true;
+		}
 	}
 
 	private Map<String, Collection<String>> getTypes() {
@@ -206,6 +275,8 @@ public class ProjectState implements Serializable, Cloneable {
 			clone.files = new HashMap<>(files);
 		}
 
+		clone.changedUnits = new HashSet<>(changedUnits);
+
 		return clone;
 	}
 
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ds.internal.annotations;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the binary project state file of the annotation processor.
+ * <p>
+ * The file starts with a magic number and the version of the file format,
+ * followed by a log of records: the settings of the state and, for each
+ * compilation unit, the component types it contains and their generated DS
+ * files. A commit record terminates each group of records written together.
+ * When saving, only the records of the compilation units changed since the
+ * state was loaded or saved are appended to the file, so the whole file is
+ * not rewritten on every build. The file is compacted once it holds
+ * considerably more records than there are compilation units.
+ * </p>
+ * <p>
+ * A file with a different format version is ignored, which results in a full
+ * build. Records following the last commit record (i.e. an interrupted save)
+ * are dropped and the file is rewritten on the next save.
+ * </p>
+ * <p>
+ * The records of a group are written in no particular order, so when loading,
+ * the mappings of all compilation units of a group are removed before any of
+ * their new mappings are added. Otherwise, the record of a compilation unit
+ * that lost a component type to another one could remove the mapping of the
+ * type added by the record of the other compilation unit.
+ * </p>
+ */
+public final class ProjectStateStore {
+
+	// 'DSPS'
+	private static final int MAGIC = 0x44535053;
+
+	// binary file format version, must be incremented whenever the format changes
+	private static final int VERSION = 1;
+
+	private static final byte RECORD_SETTINGS = 1;
+
+	private static final byte RECORD_UNIT = 2;
+
+	private static final byte RECORD_COMMIT = 3;
+
+	// number of records beyond two per compilation unit before the file is compacted
+	private static final int COMPACTION_SLACK = 64;
+
+	private ProjectStateStore() {
+	}
+
+	/**
+	 * Loads the project state from the given file.
+	 *
+	 * @return the state, or <code>null</code> if the file does not exist or has
+	 *         a different format version
+	 * @throws IOException if the file cannot be read or is corrupt
+	 */
+	public static ProjectState load(File file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return null;
+			}
+
+			ProjectState state = new ProjectState();
+			int storedUnits = 0;
+			boolean committed = true;
+			// records are only applied once their commit record has been read
+			List<Runnable> pending = new ArrayList<>();
+			Map<String, HashMap<String, String>> pendingMappings = new LinkedHashMap<>();
+			int pendingUnits = 0;
+			try {
+				while (true) {
+					byte type = in.readByte();
+					committed = false;
+					switch (type) {
+					case RECORD_SETTINGS:
+						pending.add(readSettings(in, state));
+						break;
+					case RECORD_UNIT:
+						String cuKey = in.readUTF();
+						pendingMappings.put(cuKey, readMappings(in));
+						pendingUnits++;
+						break;
+					case RECORD_COMMIT:
+						pending.forEach(Runnable::run);
+						pending.clear();
+						pendingMappings.keySet().forEach(state::removeMappings);
+						pendingMappings.forEach(state::updateMappings);
+						pendingMappings.clear();
+						storedUnits += pendingUnits;
+						pendingUnits = 0;
+						committed = true;
+						break;
+					default:
+						throw new IOException(String.format("Unknown record type %d in project state file.", type)); //$NON-NLS-1$
+					}
+				}
+			} catch (EOFException e) {
+				// end of file
+			}
+
+			// rewrite the file on the next save if the last save was interrupted
+			state.setSaved(committed ? storedUnits : -1);
+			return state;
+		}
+	}
+
+	/**
+	 * Saves the given project state to the given file, appending the changes
+	 * since the state was last loaded or saved if possible.
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void save(File file, ProjectState state) throws IOException {
+		int units = state.getCompilationUnits().size();
+		int storedUnits = state.getStoredUnits();
+		int changedUnits = state.getChangedUnits().size();
+		if (storedUnits >= 0 && file.isFile() && storedUnits + changedUnits <= 2 * units + COMPACTION_SLACK) {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)))) {
+				if (state.isSettingsChanged()) {
+					writeSettings(out, state);
+				}
+
+				for (String cuKey : state.getChangedUnits()) {
+					writeUnit(out, cuKey, state.getMappings(cuKey));
+				}
+
+				out.writeByte(RECORD_COMMIT);
+			} catch (IOException e) {
+				// the file may end with uncommitted records, rewrite it on the next save
+				state.setSaved(-1);
+				throw e;
+			}
+
+			state.setSaved(storedUnits + changedUnits);
+			return;
+		}
+
+		File tempFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile()); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				writeSettings(out, state);
+				for (String cuKey : state.getCompilationUnits()) {
+					writeUnit(out, cuKey, state.getMappings(cuKey));
+				}
+
+				out.writeByte(RECORD_COMMIT);
+			}
+
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tempFile.toPath());
+		}
+
+		state.setSaved(units);
+	}
+
+	private static void writeSettings(DataOutputStream out, ProjectState state) throws IOException {
+		out.writeByte(RECORD_SETTINGS);
+		out.writeInt(state.getFormatVersion());
+		writeNullableString(out, state.getPath());
+		out.writeUTF(state.getSpecVersion().name());
+		out.writeUTF(state.getErrorLevel().name());
+		out.writeUTF(state.getMissingUnbindMethodLevel().name());
+	}
+
+	private static Runnable readSettings(DataInputStream in, ProjectState state) throws IOException {
+		int formatVersion = in.readInt();
+		String path = readNullableString(in);
+		DSAnnotationVersion specVersion = readEnum(in, DSAnnotationVersion.class);
+		ValidationErrorLevel errorLevel = readEnum(in, ValidationErrorLevel.class);
+		ValidationErrorLevel missingUnbindMethodLevel = readEnum(in, ValidationErrorLevel.class);
+		return () -> {
+			state.setFormatVersion(formatVersion);
+			state.setPath(path);
+			state.setSpecVersion(specVersion);
+			state.setErrorLevel(errorLevel);
+			state.setMissingUnbindMethodLevel(missingUnbindMethodLevel);
+		};
+	}
+
+	private static void writeUnit(DataOutputStream out, String cuKey, Map<String, String> mappings) throws IOException {
+		out.writeByte(RECORD_UNIT);
+		out.writeUTF(cuKey);
+		// an empty record removes the mappings of the CU
+		out.writeInt(mappings.size());
+		for (Map.Entry<String, String> entry : mappings.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeUTF(entry.getValue());
+		}
+	}
+
+	private static HashMap<String, String> readMappings(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		if (size < 0) {
+			throw new IOException("Invalid project state file."); //$NON-NLS-1$
+		}
+
+		HashMap<String, String> mappings = new HashMap<>(size);
+		for (int i = 0; i < size; ++i) {
+			mappings.put(in.readUTF(), in.readUTF());
+		}
+
+		return mappings;
+	}
+
+	private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readNullableString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> enumType) throws IOException {
+		String name = in.readUTF();
+		try {
+			return Enum.valueOf(enumType, name);
+		} catch (IllegalArgumentException e) {
+			throw new IOException(String.format("Invalid value %s in project state file.", name), e); //$NON-NLS-1$
+		}
+	}
+}
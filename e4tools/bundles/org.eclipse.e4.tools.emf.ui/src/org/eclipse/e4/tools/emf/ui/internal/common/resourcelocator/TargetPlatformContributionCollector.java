@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2023 TwelveTone LLC and others.
+ * Copyright (c) 2014, 2026 TwelveTone LLC and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,18 +23,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
-import java.net.MalformedURLException;
-import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
@@ -43,9 +45,11 @@ import javax.xml.xpath.XPathFactory;
 import org.eclipse.core.internal.runtime.XmlProcessorFactory;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider;
@@ -73,6 +77,8 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
@@ -80,17 +86,26 @@ import org.w3c.dom.NodeList;
  * A contribution collector encompassing the current target platform.<br />
  * Uses filter for bundle, package, and location filtering.<br />
  * This implementation finds resources based on file names, not by parsing file
- * contents.
+ * contents.<br />
+ * The names found in the target platform jars are kept in a persistent cache,
+ * so only new or changed jars are read again when the index is rebuilt after a
+ * restart or a change of the plug-in models.
  *
  * @author Steven Spungin
  */
 @SuppressWarnings("restriction")
 public abstract class TargetPlatformContributionCollector extends ClassContributionCollector {
 
-	CopyOnWriteArrayList<Entry> cacheEntry = new CopyOnWriteArrayList<>();
-	HashSet<String> cacheBundleId = new HashSet<>();
-	HashSet<String> cachePackage = new HashSet<>();
-	HashSet<String> cacheLocation = new HashSet<>();
+	/**
+	 * The index of the entries found, <code>null</code> until it is built
+	 */
+	private volatile TargetPlatformIndex index;
+	/**
+	 * Whether the plug-in models changed since the index was built
+	 */
+	private volatile boolean stale;
+	private Job indexJob;
+	private TargetPlatformJarCache jarCache;
 	private Pattern patternFile;
 	protected String cacheName;
 	protected boolean stopFiltering;
@@ -112,6 +127,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 
 		this.cacheName = cacheName;
 		patternFile = getFilePattern();
+		PDECore.getDefault().getModelManager().addPluginModelListener(delta -> stale = true);
 
 		addContributor(new IClassContributionProvider() {
 
@@ -131,7 +147,9 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				boolean more = false;
 
 				stopFiltering = false;
-				for (final Entry e : cacheEntry) {
+				final Iterator<Entry> entries = getIndex().find(filter.namePattern, patternName).iterator();
+				while (entries.hasNext()) {
+					final Entry e = entries.next();
 					if (stopFiltering) {
 						break;
 					}
@@ -191,17 +209,13 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						}
 					}
 
-					final Matcher m = patternName.matcher(e.name);
-					if (m.find()) {
-						found++;
-						if (found > maxResults) {
-							more = true;
-							handler.moreResults(ContributionResultHandler.MORE_UNKNOWN, filter);
-							break;
-						}
-						handler.result(makeData(e));
+					found++;
+					if (found > maxResults) {
+						more = true;
+						handler.moreResults(ContributionResultHandler.MORE_UNKNOWN, filter);
+						break;
 					}
-
+					handler.result(makeData(e));
 				}
 				if (!more) {
 					if (stopFiltering) {
@@ -224,10 +238,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			@Override
 			public void clearCache() {
 				stopFiltering = true;
-				cacheEntry.clear();
-				cacheBundleId.clear();
-				cachePackage.clear();
-				cacheLocation.clear();
+				index = null;
 				outputDirectories.clear();
 			}
 		});
@@ -253,7 +264,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getBundleIds() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheBundleId);
+		return new ArrayList<>(getIndex().getBundleIds());
 	}
 
 	/**
@@ -262,7 +273,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getPackages() {
 		reloadCache(false, null);
-		return new ArrayList<>(cachePackage);
+		return new ArrayList<>(getIndex().getPackages());
 	}
 
 	/**
@@ -271,136 +282,45 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getLocations() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheLocation);
+		return new ArrayList<>(getIndex().getLocations());
+	}
+
+	private TargetPlatformIndex getIndex() {
+		final TargetPlatformIndex currentIndex = index;
+		return currentIndex != null ? currentIndex : TargetPlatformIndex.EMPTY;
 	}
 
 	/**
 	 * Ensures the cache is loaded. By default it is loaded on first access, and
-	 * kept static until forced to reloaded.
+	 * rebuilt in the background after the plug-in models changed, only reading
+	 * the jars that changed.
 	 *
 	 * @param force
 	 *            true to force reload the cache
 	 */
 	private void reloadCache(boolean force, final IProviderStatusCallback providerStatusCallback) {
-		if (cacheEntry.isEmpty() || force) {
-			if (providerStatusCallback != null) {
-				providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
-			}
-			cacheEntry.clear();
-			cacheBundleId.clear();
-			cachePackage.clear();
-			cacheLocation.clear();
-			outputDirectories.clear();
-
-			final Job job = new Job(Messages.TargetPlatformContributionCollector_BuildTargetPlatformIndex) {
-
-				@Override
-				protected IStatus run(IProgressMonitor monitor) {
-					// load workspace projects
-					final IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
-					final IPluginModelBase[] models = TargetPlatformHelper.getPDEState().getTargetModels();
-					final int total = projects.length + models.length;
-					monitor.beginTask(Messages.TargetPlatformContributionCollector_updatingTargetPlatformCache
-							+ cacheName + ")", total); //$NON-NLS-1$
-
-					for (final IProject pj : projects) {
-						if (monitor.isCanceled()) {
-							break;
-						}
-						final String rootDirectory = pj.getLocation().toOSString();
-						monitor.subTask(rootDirectory);
-						monitor.worked(1);
-						TargetPlatformContributionCollector.this
-						.visit(monitor, FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
-								new File(rootDirectory));
-					}
-
-					// load target platform bundles
-					for (final IPluginModelBase pluginModelBase : models) {
-						monitor.subTask(pluginModelBase.getPluginBase().getId());
-						monitor.worked(1);
-						if (monitor.isCanceled()) {
-							break;
-						}
-
-						final IPluginBase pluginBase = pluginModelBase.getPluginBase();
-						if (pluginBase == null) {
-							// bundle = getBundle(new File())
-							continue;
-						}
-						URL url;
-						try {
-							final String installLocation = pluginModelBase.getInstallLocation();
-							if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
-								url = new URL("file:///" + installLocation); //$NON-NLS-1$
-								try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
-									while (true) {
-										final ZipEntry entry = zis.getNextEntry();
-										if (entry == null) {
-											break;
-										}
-										final String name2 = entry.getName();
-										if (shouldIgnore(name2)) {
-											continue;
-										}
-										final Matcher m = patternFile.matcher(name2);
-										if (m.matches()) {
-											final Entry e = new Entry();
-											e.installLocation = installLocation;
-											cacheLocation.add(installLocation);
-											e.name = m.group(2);
-											e.path = m.group(1);
-											if (e.path != null) {
-												e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-												if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(1);
-												}
-												if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-												}
-											} else {
-												e.pakage = ""; //$NON-NLS-1$
-											}
-											cachePackage.add(e.pakage);
-
-											e.bundleSymName = pluginBase.getId();
-											if (e.path == null) {
-												e.path = ""; //$NON-NLS-1$
-											}
-											cacheEntry.add(e);
-											cacheBundleId.add(pluginBase.getId());
-										}
-									}
-								}
-							} else {
-								// not a jar file
-								final String bundle = getBundle(new File(installLocation));
-								if (bundle != null) {
-									visit(monitor, bundle, installLocation, new File(installLocation));
-								}
-							}
-						} catch (final MalformedURLException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
-						} catch (final IOException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
-						}
-					}
-					monitor.done();
-					if (monitor.isCanceled()) {
-						if (providerStatusCallback != null) {
-							providerStatusCallback.onStatusChanged(ProviderStatus.CANCELLED);
-						}
-						return Status.CANCEL_STATUS;
-					}
-					if (providerStatusCallback != null) {
-						providerStatusCallback.onStatusChanged(ProviderStatus.READY);
-					}
-					return Status.OK_STATUS;
+		final boolean initial = index == null || force;
+		if (initial || stale) {
+			final Job job;
+			synchronized (this) {
+				if (indexJob != null && indexJob.getState() != Job.NONE) {
+					return;
+				}
+				if (providerStatusCallback != null) {
+					providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
 				}
-			};
-			job.schedule();
+				if (initial) {
+					index = null;
+					outputDirectories.clear();
+				}
+				job = createIndexJob(providerStatusCallback);
+				indexJob = job;
+				job.schedule();
+			}
+			if (!initial) {
+				// keep searching the current index while it is updated
+				return;
+			}
 
 			// User Job will not display dialog if called from a modal dialog,
 			// so we wrap a plain ol' job in a ProgressMonitorDialog
@@ -476,6 +396,174 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		}
 	}
 
+	/**
+	 * Creates the job building the index. The workspace projects and target
+	 * bundles are searched concurrently, the entries of the target jars are
+	 * taken from the jar cache if the jars are unchanged.
+	 */
+	private Job createIndexJob(final IProviderStatusCallback providerStatusCallback) {
+		return new Job(Messages.TargetPlatformContributionCollector_BuildTargetPlatformIndex) {
+
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				stale = false;
+				final IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
+				final IPluginModelBase[] models = TargetPlatformHelper.getPDEState().getTargetModels();
+				final int total = projects.length + models.length;
+				monitor.beginTask(Messages.TargetPlatformContributionCollector_updatingTargetPlatformCache
+						+ cacheName + ")", total); //$NON-NLS-1$
+
+				final TargetPlatformJarCache cache = getJarCache();
+				final List<String> jars = new ArrayList<>();
+				final List<String> names = new ArrayList<>(total);
+				final List<Callable<List<Entry>>> tasks = new ArrayList<>(total);
+				// load workspace projects
+				for (final IProject pj : projects) {
+					final IPath location = pj.getLocation();
+					if (location == null) {
+						continue;
+					}
+					final String rootDirectory = location.toOSString();
+					names.add(rootDirectory);
+					tasks.add(() -> {
+						final List<Entry> entries = new ArrayList<>();
+						visit(monitor, FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
+								new File(rootDirectory), entries);
+						return entries;
+					});
+				}
+
+				// load target platform bundles
+				for (final IPluginModelBase pluginModelBase : models) {
+					final IPluginBase pluginBase = pluginModelBase.getPluginBase();
+					final String installLocation = pluginModelBase.getInstallLocation();
+					if (pluginBase == null || installLocation == null) {
+						continue;
+					}
+					names.add(pluginBase.getId());
+					if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
+						final File jar = new File(installLocation);
+						jars.add(jar.getAbsolutePath());
+						tasks.add(() -> {
+							final List<Entry> entries = new ArrayList<>();
+							for (final String name : cache.getEntries(jar)) {
+								final Entry e = createEntry(name, installLocation, pluginBase.getId());
+								if (e != null) {
+									entries.add(e);
+								}
+							}
+							return entries;
+						});
+					} else {
+						// not a jar file
+						tasks.add(() -> {
+							final List<Entry> entries = new ArrayList<>();
+							final String bundle = getBundle(new File(installLocation));
+							if (bundle != null) {
+								visit(monitor, bundle, installLocation, new File(installLocation), entries);
+							}
+							return entries;
+						});
+					}
+				}
+
+				final List<Entry> entries = new ArrayList<>();
+				final int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), tasks.size()));
+				final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+					final Thread thread = new Thread(runnable, getName());
+					thread.setDaemon(true);
+					return thread;
+				});
+				try {
+					final List<Future<List<Entry>>> futures = new ArrayList<>(tasks.size());
+					for (final Callable<List<Entry>> task : tasks) {
+						futures.add(executor.submit(task));
+					}
+					for (int i = 0; i < futures.size() && !monitor.isCanceled(); i++) {
+						monitor.subTask(names.get(i));
+						try {
+							entries.addAll(futures.get(i).get());
+						} catch (final ExecutionException e) {
+							ILog.of(TargetPlatformContributionCollector.class).error(
+									"Unable to index " + names.get(i), e.getCause()); //$NON-NLS-1$
+						}
+						monitor.worked(1);
+					}
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					monitor.setCanceled(true);
+				} finally {
+					executor.shutdownNow();
+				}
+				cache.save(jars);
+
+				monitor.done();
+				if (monitor.isCanceled()) {
+					// keep the previous index rather than the partial entries,
+					// the next search builds it again
+					stale = true;
+					if (providerStatusCallback != null) {
+						providerStatusCallback.onStatusChanged(ProviderStatus.CANCELLED);
+					}
+					return Status.CANCEL_STATUS;
+				}
+				index = new TargetPlatformIndex(entries);
+				if (providerStatusCallback != null) {
+					providerStatusCallback.onStatusChanged(ProviderStatus.READY);
+				}
+				return Status.OK_STATUS;
+			}
+		};
+	}
+
+	private synchronized TargetPlatformJarCache getJarCache() {
+		if (jarCache == null) {
+			Path cacheFile = null;
+			final Bundle bundle = FrameworkUtil.getBundle(TargetPlatformContributionCollector.class);
+			if (bundle != null) {
+				cacheFile = Platform.getStateLocation(bundle).append(getClass().getSimpleName() + ".index").toPath(); //$NON-NLS-1$
+			}
+			jarCache = TargetPlatformJarCache.load(cacheFile, patternFile.pattern(),
+					name -> !shouldIgnore(name) && patternFile.matcher(name).matches());
+		}
+		return jarCache;
+	}
+
+	/**
+	 * Creates the entry of the given file of a bundle.
+	 *
+	 * @param name
+	 *            the path of the file relative to the bundle
+	 * @return the entry, or <code>null</code> if the file does not match the
+	 *         file pattern
+	 */
+	private Entry createEntry(String name, String installLocation, String bundleName) {
+		final Matcher m = patternFile.matcher(name);
+		if (!m.matches()) {
+			return null;
+		}
+		final Entry e = new Entry();
+		e.installLocation = installLocation;
+		e.name = m.group(2);
+		e.path = m.group(1);
+		if (e.path != null) {
+			e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
+			if (e.pakage.startsWith(".")) { //$NON-NLS-1$
+				e.pakage = e.pakage.substring(1);
+			}
+			if (e.pakage.endsWith(".")) { //$NON-NLS-1$
+				e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
+			}
+		} else {
+			e.pakage = ""; //$NON-NLS-1$
+		}
+		if (e.path == null) {
+			e.path = ""; //$NON-NLS-1$
+		}
+		e.bundleSymName = bundleName;
+		return e;
+	}
+
 	// @Refactor
 	static public String getBundle(File file) {
 		if (file.isDirectory() == false) {
@@ -505,55 +593,29 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		return null;
 	}
 
-	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file) {
+	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file,
+			List<Entry> entries) {
 		for (final File fChild : file.listFiles()) {
 			if (monitor.isCanceled()) {
 				break;
 			}
 			if (fChild.isDirectory()) {
-				visit(monitor, bundleName, installLocation, fChild);
+				visit(monitor, bundleName, installLocation, fChild, entries);
 			} else {
 				String name2 = fChild.getAbsolutePath().substring(installLocation.length() + 1);
 				name2 = stripOutputDirectory(name2, installLocation);
 				if (shouldIgnore(name2)) {
 					continue;
 				}
-				final Matcher m = patternFile.matcher(name2);
-				if (m.matches()) {
-					final Entry e = new Entry();
-					e.installLocation = installLocation;
-					cacheLocation.add(installLocation);
-					e.name = m.group(2);
-					if (e.name.contains("$")) { //$NON-NLS-1$
-						continue;
-					}
-					e.path = m.group(1);
-					if (e.path != null) {
-						e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-						if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-							e.pakage = e.pakage.substring(1);
-						}
-						if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-							e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-						}
-					} else {
-						e.pakage = ""; //$NON-NLS-1$
-					}
-					if (e.path == null) {
-						e.path = ""; //$NON-NLS-1$
-					}
-					e.relativePath = IPath
-							.fromOSString(file.getAbsolutePath().replace(e.installLocation, "")).makeRelative().toOSString(); //$NON-NLS-1$
-
-					e.bundleSymName = bundleName;
-					// TODO we need project to strip source paths.
-					// e.pakage = e.pakage.replaceAll("^bin.", "");
-					cachePackage.add(e.pakage);
-					cacheEntry.add(e);
-					if (bundleName != null) {
-						cacheBundleId.add(bundleName);
-					}
+				final Entry e = createEntry(name2, installLocation, bundleName);
+				if (e == null || e.name.contains("$")) { //$NON-NLS-1$
+					continue;
 				}
+				e.relativePath = IPath
+						.fromOSString(file.getAbsolutePath().replace(e.installLocation, "")).makeRelative().toOSString(); //$NON-NLS-1$
+				// TODO we need project to strip source paths.
+				// e.pakage = e.pakage.replaceAll("^bin.", "");
+				entries.add(e);
 			}
 		}
 
@@ -576,7 +638,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 * A cache of the output directories for install locations (if install
 	 * location has a classpath file with appropriate output entries)
 	 */
-	static private HashMap<String, List<String>> outputDirectories = new HashMap<>();
+	static private Map<String, List<String>> outputDirectories = new ConcurrentHashMap<>();
 
 	// Returns the Eclipse output directories for an install location. The
 	// directories are relative to the install location.
@@ -585,7 +647,6 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		List<String> ret = outputDirectories.get(installLocation);
 		if (ret == null) {
 			ret = new ArrayList<>();
-			outputDirectories.put(installLocation, ret);
 			try {
 				File file = new File(installLocation + File.separator + ".classpath"); //$NON-NLS-1$
 				final Document doc = XmlProcessorFactory.parseWithErrorOnDOCTYPE(file);
@@ -598,6 +659,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				}
 			} catch (final Exception e) {
 			}
+			outputDirectories.put(installLocation, ret);
 		}
 		return ret;
 	}
@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+
+/**
+ * Immutable index of the entries found by a
+ * {@link TargetPlatformContributionCollector}, with the bundles, packages and
+ * locations they are found in.
+ * <p>
+ * The entries are sorted by name and the distinct names are indexed by the
+ * trigrams they contain, ignoring case. A search only tests the names
+ * containing all trigrams of the literal parts of the name pattern, so typing
+ * in the contribution dialogs does not scan all entries.
+ * </p>
+ */
+final class TargetPlatformIndex {
+
+	static final TargetPlatformIndex EMPTY = new TargetPlatformIndex(List.of());
+
+	private static final Pattern WILDCARDS = Pattern.compile("[*?]"); //$NON-NLS-1$
+
+	/**
+	 * The entries, sorted by their folded names
+	 */
+	private final Entry[] fEntries;
+
+	/**
+	 * The index of the first entry of each distinct folded name, followed by
+	 * the number of entries
+	 */
+	private final int[] fNameStarts;
+
+	/**
+	 * The ascending indexes of the distinct names containing each trigram
+	 */
+	private final Map<Long, int[]> fTrigrams;
+
+	private final Set<String> fBundleIds = new HashSet<>();
+	private final Set<String> fPackages = new HashSet<>();
+	private final Set<String> fLocations = new HashSet<>();
+
+	TargetPlatformIndex(Collection<Entry> entries) {
+		final List<Entry> sorted = new ArrayList<>(entries.size());
+		final Map<Entry, String> foldedNames = new HashMap<>(entries.size() * 4 / 3 + 1);
+		for (final Entry e : entries) {
+			sorted.add(e);
+			foldedNames.put(e, fold(e.name));
+			if (e.bundleSymName != null) {
+				fBundleIds.add(e.bundleSymName);
+			}
+			fPackages.add(e.pakage);
+			fLocations.add(e.installLocation);
+		}
+		sorted.sort(Comparator.comparing(foldedNames::get));
+		fEntries = sorted.toArray(new Entry[sorted.size()]);
+
+		final int[] nameStarts = new int[fEntries.length + 1];
+		final Map<Long, int[]> trigrams = new HashMap<>();
+		int names = 0;
+		String previous = null;
+		for (int i = 0; i < fEntries.length; i++) {
+			final String name = foldedNames.get(fEntries[i]);
+			if (name.equals(previous)) {
+				continue;
+			}
+			previous = name;
+			nameStarts[names] = i;
+			for (int j = 0; j + 3 <= name.length(); j++) {
+				// postings are grown by doubling, with their size in the first slot
+				int[] posting = trigrams.get(trigram(name, j));
+				if (posting == null) {
+					posting = new int[] { 0, 0, 0, 0 };
+					trigrams.put(trigram(name, j), posting);
+				} else if (posting[posting[0]] == names) {
+					continue;
+				} else if (posting[0] + 1 == posting.length) {
+					posting = Arrays.copyOf(posting, posting.length * 2);
+					trigrams.put(trigram(name, j), posting);
+				}
+				posting[++posting[0]] = names;
+			}
+			names++;
+		}
+		nameStarts[names] = fEntries.length;
+		fNameStarts = Arrays.copyOf(nameStarts, names + 1);
+		trigrams.replaceAll((trigram, posting) -> Arrays.copyOfRange(posting, 1, posting[0] + 1));
+		fTrigrams = trigrams;
+	}
+
+	int size() {
+		return fEntries.length;
+	}
+
+	Set<String> getBundleIds() {
+		return Collections.unmodifiableSet(fBundleIds);
+	}
+
+	Set<String> getPackages() {
+		return Collections.unmodifiableSet(fPackages);
+	}
+
+	Set<String> getLocations() {
+		return Collections.unmodifiableSet(fLocations);
+	}
+
+	/**
+	 * Returns the entries whose name contains a match of the given pattern, in
+	 * the order of their names. The stream is lazy, so a search stopping after
+	 * some results only tests the names needed to find them.
+	 *
+	 * @param namePattern
+	 *            the name pattern as entered by the user, with <code>*</code>
+	 *            and <code>?</code> wildcards
+	 * @param pattern
+	 *            the case insensitive regular expression of the name pattern
+	 * @return the matching entries
+	 */
+	Stream<Entry> find(String namePattern, Pattern pattern) {
+		final int[] candidates = getCandidates(namePattern);
+		final IntStream names = candidates != null ? Arrays.stream(candidates)
+				: IntStream.range(0, fNameStarts.length - 1);
+		return names.filter(name -> pattern.matcher(fEntries[fNameStarts[name]].name).find())
+				.boxed()
+				.flatMap(name -> Arrays.stream(fEntries, fNameStarts[name], fNameStarts[name + 1]));
+	}
+
+	/**
+	 * Returns the ascending indexes of the names containing all trigrams of the
+	 * literal parts of the given name pattern, or <code>null</code> if the
+	 * pattern has no trigram and all names have to be tested.
+	 */
+	private int[] getCandidates(String namePattern) {
+		List<int[]> postings = new ArrayList<>();
+		for (final String literal : WILDCARDS.split(fold(namePattern))) {
+			for (int j = 0; j + 3 <= literal.length(); j++) {
+				final int[] posting = fTrigrams.get(trigram(literal, j));
+				if (posting == null) {
+					return new int[0];
+				}
+				postings.add(posting);
+			}
+		}
+		if (postings.isEmpty()) {
+			return null;
+		}
+		postings.sort(Comparator.comparingInt(posting -> posting.length));
+		int[] candidates = postings.get(0);
+		for (int i = 1; i < postings.size() && candidates.length > 0; i++) {
+			candidates = intersect(candidates, postings.get(i));
+		}
+		return candidates;
+	}
+
+	private static int[] intersect(int[] a, int[] b) {
+		final int[] result = new int[Math.min(a.length, b.length)];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) {
+				i++;
+			} else if (a[i] > b[j]) {
+				j++;
+			} else {
+				result[size++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	private static long trigram(String s, int index) {
+		return ((long) s.charAt(index) << 32) | ((long) s.charAt(index + 1) << 16) | s.charAt(index + 2);
+	}
+
+	/**
+	 * Folds the case of the given string char by char, like a case insensitive
+	 * regular expression compares chars.
+	 */
+	private static String fold(String s) {
+		final char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.ILog;
+
+/**
+ * Persistent cache of the names of the entries of the target platform jars a
+ * {@link TargetPlatformContributionCollector} indexes. The names are read from
+ * the central directory of the jars, and each cached jar is only used if its
+ * length and modification time are unchanged, so only new or changed jars are
+ * read again after a restart or a change of the target platform.
+ * <p>
+ * This class is thread safe, jars can be read concurrently.
+ * </p>
+ */
+final class TargetPlatformJarCache {
+
+	/**
+	 * Version of the cache file format, must be incremented whenever the format
+	 * changes
+	 */
+	private static final int VERSION = 1;
+
+	private record Jar(long length, long lastModified, List<String> entries) {
+	}
+
+	/**
+	 * The cache file, or <code>null</code> if the cache is not persisted
+	 */
+	private final Path fCacheFile;
+
+	/**
+	 * Identifies the entries the cache holds, entries of a cache file written
+	 * for a different filter are discarded
+	 */
+	private final String fFilterId;
+
+	private final Predicate<String> fFilter;
+
+	private final Map<String, Jar> fJars = new ConcurrentHashMap<>();
+
+	private volatile boolean fChanged;
+
+	private TargetPlatformJarCache(Path cacheFile, String filterId, Predicate<String> filter) {
+		fCacheFile = cacheFile;
+		fFilterId = filterId;
+		fFilter = filter;
+	}
+
+	/**
+	 * Loads the cache from the given file. An empty cache is returned if the
+	 * file is missing, corrupt or of a different version or filter.
+	 *
+	 * @param cacheFile
+	 *            the file to persist the cache in, or <code>null</code> if the
+	 *            cache is not persisted
+	 * @param filterId
+	 *            identifies the filter, e.g. its pattern
+	 * @param filter
+	 *            selects the entry names to cache
+	 * @return the cache, never <code>null</code>
+	 */
+	static TargetPlatformJarCache load(Path cacheFile, String filterId, Predicate<String> filter) {
+		final TargetPlatformJarCache cache = new TargetPlatformJarCache(cacheFile, filterId, filter);
+		if (cacheFile == null) {
+			return cache;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+			if (in.readInt() == VERSION && in.readUTF().equals(filterId)) {
+				final int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					final String location = in.readUTF();
+					final long length = in.readLong();
+					final long lastModified = in.readLong();
+					final int size = in.readInt();
+					final String[] entries = new String[size];
+					for (int j = 0; j < size; j++) {
+						entries[j] = in.readUTF();
+					}
+					cache.fJars.put(location, new Jar(length, lastModified, List.of(entries)));
+				}
+			}
+		} catch (final NoSuchFileException e) {
+			// no cache yet
+		} catch (final IOException e) {
+			cache.fJars.clear();
+			ILog.of(TargetPlatformJarCache.class).error("Unable to read " + cacheFile, e); //$NON-NLS-1$
+		}
+		return cache;
+	}
+
+	/**
+	 * Returns the names of the entries of the given jar accepted by the filter
+	 * of this cache, from the cache if the jar is unchanged. Otherwise the names
+	 * are read from the central directory of the jar, without inflating any
+	 * entry.
+	 *
+	 * @param jar
+	 *            the jar
+	 * @return the entry names, must not be modified
+	 * @throws IOException
+	 *             if the jar can not be read
+	 */
+	List<String> getEntries(File jar) throws IOException {
+		final String location = jar.getAbsolutePath();
+		final long length = jar.length();
+		final long lastModified = jar.lastModified();
+		Jar cached = fJars.get(location);
+		if (cached == null || cached.length() != length || cached.lastModified() != lastModified) {
+			final List<String> entries = new ArrayList<>();
+			try (ZipFile zipFile = new ZipFile(jar)) {
+				final Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+				while (zipEntries.hasMoreElements()) {
+					final ZipEntry entry = zipEntries.nextElement();
+					if (!entry.isDirectory() && fFilter.test(entry.getName())) {
+						entries.add(entry.getName());
+					}
+				}
+			}
+			cached = new Jar(length, lastModified, List.copyOf(entries));
+			fJars.put(location, cached);
+			fChanged = true;
+		}
+		return cached.entries();
+	}
+
+	/**
+	 * Writes the given jars to the cache file, if any jar was read since the
+	 * last save. Jars no longer in the target platform are dropped.
+	 *
+	 * @param locations
+	 *            the absolute locations of the jars of the target platform
+	 */
+	void save(Collection<String> locations) {
+		if (fJars.keySet().retainAll(locations)) {
+			fChanged = true;
+		}
+		if (!fChanged || fCacheFile == null) {
+			return;
+		}
+		fChanged = false;
+		final List<Map.Entry<String, Jar>> jars = new ArrayList<>(fJars.entrySet());
+		Path tempFile = null;
+		try {
+			tempFile = Files.createTempFile(fCacheFile.getParent(), fCacheFile.getFileName().toString(), ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(fFilterId);
+				out.writeInt(jars.size());
+				for (final Map.Entry<String, Jar> stored : jars) {
+					final Jar jar = stored.getValue();
+					out.writeUTF(stored.getKey());
+					out.writeLong(jar.length());
+					out.writeLong(jar.lastModified());
+					out.writeInt(jar.entries().size());
+					for (final String entry : jar.entries()) {
+						out.writeUTF(entry);
+					}
+				}
+			}
+			Files.move(tempFile, fCacheFile, StandardCopyOption.REPLACE_EXISTING);
+		} catch (final IOException e) {
+			ILog.of(TargetPlatformJarCache.class).error("Unable to write " + fCacheFile, e); //$NON-NLS-1$
+			if (tempFile != null) {
+				tempFile.toFile().delete();
+			}
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+import org.eclipse.pde.internal.core.util.PatternConstructor;
+import org.junit.Test;
+
+/**
+ * Tests that searching a {@link TargetPlatformIndex} finds the same entries as
+ * matching the name pattern against the names of all entries.
+ */
+@SuppressWarnings("restriction")
+public class TargetPlatformIndexTest {
+
+	private static final String[] NAMES = { "ModelEditor", "modeleditor", "MODELEDITOR2", "AbstractPart", "Part", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			"PartStack", "partStackRenderer", "Ab", "a", "", "x_y.z", "a\\b", "Straße", "STRASSE", "İstanbul", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+			"ıstanbul", "ǅungla", "Kelvin", "Kelvin" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	private static final String[] PATTERNS = { "", "*", "?", "**", "a", "A", "ab", "AB", "par", "PART", "part*", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$
+			"*stack", "p?rt", "p*t*k", "mod?leditor", "odelEdi", "editor2", "xyz", "abstractpart", "?a?", "x_y", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$
+			"y.z", "\\", "a\\b", "strasse", "straße", "STRAßE", "istanbul", "İST", "ISTANBUL", "ǆung", "DŽUNG", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$
+			"kelvin", "KELVIN", "Kel" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	@Test
+	public void testFindMatchesLinearScan() {
+		final List<Entry> entries = new ArrayList<>();
+		for (final String name : NAMES) {
+			entries.add(createEntry(name, "bundle")); //$NON-NLS-1$
+			// entries of the same name in different bundles
+			entries.add(createEntry(name, "other")); //$NON-NLS-1$
+		}
+		final TargetPlatformIndex index = new TargetPlatformIndex(entries);
+		assertEquals(entries.size(), index.size());
+		for (final String namePattern : PATTERNS) {
+			assertFound(entries, index, namePattern);
+		}
+	}
+
+	@Test
+	public void testFindMatchesLinearScanOfRandomNames() {
+		final Random random = new Random(42);
+		final String alphabet = "aAbBcC._xİıß"; //$NON-NLS-1$
+		final List<Entry> entries = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			entries.add(createEntry(randomString(random, alphabet, 8), "bundle" + i % 10)); //$NON-NLS-1$
+		}
+		final TargetPlatformIndex index = new TargetPlatformIndex(entries);
+		for (int i = 0; i < 500; i++) {
+			assertFound(entries, index, randomString(random, alphabet + "*?", 5)); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void testEmptyIndex() {
+		assertEquals(0, TargetPlatformIndex.EMPTY.size());
+		assertFound(List.of(), TargetPlatformIndex.EMPTY, "part"); //$NON-NLS-1$
+		assertFound(List.of(), TargetPlatformIndex.EMPTY, "a"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Asserts that the index finds the entries whose name contains a match of
+	 * the name pattern, in the order of their names
+	 */
+	private static void assertFound(List<Entry> entries, TargetPlatformIndex index, String namePattern) {
+		final Pattern pattern = PatternConstructor.createPattern(namePattern, false);
+		final List<Entry> expected = entries.stream().filter(e -> pattern.matcher(e.name).find()).toList();
+		final List<Entry> found = index.find(namePattern, pattern).toList();
+		assertEquals(namePattern, expected.size(), found.size());
+		assertEquals(namePattern, new HashSet<>(expected), new HashSet<>(found));
+		for (int i = 1; i < found.size(); i++) {
+			assertTrue(namePattern, String.CASE_INSENSITIVE_ORDER.compare(found.get(i - 1).name, found.get(i).name) <= 0);
+		}
+	}
+
+	private static String randomString(Random random, String alphabet, int maxLength) {
+		final int length = random.nextInt(maxLength + 1);
+		final StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return builder.toString();
+	}
+
+	private static Entry createEntry(String name, String bundle) {
+		final Entry e = new Entry();
+		e.name = name;
+		e.path = "a/b"; //$NON-NLS-1$
+		e.pakage = "a.b"; //$NON-NLS-1$
+		e.installLocation = "/target/" + bundle + ".jar"; //$NON-NLS-1$ //$NON-NLS-2$
+		e.bundleSymName = bundle;
+		return e;
+	}
+}
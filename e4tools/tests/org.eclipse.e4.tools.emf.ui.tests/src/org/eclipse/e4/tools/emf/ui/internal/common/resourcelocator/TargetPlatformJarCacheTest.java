@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the {@link TargetPlatformJarCache} only reads new or changed jars.
+ */
+public class TargetPlatformJarCacheTest {
+
+	private static final String FILTER_ID = ".*\\.class"; //$NON-NLS-1$
+
+	private static final Predicate<String> FILTER = name -> name.endsWith(".class"); //$NON-NLS-1$
+
+	private static final long LAST_MODIFIED = 1_000_000_000_000L;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File jar;
+
+	private Path cacheFile;
+
+	@Before
+	public void setUp() throws IOException {
+		jar = new File(folder.getRoot(), "bundle.jar"); //$NON-NLS-1$
+		cacheFile = folder.getRoot().toPath().resolve("cache.index"); //$NON-NLS-1$
+		writeJar("a/A.class", "a/readme.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testEntriesAreFiltered() throws IOException {
+		final TargetPlatformJarCache cache = TargetPlatformJarCache.load(null, FILTER_ID, FILTER);
+		assertEquals(List.of("a/A.class"), cache.getEntries(jar)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testUnchangedJarIsNotReadAgain() throws IOException {
+		final TargetPlatformJarCache cache = TargetPlatformJarCache.load(null, FILTER_ID, FILTER);
+		assertEquals(List.of("a/A.class"), cache.getEntries(jar)); //$NON-NLS-1$
+		final long length = jar.length();
+		// different entries of the same length and modification time
+		writeJar("a/B.class", "a/readme.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(length, jar.length());
+		assertEquals(List.of("a/A.class"), cache.getEntries(jar)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testModifiedJarIsReadAgain() throws IOException {
+		final TargetPlatformJarCache cache = TargetPlatformJarCache.load(null, FILTER_ID, FILTER);
+		cache.getEntries(jar);
+		final long length = jar.length();
+		writeJar("a/B.class", "a/readme.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(length, jar.length());
+		assertTrue(jar.setLastModified(LAST_MODIFIED + 10_000));
+		assertEquals(List.of("a/B.class"), cache.getEntries(jar)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testResizedJarIsReadAgain() throws IOException {
+		final TargetPlatformJarCache cache = TargetPlatformJarCache.load(null, FILTER_ID, FILTER);
+		cache.getEntries(jar);
+		final long length = jar.length();
+		writeJar("a/B.class", "a/C.class", "a/readme.txt"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(length != jar.length());
+		assertEquals(LAST_MODIFIED, jar.lastModified());
+		assertEquals(List.of("a/B.class", "a/C.class"), cache.getEntries(jar)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testCacheIsPersisted() throws IOException {
+		TargetPlatformJarCache cache = TargetPlatformJarCache.load(cacheFile, FILTER_ID, FILTER);
+		cache.getEntries(jar);
+		cache.save(List.of(jar.getAbsolutePath()));
+		writeJar("a/B.class", "a/readme.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// the entries of the unchanged jar are loaded from the cache file
+		cache = TargetPlatformJarCache.load(cacheFile, FILTER_ID, FILTER);
+		assertEquals(List.of("a/A.class"), cache.getEntries(jar)); //$NON-NLS-1$
+
+		// but not for a different filter
+		cache = TargetPlatformJarCache.load(cacheFile, "other", FILTER); //$NON-NLS-1$
+		assertEquals(List.of("a/B.class"), cache.getEntries(jar)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRemovedJarIsDropped() throws IOException {
+		TargetPlatformJarCache cache = TargetPlatformJarCache.load(cacheFile, FILTER_ID, FILTER);
+		cache.getEntries(jar);
+		cache.save(List.of(jar.getAbsolutePath()));
+		cache.save(List.of());
+		writeJar("a/B.class", "a/readme.txt"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		cache = TargetPlatformJarCache.load(cacheFile, FILTER_ID, FILTER);
+		assertEquals(List.of("a/B.class"), cache.getEntries(jar)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Writes the test jar with the given entries, of the same content and
+	 * modification time
+	 */
+	private void writeJar(String... names) throws IOException {
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+			for (final String name : names) {
+				final ZipEntry entry = new ZipEntry(name);
+				entry.setTime(LAST_MODIFIED);
+				out.putNextEntry(entry);
+				out.write(new byte[] { 1, 2, 3 });
+				out.closeEntry();
+			}
+		}
+		assertTrue(jar.setLastModified(LAST_MODIFIED));
+	}
+}
@@ -180,9 +180,12 @@ public class LoadTargetDefinitionJob extends WorkspaceJob {
 		EclipseHomeInitializer.resetEclipseHomeVariable();
 		PDECore.getDefault().getSourceLocationManager().reset();
 		PDECore.getDefault().getJavadocLocationManager().reset();
-		PDECore.getDefault().getExtensionsRegistry().targetReloaded();
-		PDECore.getDefault().getModelManager().targetReloaded(monitor); // PluginModelManager should be reloaded first to reset isCancelled() flag
+		// the extension registry is updated or reloaded by the model manager
+		PDECore.getDefault().getModelManager().targetChanged(monitor); // PluginModelManager should be reloaded first to reset isCancelled() flag
 		PDECore.getDefault().getFeatureModelManager().targetReloaded();
+		if (PDECore.getDefault().getPreferencesManager().getBoolean(ICoreConstants.PRELOAD_SCHEMAS)) {
+			PDECore.getDefault().getSchemaRegistry().preloadWorkspaceSchemas();
+		}
 	}
 
 }
\ No newline at end of file
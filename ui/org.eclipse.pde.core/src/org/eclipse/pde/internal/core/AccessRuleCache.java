@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.osgi.service.resolver.StateHelper;
+import org.eclipse.pde.internal.core.PDEClasspathContainer.Rule;
+
+/**
+ * Caches the access rules of the packages exported by the bundles of the
+ * state, as seen by the bundles importing them.
+ * <p>
+ * The rules an importer gets for the packages of an exporter only depend on
+ * the packages of the exporter visible to the importer and, if the exporter
+ * restricts packages to friends, on the name of the importer. The rule lists
+ * are cached for these keys, so the rules of popular bundles are computed once
+ * for all of their dependents and identical rule lists, and the access rule
+ * arrays of the classpath entries created for them, are shared. The rules of
+ * an exporter are dropped when the resolver reports a change of the exporter.
+ * </p>
+ */
+final class AccessRuleCache implements IStateDeltaListener {
+
+	/**
+	 * The number of cached rule lists or access rule arrays after which the
+	 * cache is cleared, limiting the rules of replaced bundles retained
+	 */
+	private static final int MAX_SIZE = 20_000;
+
+	private static final AccessRuleCache INSTANCE = new AccessRuleCache();
+
+	/**
+	 * @param exporter the bundle exporting the packages
+	 * @param importer the name of the importer if the exporter has friends,
+	 *            otherwise <code>null</code>
+	 * @param exports the packages of the exporter visible to the importer
+	 */
+	private record Key(BundleDescription exporter, String importer, List<ExportPackageDescription> exports) {
+	}
+
+	private final Map<Key, List<Rule>> fRules = new HashMap<>();
+	private final Map<List<Rule>, List<Rule>> fRuleLists = new HashMap<>();
+	private final Map<List<Rule>, IAccessRule[]> fAccessRules = new HashMap<>();
+	private final Map<BundleDescription, Boolean> fHasFriends = new HashMap<>();
+
+	private AccessRuleCache() {
+	}
+
+	static AccessRuleCache getDefault() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Starts to drop the cached rules of the bundles changed in the state of
+	 * the target platform.
+	 */
+	static void start() {
+		PDECore.getDefault().getModelManager().addStateDeltaListener(INSTANCE);
+	}
+
+	static void stop() {
+		PDECore.getDefault().getModelManager().removeStateDeltaListener(INSTANCE);
+		INSTANCE.clear();
+	}
+
+	/**
+	 * Returns the visible packages of the given bundle grouped by their
+	 * exporters, as rules the bundle has to access them with.
+	 *
+	 * @param helper the helper to compute the visible packages with
+	 * @param importer the bundle importing the packages
+	 * @return the rules by exporter, the lists of rules must not be modified
+	 */
+	Map<BundleDescription, List<Rule>> getVisiblePackageRules(StateHelper helper, BundleDescription importer) {
+		Map<BundleDescription, List<ExportPackageDescription>> exportsByExporter = new HashMap<>();
+		for (ExportPackageDescription export : helper.getVisiblePackages(importer)) {
+			BundleDescription exporter = export.getExporter();
+			if (exporter != null) {
+				exportsByExporter.computeIfAbsent(exporter, e -> new ArrayList<>()).add(export);
+			}
+		}
+		Map<BundleDescription, List<Rule>> rules = new HashMap<>(exportsByExporter.size() * 4 / 3 + 1);
+		synchronized (this) {
+			for (Map.Entry<BundleDescription, List<ExportPackageDescription>> entry : exportsByExporter.entrySet()) {
+				BundleDescription exporter = entry.getKey();
+				String importerName = hasFriends(exporter) ? importer.getSymbolicName() : null;
+				Key key = new Key(exporter, importerName, entry.getValue());
+				List<Rule> exporterRules = fRules.get(key);
+				if (exporterRules == null) {
+					exporterRules = share(computeRules(helper, importer, entry.getValue()));
+					if (fRules.size() >= MAX_SIZE) {
+						fRules.clear();
+					}
+					fRules.put(key, exporterRules);
+				}
+				rules.put(exporter, exporterRules);
+			}
+		}
+		return rules;
+	}
+
+	/**
+	 * Returns the given rules merged with the other given rules, sharing the
+	 * merged list if it is new.
+	 */
+	synchronized List<Rule> merge(List<Rule> rules, List<Rule> otherRules) {
+		List<Rule> merged = new ArrayList<>(rules);
+		for (Rule rule : otherRules) {
+			if (!merged.contains(rule)) {
+				merged.add(rule);
+			}
+		}
+		return merged.size() == rules.size() ? rules : share(merged);
+	}
+
+	/**
+	 * Returns the access rules of the given rules, sharing the array between
+	 * all equal lists of rules. The array must not be modified.
+	 */
+	synchronized IAccessRule[] getAccessRules(List<Rule> rules) {
+		IAccessRule[] accessRules = fAccessRules.get(rules);
+		if (accessRules == null) {
+			accessRules = PDEClasspathContainer.createAccessRules(rules);
+			if (fAccessRules.size() >= MAX_SIZE) {
+				fAccessRules.clear();
+			}
+			fAccessRules.put(List.copyOf(rules), accessRules);
+		}
+		return accessRules;
+	}
+
+	private static List<Rule> computeRules(StateHelper helper, BundleDescription importer,
+			List<ExportPackageDescription> exports) {
+		Set<Rule> rules = new LinkedHashSet<>();
+		for (ExportPackageDescription export : exports) {
+			boolean discouraged = helper.getAccessCode(importer, export) == StateHelper.ACCESS_DISCOURAGED;
+			String name = export.getName();
+			IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			rules.add(new Rule(path, discouraged));
+		}
+		return List.copyOf(rules);
+	}
+
+	private List<Rule> share(List<Rule> rules) {
+		List<Rule> shared = fRuleLists.get(rules);
+		if (shared == null) {
+			if (fRuleLists.size() >= MAX_SIZE) {
+				fRuleLists.clear();
+			}
+			shared = List.copyOf(rules);
+			fRuleLists.put(shared, shared);
+		}
+		return shared;
+	}
+
+	private boolean hasFriends(BundleDescription exporter) {
+		return fHasFriends.computeIfAbsent(exporter, e -> {
+			for (ExportPackageDescription export : e.getExportPackages()) {
+				if (export.getDirective(ICoreConstants.FRIENDS_DIRECTIVE) != null) {
+					return Boolean.TRUE;
+				}
+			}
+			return Boolean.FALSE;
+		});
+	}
+
+	synchronized void clear() {
+		fRules.clear();
+		fRuleLists.clear();
+		fAccessRules.clear();
+		fHasFriends.clear();
+	}
+
+	@Override
+	public synchronized void stateResolved(StateDelta delta) {
+		if (delta == null) {
+			clear();
+			return;
+		}
+		BundleDelta[] changes = delta.getChanges();
+		if (changes.length == 0) {
+			return;
+		}
+		Set<BundleDescription> changed = new HashSet<>(changes.length * 4 / 3 + 1);
+		for (BundleDelta change : changes) {
+			changed.add(change.getBundle());
+		}
+		fRules.keySet().removeIf(key -> changed.contains(key.exporter()));
+		fHasFriends.keySet().removeAll(changed);
+	}
+
+	@Override
+	public void stateChanged(State newState) {
+		clear();
+	}
+}
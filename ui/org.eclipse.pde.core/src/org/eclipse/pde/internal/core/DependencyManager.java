@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -20,15 +20,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.core.target.ITargetPlatformService;
@@ -53,6 +57,71 @@ public class DependencyManager {
 	private DependencyManager() { // static use only
 	}
 
+	/**
+	 * Caches the requirements closures of single bundles of the state they
+	 * were last computed for. Fragments and the requirements declared by
+	 * fragments are not part of the cached closures, they are added whenever a
+	 * closure is requested, since whether a fragment is a test fragment
+	 * depends on the classpath of its project rather than on the state.
+	 */
+	private static final class ClosureCache implements IStateDeltaListener {
+		private State fState;
+		private long fTimestamp;
+		private final Map<BundleDescription, BundleDescription[]> fClosures = new HashMap<>();
+		private final Map<BundleDescription, BundleDescription[]> fOptionalClosures = new HashMap<>();
+
+		synchronized BundleDescription[] getClosure(BundleDescription bundle, boolean includeOptional) {
+			State state = bundle.getContainingState();
+			if (state == null) {
+				// removed from its state
+				return computeRequirementsClosure(bundle, includeOptional, Collections.emptyMap());
+			}
+			if (state != fState || state.getTimeStamp() != fTimestamp) {
+				clear();
+				fState = state;
+				fTimestamp = state.getTimeStamp();
+			}
+			Map<BundleDescription, BundleDescription[]> closures = includeOptional ? fOptionalClosures : fClosures;
+			BundleDescription[] closure = closures.get(bundle);
+			if (closure == null) {
+				closure = computeRequirementsClosure(bundle, includeOptional, closures);
+				closures.put(bundle, closure);
+			}
+			return closure;
+		}
+
+		synchronized void clear() {
+			fState = null;
+			fClosures.clear();
+			fOptionalClosures.clear();
+		}
+
+		@Override
+		public void stateResolved(StateDelta delta) {
+			clear();
+		}
+
+		@Override
+		public void stateChanged(State newState) {
+			clear();
+		}
+	}
+
+	private static final ClosureCache CLOSURE_CACHE = new ClosureCache();
+
+	/**
+	 * Starts to clear the cached requirements closures whenever the state of
+	 * the target platform changes.
+	 */
+	static void start() {
+		PDECore.getDefault().getModelManager().addStateDeltaListener(CLOSURE_CACHE);
+	}
+
+	static void stop() {
+		PDECore.getDefault().getModelManager().removeStateDeltaListener(CLOSURE_CACHE);
+		CLOSURE_CACHE.clear();
+	}
+
 	public enum Options {
 		/** Specifies to include all optional dependencies into the closure. */
 		INCLUDE_OPTIONAL_DEPENDENCIES,
@@ -151,6 +220,11 @@ public class DependencyManager {
 	 * dependencies. So it is the self-contained closure for all required
 	 * dependencies of the given set of plug-ins.
 	 * </p>
+	 * <p>
+	 * The closures of the single bundles are cached for the state they belong
+	 * to, as long as the state does not change, and shared between the
+	 * closures of different bundles requiring them.
+	 * </p>
 	 *
 	 * @param bundles
 	 *            the group of {@link BundleDescription}s to compute
@@ -171,37 +245,106 @@ public class DependencyManager {
 		}
 
 		Set<BundleDescription> closure = new HashSet<>(bundles.size() * 4 / 3 + 1);
-		Queue<BundleDescription> pending = new ArrayDeque<>(bundles.size());
+		Queue<BundleDescription> added = new ArrayDeque<>(bundles.size());
 
-		// initialize with given bundles
+		// initialize with the closures of the given bundles
 		for (BundleDescription bundle : bundles) {
-			addNewRequiredBundle(bundle, closure, pending);
+			addRequirementsClosure(bundle, includeOptional, closure, added);
+		}
+
+		// add the fragments and the requirements declared by fragments, which
+		// are not part of the cached closures
+		while (!added.isEmpty()) {
+			BundleDescription bundle = added.remove();
+
+			for (BundleDescription fragment : bundle.getFragments()) {
+				if (closure.contains(fragment)) {
+					addFragmentRequirements(bundle, fragment, includeOptional, closure, added);
+				} else if (includeAllFragments || (includeNonTestFragments && !isTestWorkspaceProject(fragment))) {
+					addRequirementsClosure(fragment, includeOptional, closure, added);
+				}
+			}
+
+			HostSpecification host = bundle.getHost();
+			if (host != null && host.getHosts() != null) {
+				for (BundleDescription hostBundle : host.getHosts()) {
+					if (closure.contains(hostBundle)) {
+						addFragmentRequirements(hostBundle, bundle, includeOptional, closure, added);
+					}
+				}
+			}
+		}
+		return closure;
+	}
+
+	/**
+	 * Adds the cached closure of the given bundle to the given closure,
+	 * remembering the added bundles in the given queue
+	 */
+	private static void addRequirementsClosure(BundleDescription bundle, boolean includeOptional,
+			Set<BundleDescription> closure, Queue<BundleDescription> added) {
+		if (bundle == null || closure.contains(bundle)) {
+			// the closure of a contained bundle is contained as well
+			return;
+		}
+		for (BundleDescription required : CLOSURE_CACHE.getClosure(bundle, includeOptional)) {
+			if (closure.add(required)) {
+				added.add(required);
+			}
+		}
+	}
+
+	/**
+	 * Adds the closures of the requirements the given fragment declares on the
+	 * given host to the given closure
+	 */
+	private static void addFragmentRequirements(BundleDescription host, BundleDescription fragment,
+			boolean includeOptional, Set<BundleDescription> closure, Queue<BundleDescription> added) {
+		BundleWiring wiring = host.getWiring();
+		if (wiring == null || !wiring.isInUse()) {
+			return;
+		}
+		for (BundleWire wire : wiring.getRequiredWires(null)) {
+			if (wire.getRequirement().getRevision() == fragment
+					&& wire.getCapability().getRevision() instanceof BundleDescription requiredBundle
+					&& (includeOptional || !isOptional(wire.getRequirement()))) {
+				addRequirementsClosure(requiredBundle, includeOptional, closure, added);
+			}
 		}
+	}
+
+	/**
+	 * Computes the closure of the given bundle and the bundles required by
+	 * the requirements they declare themselves, excluding the requirements
+	 * declared by attached fragments. The closures of required bundles that
+	 * are already known are added as a whole instead of being traversed again.
+	 */
+	private static BundleDescription[] computeRequirementsClosure(BundleDescription root, boolean includeOptional,
+			Map<BundleDescription, BundleDescription[]> knownClosures) {
+		Set<BundleDescription> closure = new HashSet<>();
+		Queue<BundleDescription> pending = new ArrayDeque<>();
+		addNewRequiredBundle(root, closure, pending);
 
 		// perform exhaustive iterative bfs for required wires
 		while (!pending.isEmpty()) {
 			BundleDescription bundle = pending.remove();
 
-			BundleWiring wiring = bundle.getWiring();
-			if (wiring == null || !wiring.isInUse()) {
+			BundleDescription[] known = bundle != root ? knownClosures.get(bundle) : null;
+			if (known != null) {
+				Collections.addAll(closure, known);
 				continue;
 			}
 
-			if (includeAllFragments || includeNonTestFragments) {
-				// A fragment's host is already required by a wire
-				for (BundleDescription fragment : bundle.getFragments()) {
-					if (includeAllFragments || !isTestWorkspaceProject(fragment)) {
-						addNewRequiredBundle(fragment, closure, pending);
-					}
-				}
+			BundleWiring wiring = bundle.getWiring();
+			if (wiring == null || !wiring.isInUse()) {
+				continue;
 			}
 
 			List<BundleWire> requiredWires = wiring.getRequiredWires(null);
 			for (BundleWire wire : requiredWires) {
-				BundleRevision declaringBundle = wire.getRequirement().getRevision();
-				if (declaringBundle != bundle && !closure.contains(declaringBundle)) {
+				if (wire.getRequirement().getRevision() != bundle) {
 					// Requirement is declared by an attached fragment, which is
-					// not included into the closure.
+					// only included if the fragment is part of the closure.
 					continue;
 				}
 				BundleRevision provider = wire.getCapability().getRevision();
@@ -212,7 +355,7 @@ public class DependencyManager {
 				}
 			}
 		}
-		return closure;
+		return closure.toArray(BundleDescription[]::new);
 	}
 
 	private static void addNewRequiredBundle(BundleDescription bundle, Set<BundleDescription> requiredBundles,
@@ -352,12 +352,39 @@ public interface ICoreConstants {
 	 * build as background job
 	 */
 	String RUN_API_ANALYSIS_AS_JOB = "Preferences.MainPage.runAPIAnalysisAsJob";//$NON-NLS-1$
+	/**
+	 * Boolean preference whether the API analysis of full builds should run in
+	 * parallel for independent projects
+	 */
+	String PARALLEL_API_ANALYSIS = "Preferences.MainPage.parallelAPIAnalysis";//$NON-NLS-1$
 	/**
 	 * Boolean preference whether add
 	 * '-Dorg.eclipse.swt.graphics.Resource.reportNonDisposed=true' to VM
 	 * arguments when creating a new launch configuration
 	 */
 	String ADD_SWT_NON_DISPOSAL_REPORTING = "Preferences.MainPage.addSwtNonDisposalReporting ";//$NON-NLS-1$
+	/**
+	 * Boolean preference whether independent target locations (directories,
+	 * installations and features) are resolved concurrently
+	 */
+	String TARGET_CONCURRENT_RESOLUTION = "target_concurrent_resolution"; //$NON-NLS-1$
+	/**
+	 * Boolean preference whether target locations whose content did not change
+	 * are skipped when a target is resolved again, and whether loading a target
+	 * only applies the added and removed bundles to the plug-in models
+	 */
+	String TARGET_INCREMENTAL_RESOLUTION = "target_incremental_resolution"; //$NON-NLS-1$
+	/**
+	 * Boolean preference whether the schemas of the extension points extended
+	 * by workspace plug-ins are parsed in the background after a target is
+	 * loaded
+	 */
+	String PRELOAD_SCHEMAS = "preload_schemas"; //$NON-NLS-1$
+	/**
+	 * Boolean preference whether the manifest files of the plug-in projects
+	 * rebuilt after a clean are validated concurrently
+	 */
+	String PARALLEL_MANIFEST_VALIDATION = "parallel_manifest_validation"; //$NON-NLS-1$
 
 	/**
 	 * Explicit preference value for {@link #WORKSPACE_TARGET_HANDLE} when the user chooses no
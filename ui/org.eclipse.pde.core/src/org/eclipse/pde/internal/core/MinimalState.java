@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -204,7 +204,7 @@ public class MinimalState {
 		return addBundle(bundleLocation, bundleId, manifest);
 	}
 
-	private BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
+	protected BundleDescription addBundle(File bundleLocation, long bundleId, Map<String, String> manifest)
 			throws CoreException {
 		// update for development mode
 		TargetWeaver.weaveManifest(manifest, bundleLocation);
@@ -378,6 +378,15 @@ public class MinimalState {
 		fEEListChanged = true; // always indicate the list has changed
 	}
 
+	/**
+	 * Makes the next resolve read the known execution environments and compute
+	 * the platform properties again, as for a newly created state.
+	 */
+	void resetExecutionEnvironments() {
+		fExecutionEnvironments = null;
+		fNoProfile = false;
+	}
+
 	/** Returns an ordered Set of known/supported execution environments */
 	public Set<String> getfProvidedExecutionEnvironments() {
 		return fExecutionEnvironments; // TODO: use SequencedSet once available
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2012 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -139,6 +139,10 @@ public class PDEClasspathContainer {
 	}
 
 	protected static IAccessRule[] getAccessRules(List<Rule> rules) {
+		return AccessRuleCache.getDefault().getAccessRules(rules);
+	}
+
+	static IAccessRule[] createAccessRules(List<Rule> rules) {
 		IAccessRule[] accessRules = new IAccessRule[rules.size() + 1];
 		int i = 0;
 		for (Rule rule : rules) {
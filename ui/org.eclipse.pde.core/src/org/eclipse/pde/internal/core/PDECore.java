@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.internal.core.bnd.BndResourceChangeListener;
 import org.eclipse.pde.internal.core.bnd.BndWorkspaceServiceFactory;
+import org.eclipse.pde.internal.core.bnd.ContentDigestCache;
 import org.eclipse.pde.internal.core.builders.FeatureRebuilder;
 import org.eclipse.pde.internal.core.builders.PluginRebuilder;
 import org.eclipse.pde.internal.core.project.BundleProjectService;
@@ -329,6 +330,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		fJavaElementChangeListener.start();
 		fPluginRebuilder = new PluginRebuilder();
 		fPluginRebuilder.start();
+		DependencyManager.start();
+		AccessRuleCache.start();
 		fFeatureRebuilder = new FeatureRebuilder();
 		fFeatureRebuilder.start();
 
@@ -385,6 +388,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 
 		fJavaElementChangeListener.shutdown();
 		fPluginRebuilder.stop();
+		DependencyManager.stop();
+		AccessRuleCache.stop();
 		fFeatureRebuilder.stop();
 
 		if (fSchemaRegistry != null) {
@@ -424,6 +429,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		IWorkspace workspace = ResourcesPlugin.getWorkspace();
 		workspace.removeSaveParticipant(PLUGIN_ID);
 		workspace.removeResourceChangeListener(bndResourceChangeListener);
+		// saves the digests without loading the bnd TargetRepository
+		ContentDigestCache.saveInstance();
 	}
 
 	/**
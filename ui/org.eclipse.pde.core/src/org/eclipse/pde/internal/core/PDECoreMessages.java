@@ -76,6 +76,8 @@ public class PDECoreMessages extends NLS {
 
 	public static String SchemaElementReference_refElementMissing;
 
+	public static String SchemaRegistry_PreloadingSchemas;
+
 	public static String TargetPlatform_exceptionThrown;
 
 	public static String TargetPlatformHelper_CouldNotAcquireTargetService;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.eclipse.core.runtime.IRegistryChangeListener;
 import org.eclipse.core.runtime.RegistryFactory;
 import org.eclipse.core.runtime.spi.RegistryContributor;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -104,6 +105,24 @@ public class PDEExtensionRegistry {
 		return RegistryFactory.createRegistry(fStrategy, fMasterKey, fUserKey);
 	}
 
+	/**
+	 * Updates the registry after bundles were added to, removed from or changed
+	 * in the state, e.g. when only a few bundles of the target changed. Only
+	 * the contributions of the bundles in the given delta are removed and read
+	 * again, so the registry and the cache it writes when stopped stay valid.
+	 * If the registry has not been created yet, its cache is deleted as in
+	 * {@link #targetReloaded()}.
+	 *
+	 * @param delta the delta of the state resolution following the change
+	 */
+	public synchronized void targetChanged(StateDelta delta) {
+		if (fRegistry == null) {
+			CoreUtility.deleteContent(new File(PDECore.getDefault().getStateLocation().toFile(), EXTENSION_DIR));
+			return;
+		}
+		fStrategy.applyDelta(fRegistry, delta);
+	}
+
 	public void targetReloaded() {
 		// stop old registry (which will write contents to FS) and delete the cache it creates
 		// might see if we can dispose of a registry without writing to file system.  NOTE: Don't call stop() because we want to still reuse fStrategy
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -29,11 +33,14 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.spi.IDynamicExtensionRegistry;
 import org.eclipse.core.runtime.spi.RegistryContributor;
 import org.eclipse.core.runtime.spi.RegistryStrategy;
+import org.eclipse.osgi.service.resolver.BundleDelta;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.osgi.resource.Resource;
 import org.osgi.util.tracker.ServiceTracker;
 
 public class PDERegistryStrategy extends RegistryStrategy {
@@ -196,6 +203,44 @@ public class PDERegistryStrategy extends RegistryStrategy {
 		addBundles(registry, fPDERegistry.getModels());
 	}
 
+	/**
+	 * Updates the given registry for the bundles of the given state delta. The
+	 * contributors of all bundles in the delta are removed and the
+	 * contributions of those still in the state are added again, as their
+	 * bundle id, host or singleton status may have changed. The contributions
+	 * of all other bundles are left untouched.
+	 */
+	void applyDelta(IExtensionRegistry registry, StateDelta delta) {
+		if (!(registry instanceof IDynamicExtensionRegistry dynamicRegistry)) {
+			return;
+		}
+		BundleDelta[] changes = delta.getChanges();
+		if (changes.length == 0) {
+			return;
+		}
+		Map<String, IContributor> contributors = new HashMap<>();
+		for (IContributor contributor : dynamicRegistry.getAllContributors()) {
+			if (contributor instanceof RegistryContributor registryContributor) {
+				contributors.put(registryContributor.getActualId(), contributor);
+			}
+		}
+		List<IPluginModelBase> bases = new ArrayList<>(changes.length);
+		for (BundleDelta change : changes) {
+			BundleDescription desc = change.getBundle();
+			IContributor contributor = contributors.remove(Long.toString(desc.getBundleId()));
+			if (contributor != null) {
+				dynamicRegistry.removeContributor(contributor, fKey);
+			}
+			if ((change.getType() & BundleDelta.REMOVED) == 0) {
+				IPluginModelBase base = PluginRegistry.findModel((Resource) desc);
+				if (base != null) {
+					bases.add(base);
+				}
+			}
+		}
+		addBundles(registry, bases.toArray(new IPluginModelBase[bases.size()]));
+	}
+
 	private void addBundles(IExtensionRegistry registry, IPluginModelBase[] bases) {
 		for (IPluginModelBase base : bases) {
 			addBundle(registry, base);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,23 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -30,6 +43,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -57,11 +71,28 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, false, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs.
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param activeTarget whether the given URLs are the complete content of the
+	 *            active target platform, in which case the cached manifests of
+	 *            bundles no longer in the target are dropped
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, boolean activeTarget,
+			IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		// We no longer try and restore from a cached state as it had no performance benefit,
+		// only the manifests of target bundles are cached
+		createNewTargetState(addResolver, target, activeTarget, monitor);
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -76,7 +107,7 @@ public class PDEState extends MinimalState {
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
+	private void createNewTargetState(boolean resolve, URI[] uris, boolean activeTarget, IProgressMonitor monitor) {
 		fState = stateObjectFactory.createState(resolve);
 		if (resolve) {
 			final String systemBSN = getSystemBundle();
@@ -87,23 +118,98 @@ public class PDEState extends MinimalState {
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
 				uris.length);
-		for (URI uri : uris) {
-			File file = toFile(uri);
-			if (file == null) {
-				continue;
+		addTargetBundles(uris, activeTarget, subMonitor);
+	}
+
+	/**
+	 * Adds the bundles at the given locations to the state
+	 *
+	 * @param activeTarget whether the given locations are the complete content
+	 *            of the active target platform
+	 * @return the descriptions of the bundles added
+	 */
+	private List<BundleDescription> addTargetBundles(URI[] uris, boolean activeTarget, SubMonitor subMonitor) {
+		List<File> files = Arrays.stream(uris).map(PDEState::toFile).filter(Objects::nonNull).toList();
+		List<BundleDescription> added = new ArrayList<>(files.size());
+		if (files.isEmpty()) {
+			return added;
+		}
+		// Reading the manifests is dominated by I/O and done by a thread pool
+		// of its own, the bundles are then added to the (not thread safe) state
+		// in the order of the given URIs so that bundle ids are stable
+		TargetManifestCache manifestCache = TargetManifestCache.load();
+		int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "Target Manifest Reader " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<TargetManifest>> manifests = new ArrayList<>(files.size());
+			for (File file : files) {
+				manifests.add(executor.submit(() -> {
+					try {
+						return new TargetManifest(file, manifestCache.loadManifest(file), null);
+					} catch (CoreException e) {
+						return new TargetManifest(file, null, e);
+					}
+				}));
+			}
+			for (Future<TargetManifest> future : manifests) {
+				TargetManifest manifest = await(future, subMonitor);
+				try {
+					subMonitor.subTask(manifest.file().getName());
+					if (manifest.error() != null) {
+						throw manifest.error();
+					}
+					BundleDescription desc = addBundle(manifest.file(), -1, manifest.manifest());
+					if (desc != null) {
+						added.add(desc);
+					}
+				} catch (CoreException e) {
+					if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+						PDECore.log(e);
+					}
+				}
+				subMonitor.split(1);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		manifestCache.save(activeTarget);
+		return added;
+	}
+
+	private static TargetManifest await(Future<TargetManifest> future, SubMonitor subMonitor) {
+		while (true) {
+			if (subMonitor.isCanceled()) {
+				throw new OperationCanceledException();
 			}
 			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
-			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				// reading a manifest only fails with the CoreExceptions that are
+				// returned in the TargetManifest, anything else is unexpected
+				if (e.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
 				}
+				throw new IllegalStateException(e.getCause());
 			}
-			subMonitor.split(1);
 		}
 	}
 
+	/**
+	 * The manifest of a target bundle, or the error reading it
+	 */
+	private record TargetManifest(File file, Map<String, String> manifest, CoreException error) {
+	}
+
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
 		Function<BaseDescription, Boolean> isSystemBundle = b -> systemBSN.equals(b.getSupplier().getSymbolicName());
 		return Comparator.comparing(isSystemBundle).reversed(); // false<true
@@ -227,6 +333,48 @@ public class PDEState extends MinimalState {
 		return fTargetModels.toArray(new IPluginModelBase[fTargetModels.size()]);
 	}
 
+	/**
+	 * Adds the bundles at the given locations to this state and creates their
+	 * target models. Bundles with the same symbolic name and version as an
+	 * existing target bundle are skipped, as they would have been removed when
+	 * creating the state from scratch. The state is not resolved.
+	 *
+	 * @param uris locations of the target bundles to add
+	 * @param monitor progress monitor
+	 * @return the target models created for the added bundles
+	 */
+	public IPluginModelBase[] addTargetModels(URI[] uris, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
+				uris.length);
+		Set<String> existing = new HashSet<>();
+		for (IPluginModelBase model : fTargetModels) {
+			BundleDescription desc = model.getBundleDescription();
+			existing.add(desc.getSymbolicName() + '_' + desc.getVersion());
+		}
+		List<IPluginModelBase> models = new ArrayList<>();
+		for (BundleDescription desc : addTargetBundles(uris, false, subMonitor)) {
+			if (!existing.add(desc.getSymbolicName() + '_' + desc.getVersion())) {
+				fState.removeBundle(desc);
+				continue;
+			}
+			IPluginModelBase model = createExternalModel(desc);
+			fTargetModels.add(model);
+			models.add(model);
+		}
+		return models.toArray(new IPluginModelBase[models.size()]);
+	}
+
+	/**
+	 * Removes the given target models from this state. Their bundle descriptions
+	 * must be removed from the state by the caller, as they may have been
+	 * replaced by workspace bundles.
+	 *
+	 * @param models the target models to remove
+	 */
+	public void removeTargetModels(Collection<IPluginModelBase> models) {
+		fTargetModels.removeAll(models);
+	}
+
 	/**
 	 * In previous releases the state was saved to the PDE .metadata directory.  If
 	 * any of these states are still around we should delete them.
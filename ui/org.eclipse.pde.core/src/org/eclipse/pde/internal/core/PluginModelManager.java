@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,22 +21,27 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 
+import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
@@ -59,6 +64,7 @@ import org.eclipse.pde.core.build.IBuildEntry;
 import org.eclipse.pde.core.plugin.IPluginModel;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
@@ -74,11 +80,18 @@ public class PluginModelManager implements IModelProviderListener {
 	 * Job to update class path containers asynchronously. Avoids blocking the UI thread
 	 * while saving the manifest editor. The job is given a workspace lock so other jobs can't
 	 * run on a stale classpath.
+	 * <p>
+	 * Projects queued while the job is waiting to run are coalesced, so a burst
+	 * of state deltas updates the container of each affected project only once.
+	 * The access rules of the exported packages are shared between the
+	 * containers through the {@link AccessRuleCache}.
+	 * </p>
 	 */
 	class UpdateClasspathsJob extends Job {
 
-		private final List<IJavaProject> fProjects = new ArrayList<>();
-		private final List<IClasspathContainer> fContainers = new ArrayList<>();
+		private final Set<IProject> fProjects = new LinkedHashSet<>();
+		private boolean fUpdateAll;
+		private boolean fUpdateSecondaryDependencies;
 
 		/**
 		 * Constructs a new job.
@@ -94,17 +107,26 @@ public class PluginModelManager implements IModelProviderListener {
 			try {
 				boolean more = false;
 				do {
-					IJavaProject[] projects = null;
-					IClasspathContainer[] containers = null;
+					Set<IProject> projects;
+					boolean updateAll;
+					boolean updateSecondaryDependencies;
 					synchronized (fProjects) {
-						projects = fProjects.toArray(new IJavaProject[fProjects.size()]);
-						containers = fContainers.toArray(new IClasspathContainer[fContainers.size()]);
+						projects = new HashSet<>(fProjects);
+						updateAll = fUpdateAll;
+						updateSecondaryDependencies = fUpdateSecondaryDependencies;
 						fProjects.clear();
-						fContainers.clear();
+						fUpdateAll = false;
+						fUpdateSecondaryDependencies = false;
+					}
+					Map<IJavaProject, IClasspathContainer> containers = computeContainers(projects, updateAll,
+							updateSecondaryDependencies);
+					if (!containers.isEmpty()) {
+						JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH,
+								containers.keySet().toArray(IJavaProject[]::new),
+								containers.values().toArray(IClasspathContainer[]::new), monitor);
 					}
-					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers, monitor);
 					synchronized (fProjects) {
-						more = !fProjects.isEmpty();
+						more = fUpdateAll || !fProjects.isEmpty();
 					}
 				} while (more);
 
@@ -115,12 +137,53 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		/**
-		 * Queues more projects/containers.
+		 * Computes the containers of the given projects and, if requested, of
+		 * all projects or of the projects with secondary dependencies
 		 */
-		void add(IJavaProject project, IClasspathContainer container) {
+		private Map<IJavaProject, IClasspathContainer> computeContainers(Set<IProject> projects, boolean updateAll,
+				boolean updateSecondaryDependencies) {
+			long start = System.currentTimeMillis();
+			Map<IJavaProject, IClasspathContainer> containers = new LinkedHashMap<>();
+			for (IPluginModelBase model : getWorkspaceModels()) {
+				IProject project = model.getUnderlyingResource().getProject();
+				if (!PluginProject.isJavaProject(project)) {
+					continue;
+				}
+				RequiredPluginsClasspathContainer container = null;
+				if (updateAll || projects.contains(project)) {
+					container = new RequiredPluginsClasspathContainer(model, project);
+				} else if (updateSecondaryDependencies) {
+					try {
+						IBuild build = ClasspathUtilCore.getBuild(model);
+						if (build != null && build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES) != null) {
+							container = new RequiredPluginsClasspathContainer(model, build, project);
+						}
+					} catch (CoreException e) {
+					}
+				}
+				if (container != null) {
+					container.getClasspathEntries();
+					containers.put(JavaCore.create(project), container);
+				}
+			}
+			if (PDECore.DEBUG_CLASSPATH) {
+				System.out.println("Computed " + containers.size() + " classpath containers in " //$NON-NLS-1$ //$NON-NLS-2$
+						+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+			}
+			return containers;
+		}
+
+		/**
+		 * Queues more projects.
+		 *
+		 * @param projects the projects to update
+		 * @param updateAll whether to update all projects
+		 */
+		void add(Collection<IProject> projects, boolean updateAll) {
 			synchronized (fProjects) {
-				fProjects.add(project);
-				fContainers.add(container);
+				fProjects.addAll(projects);
+				fUpdateAll |= updateAll;
+				fUpdateSecondaryDependencies |= !updateAll;
 			}
 		}
 
@@ -199,6 +262,17 @@ public class PluginModelManager implements IModelProviderListener {
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
 	private boolean fCancelled = false;
 
+	/**
+	 * The target environment the state was created for, see
+	 * {@link #getTargetEnvironment()}
+	 */
+	private String fTargetEnvironment;
+	/**
+	 * The stamps of the target bundles when their models were created, see
+	 * {@link #getTargetBundleStamp(File)}
+	 */
+	private final Map<File, Long> fTargetBundleStamps = new HashMap<>();
+
 	/**
 	 * Initialize the workspace and external (target) model manager
 	 * and add listeners to each one
@@ -314,61 +388,34 @@ public class PluginModelManager implements IModelProviderListener {
 	 * 				changes, may be <code>null</code> to indicate the entire target has changed
 	 */
 	private void updateAffectedEntries(StateDelta delta) {
-		Map<IJavaProject, RequiredPluginsClasspathContainer> map = new HashMap<>();
 		if (delta == null) {
 			// if the delta is null, then the entire target changed.
 			// Therefore, we should update the classpath for all workspace plug-ins.
-			IPluginModelBase[] models = getWorkspaceModels();
-			for (IPluginModelBase model : models) {
-				IProject project = model.getUnderlyingResource().getProject();
-				if (PluginProject.isJavaProject(project)) {
-					map.put(JavaCore.create(project), new RequiredPluginsClasspathContainer(model, project));
-				}
-			}
+			fUpdateJob.add(Collections.emptySet(), true);
 		} else {
-			BundleDelta[] deltas = delta.getChanges();
-			for (BundleDelta bundleDelta : deltas) {
-				// update classpath for workspace plug-ins that are housed in a
-				// Java project hand have been affected by the processd model changes.
-				IPluginModelBase model = findModel(bundleDelta.getBundle());
-				IResource resource = model == null ? null : model.getUnderlyingResource();
-				if (resource != null) {
-					IProject project = resource.getProject();
-					if (PluginProject.isJavaProject(project)) {
-						IJavaProject jProject = JavaCore.create(project);
-						if (!map.containsKey(jProject)) {
-							map.put(jProject, new RequiredPluginsClasspathContainer(model, project));
-						}
-					}
-				}
-			}
-			// do secondary dependencies
-			IPluginModelBase[] models = getWorkspaceModels();
-			for (IPluginModelBase model : models) {
-				IProject project = model.getUnderlyingResource().getProject();
-				if (!PluginProject.isJavaProject(project)) {
-					continue;
-				}
-				IJavaProject jProject = JavaCore.create(project);
-				if (map.containsKey(jProject)) {
-					continue;
-				}
-				try {
-					IBuild build = ClasspathUtilCore.getBuild(model);
-					if (build != null && build.getEntry(IBuildEntry.SECONDARY_DEPENDENCIES) != null) {
-						map.put(jProject, new RequiredPluginsClasspathContainer(model, build, project));
-					}
-				} catch (CoreException e) {
+			// update classpath for workspace plug-ins that are housed in a
+			// Java project and have been affected by the processed model
+			// changes, or that depend on an affected plug-in
+			Set<IProject> projects = new HashSet<>();
+			for (BundleDelta bundleDelta : delta.getChanges()) {
+				BundleDescription bundle = bundleDelta.getBundle();
+				addWorkspaceProject(bundle, projects);
+				for (BundleDescription dependent : bundle.getDependents()) {
+					addWorkspaceProject(dependent, projects);
 				}
 			}
+			// the projects with secondary dependencies are updated as well
+			fUpdateJob.add(projects, false);
 		}
+		// update class path for all affected workspace plug-ins in one operation
+		fUpdateJob.schedule();
+	}
 
-		if (!map.isEmpty()) {
-			// update class path for all affected workspace plug-ins in one operation
-			for (Entry<IJavaProject, RequiredPluginsClasspathContainer> entry : map.entrySet()) {
-				fUpdateJob.add(entry.getKey(), entry.getValue());
-			}
-			fUpdateJob.schedule();
+	private void addWorkspaceProject(BundleDescription bundle, Set<IProject> projects) {
+		IPluginModelBase model = findModel(bundle);
+		IResource resource = model == null ? null : model.getUnderlyingResource();
+		if (resource != null) {
+			projects.add(resource.getProject());
 		}
 	}
 
@@ -512,6 +559,191 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Updates the models after the content of the target platform changed. If
+	 * possible, only the bundles added to or removed from the target are
+	 * applied to the existing state and the listeners are notified of the
+	 * resulting delta; otherwise all models are recreated as in
+	 * {@link #targetReloaded(IProgressMonitor)}.
+	 *
+	 * @param monitor progress monitor
+	 */
+	public void targetChanged(IProgressMonitor monitor) {
+		synchronized (fEntriesSynchronizer) {
+			SubMonitor subMon = SubMonitor.convert(monitor, 100);
+			if (!updateTargetModels(subMon.split(50))) {
+				fEntries = null;
+				initializeTable(subMon.split(50));
+			}
+		}
+	}
+
+	/**
+	 * Applies the bundles added to and removed from the target since the models
+	 * were created to the state and the master table. Has to be called
+	 * synchronized with fEntriesSynchronizer.
+	 *
+	 * @return <code>true</code> if the models were updated, <code>false</code>
+	 *         if they need to be recreated
+	 */
+	private boolean updateTargetModels(IProgressMonitor monitor) {
+		if (fEntries == null || fState == null || fCancelled
+				|| !PDECore.getDefault().getPreferencesManager().getBoolean(ICoreConstants.TARGET_INCREMENTAL_RESOLUTION)
+				|| !getTargetEnvironment().equals(fTargetEnvironment)) {
+			return false;
+		}
+		SubMonitor subMon = SubMonitor.convert(monitor, PDECoreMessages.PluginModelManager_InitializingPluginModels, 100);
+		long startTime = System.currentTimeMillis();
+		URI[] externalUris = getExternalBundles(subMon.split(50));
+		if (subMon.isCanceled()) {
+			return false;
+		}
+
+		// compute the delta by the locations of the bundles
+		IPluginModelBase[] targetModels = fState.getTargetModels();
+		Map<File, IPluginModelBase> previous = new HashMap<>();
+		for (IPluginModelBase model : targetModels) {
+			previous.put(new File(model.getInstallLocation()), model);
+		}
+		List<URI> added = new ArrayList<>();
+		for (URI uri : externalUris) {
+			IPath path = URIUtil.toPath(uri);
+			File file = path == null ? null : path.toFile();
+			IPluginModelBase model = file == null ? null : previous.remove(file);
+			if (model == null) {
+				added.add(uri);
+			} else if (!Objects.equals(fTargetBundleStamps.get(file), getTargetBundleStamp(file))) {
+				// changed in place, replace the model
+				previous.put(file, model);
+				added.add(uri);
+			}
+		}
+		List<IPluginModelBase> removed = new ArrayList<>(previous.values());
+		if (added.size() + removed.size() > targetModels.length / 2) {
+			// a mostly different target is faster created from scratch
+			return false;
+		}
+
+		// the entries of the removed and added models, an entry whose model is
+		// replaced in place is reported as changed rather than removed and added
+		Map<String, LocalModelEntry> affectedEntries = new LinkedHashMap<>();
+		Set<String> newIds = new HashSet<>();
+		for (IPluginModelBase model : removed) {
+			String id = model.getPluginBase().getId();
+			LocalModelEntry entry = id == null ? null : fEntries.get(id);
+			if (entry != null) {
+				entry.removeModel(model);
+				fState.removeBundleDescription(model.getBundleDescription());
+				affectedEntries.put(id, entry);
+			}
+			fTargetBundleStamps.remove(new File(model.getInstallLocation()));
+		}
+		fState.removeTargetModels(removed);
+
+		IPluginModelBase[] addedModels = fState.addTargetModels(added.toArray(new URI[added.size()]), subMon.split(30));
+		boolean preferWorkspaceBundle = PDECore.getDefault().getPreferencesManager()
+				.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
+		Set<String> addedBSNs = new HashSet<>();
+		for (IPluginModelBase model : addedModels) {
+			File file = new File(model.getInstallLocation());
+			fTargetBundleStamps.put(file, getTargetBundleStamp(file));
+			String id = model.getPluginBase().getId();
+			if (id == null) {
+				continue;
+			}
+			addedBSNs.add(id);
+			LocalModelEntry entry = fEntries.get(id);
+			if (entry == null) {
+				entry = new LocalModelEntry(id);
+				fEntries.put(id, entry);
+				newIds.add(id);
+			}
+			affectedEntries.put(id, entry);
+			entry.addModel(model);
+			if (entry.hasWorkspaceModels()) {
+				// as when the models are created, the workspace bundle takes precedence
+				if (preferWorkspaceBundle) {
+					fState.removeBundleDescription(model.getBundleDescription());
+				} else {
+					fState.updateBundleDescription(model.getBundleDescription());
+				}
+			}
+		}
+		PluginModelDelta delta = new PluginModelDelta();
+		affectedEntries.forEach((id, entry) -> {
+			if (!entry.hasExternalModels() && !entry.hasWorkspaceModels()) {
+				fEntries.remove(id);
+				delta.addEntry(entry, PluginModelDelta.REMOVED);
+			} else if (newIds.contains(id)) {
+				delta.addEntry(entry, PluginModelDelta.ADDED);
+			} else {
+				delta.addEntry(entry, PluginModelDelta.CHANGED);
+			}
+		});
+		fExternalManager.setModels(fState.getTargetModels());
+		boolean externalPluginsChanged = isSavedExternalPluginListDifferent(externalUris);
+		saveExternalPluginList(externalUris);
+
+		// as for a new state, the execution environments of the target JRE are
+		// read again
+		fState.resetExecutionEnvironments();
+		StateDelta stateDelta;
+		if (addedBSNs.isEmpty()) {
+			stateDelta = fState.resolveState(true);
+		} else {
+			stateDelta = fState.resolveState(addedBSNs.toArray(new String[addedBSNs.size()]));
+		}
+		// update the contributions of the added, removed and changed bundles
+		PDECore.getDefault().getExtensionsRegistry().targetChanged(stateDelta);
+		updateAffectedEntries(stateDelta);
+		fireStateDelta(stateDelta);
+		fireDelta(delta);
+		if (externalPluginsChanged) {
+			fireExternalPluginsChanged();
+		}
+
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target changed, " + addedModels.length + " target models added and " + removed.size() //$NON-NLS-1$ //$NON-NLS-2$
+					+ " removed in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the stamp of the given target bundle, which changes if the bundle
+	 * is replaced or, for a directory bundle, if its manifest files are edited
+	 * in place
+	 */
+	private static long getTargetBundleStamp(File file) {
+		long stamp = file.lastModified();
+		if (file.isDirectory()) {
+			stamp = 31 * stamp + new File(file, ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR).lastModified();
+			stamp = 31 * stamp + new File(file, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR).lastModified();
+			stamp = 31 * stamp + new File(file, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR).lastModified();
+		}
+		return stamp;
+	}
+
+	/**
+	 * Notifies the state listeners that the content of the target differs from
+	 * the saved list of external plug-ins, so that all projects are rebuilt
+	 */
+	private void fireExternalPluginsChanged() {
+		fireStateChanged(fState);
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Loaded target models differ from saved list, PDE builder will run on all projects."); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Returns the target environment that the platform properties of the state
+	 * depend on
+	 */
+	private static String getTargetEnvironment() {
+		return TargetPlatform.getOS() + '/' + TargetPlatform.getWS() + '/' + TargetPlatform.getOSArch() + '/'
+				+ TargetPlatform.getNL();
+	}
+
 	/**
 	 * Allow access to the table only through this getter.
 	 * It always calls initialize to make sure the table is initialized.
@@ -575,8 +807,14 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		fState = new PDEState(externalUris, true, true, true, subMon.split(15));
 		fExternalManager.setModels(fState.getTargetModels());
+		fTargetEnvironment = getTargetEnvironment();
+		fTargetBundleStamps.clear();
+		for (IPluginModelBase model : fState.getTargetModels()) {
+			File file = new File(model.getInstallLocation());
+			fTargetBundleStamps.put(file, getTargetBundleStamp(file));
+		}
 		addToTable(entries, fExternalManager.getAllModels());
 
 		// Check if the saved external bundle list has changed, if so target contents is different and projects should be rebuilt
@@ -617,10 +855,7 @@ public class PluginModelManager implements IModelProviderListener {
 
 		// Fire a state change event to touch all projects if the target content has changed since last model init
 		if (externalPluginsChanged) {
-			fireStateChanged(fState);
-			if (PDECore.DEBUG_MODEL) {
-				System.out.println("Loaded target models differ from saved list, PDE builder will run on all projects."); //$NON-NLS-1$
-			}
+			fireExternalPluginsChanged();
 		}
 
 		subMon.split(25);
@@ -76,7 +76,12 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		corePrefs.setDefault(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET, true);
 		corePrefs.setDefault(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
 		corePrefs.setDefault(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+		corePrefs.setDefault(ICoreConstants.PARALLEL_API_ANALYSIS, false);
 		corePrefs.setDefault(ICoreConstants.ADD_SWT_NON_DISPOSAL_REPORTING, true);
+		corePrefs.setDefault(ICoreConstants.TARGET_CONCURRENT_RESOLUTION, true);
+		corePrefs.setDefault(ICoreConstants.TARGET_INCREMENTAL_RESOLUTION, true);
+		corePrefs.setDefault(ICoreConstants.PRELOAD_SCHEMAS, false);
+		corePrefs.setDefault(ICoreConstants.PARALLEL_MANIFEST_VALIDATION, true);
 		corePrefs.setDefault(ICoreConstants.TEST_PLUGIN_PATTERN, ICoreConstants.TEST_PLUGIN_PATTERN_DEFAULTVALUE);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -314,41 +314,16 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	}
 
 	private Map<BundleDescription, List<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
-		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
 		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
-		addVisiblePackagesFromState(helper, desc, visiblePackages);
-		if (desc.getHost() != null) {
-			addVisiblePackagesFromState(helper, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
+		AccessRuleCache cache = AccessRuleCache.getDefault();
+		Map<BundleDescription, List<Rule>> visiblePackages = cache.getVisiblePackageRules(helper, desc);
+		if (desc.getHost() != null && desc.getHost().getSupplier() instanceof BundleDescription host) {
+			cache.getVisiblePackageRules(helper, host)
+					.forEach((exporter, rules) -> visiblePackages.merge(exporter, rules, cache::merge));
 		}
 		return visiblePackages;
 	}
 
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc,
-			Map<BundleDescription, List<Rule>> visiblePackages) {
-		if (desc == null) {
-			return;
-		}
-		ExportPackageDescription[] exports = helper.getVisiblePackages(desc);
-		for (ExportPackageDescription export : exports) {
-			BundleDescription exporter = export.getExporter();
-			if (exporter == null) {
-				continue;
-			}
-			List<Rule> list = visiblePackages.computeIfAbsent(exporter, e -> new ArrayList<>());
-			Rule rule = getRule(helper, desc, export);
-			if (!list.contains(rule)) {
-				list.add(rule);
-			}
-		}
-	}
-
-	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
-		boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
-		String name = export.getName();
-		IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-		return new Rule(path, discouraged);
-	}
-
 	protected void addDependencyViaImportPackage(BundleDescription desc, Set<BundleDescription> added,
 			Map<BundleDescription, List<Rule>> map, List<IClasspathEntry> entries) throws CoreException {
 		if (desc == null || !added.add(desc)) {
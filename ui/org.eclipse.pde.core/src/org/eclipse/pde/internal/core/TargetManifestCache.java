@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.osgi.util.ManifestElement;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+/**
+ * Persistent cache of the manifests of jarred target bundles, used when the
+ * target {@link PDEState} is created. Each entry is keyed by the location of
+ * the jar and is only used if the length and modification time of the jar are
+ * unchanged, so unchanged jars are not reopened when the target is reloaded.
+ * <p>
+ * The raw manifest bytes are cached and parsed again on every use, so that the
+ * returned manifests are identical to the ones read by
+ * {@link ManifestUtils#loadManifest(File)}. Directory bundles are not cached,
+ * reading their manifest file is as cheap as reading the cache.
+ * </p>
+ * <p>
+ * This class is thread safe, manifests can be loaded concurrently.
+ * </p>
+ */
+class TargetManifestCache {
+
+	/**
+	 * Version of the cache file format, must be incremented whenever the format
+	 * changes
+	 */
+	private static final int VERSION = 1;
+
+	private static final String CACHE_FILE = "target-manifests.dat"; //$NON-NLS-1$
+
+	/**
+	 * Serializes the access to the cache file, so that concurrently created
+	 * states don't lose each other's entries
+	 */
+	private static final Object SAVE_LOCK = new Object();
+
+	private record Entry(long length, long lastModified, byte[] manifest) {
+	}
+
+	private final Path fCacheFile;
+
+	/**
+	 * The entries read from the cache file, removed when used
+	 */
+	private final Map<String, Entry> fStored;
+
+	/**
+	 * The entries used (or created) since this cache was loaded; only these are
+	 * saved
+	 */
+	private final Map<String, Entry> fUsed = new ConcurrentHashMap<>();
+
+	private volatile boolean fChanged;
+
+	private TargetManifestCache(Path cacheFile, Map<String, Entry> stored) {
+		fCacheFile = cacheFile;
+		fStored = stored;
+	}
+
+	/**
+	 * Loads the cache from the state location of PDE core. An empty cache is
+	 * returned if the cache file is missing, corrupt or of a different version.
+	 *
+	 * @return the cache, never <code>null</code>
+	 */
+	static TargetManifestCache load() {
+		Path cacheFile = PDECore.getDefault().getStateLocation().append(CACHE_FILE).toPath();
+		Map<String, Entry> stored = new ConcurrentHashMap<>();
+		synchronized (SAVE_LOCK) {
+			read(cacheFile, stored);
+		}
+		return new TargetManifestCache(cacheFile, stored);
+	}
+
+	/**
+	 * Reads the entries of the given cache file into the given map. No entry is
+	 * read if the file is missing, corrupt or of a different version.
+	 */
+	private static void read(Path cacheFile, Map<String, Entry> entries) {
+		Map<String, Entry> read = new HashMap<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+			if (in.readInt() == VERSION) {
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String location = in.readUTF();
+					long length = in.readLong();
+					long lastModified = in.readLong();
+					byte[] manifest = new byte[in.readInt()];
+					in.readFully(manifest);
+					read.put(location, new Entry(length, lastModified, manifest));
+				}
+			}
+		} catch (NoSuchFileException e) {
+			// no cache yet
+		} catch (IOException e) {
+			read.clear();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Discarding unreadable target manifest cache: " + e.getMessage()); //$NON-NLS-1$
+			}
+		}
+		entries.putAll(read);
+	}
+
+	/**
+	 * Loads the manifest of the given bundle, from the cache if possible.
+	 *
+	 * @param bundleLocation the bundle jar or directory
+	 * @return the manifest, see {@link ManifestUtils#loadManifest(File)}
+	 * @throws CoreException if the bundle has no valid bundle manifest
+	 */
+	Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		if (!bundleLocation.isFile()) {
+			return ManifestUtils.loadManifest(bundleLocation);
+		}
+		String location = bundleLocation.getAbsolutePath();
+		long length = bundleLocation.length();
+		long lastModified = bundleLocation.lastModified();
+		Entry entry = fStored.remove(location);
+		if (entry == null) {
+			entry = fUsed.get(location);
+		}
+		if (entry == null || entry.length() != length || entry.lastModified() != lastModified) {
+			byte[] manifest = readManifestEntry(bundleLocation);
+			if (manifest == null) {
+				// let the default implementation report the problem
+				return ManifestUtils.loadManifest(bundleLocation);
+			}
+			entry = new Entry(length, lastModified, manifest);
+			fChanged = true;
+		}
+		Map<String, String> map = parse(entry.manifest());
+		if (map == null || !map.containsKey(Constants.BUNDLE_SYMBOLICNAME)) {
+			fChanged = true;
+			return ManifestUtils.loadManifest(bundleLocation);
+		}
+		fUsed.put(location, entry);
+		return map;
+	}
+
+	/**
+	 * Writes the entries used since the cache was loaded to the cache file.
+	 * Unless they are pruned, the entries currently in the cache file are
+	 * kept, including those saved by other states since this cache was loaded.
+	 *
+	 * @param pruneUnused whether to drop the entries that were not used since
+	 *            the cache was loaded, i.e. those of bundles that are no longer
+	 *            in the target; must only be <code>true</code> if all bundles
+	 *            of the active target platform were loaded
+	 */
+	void save(boolean pruneUnused) {
+		if (!fChanged && (!pruneUnused || fStored.isEmpty())) {
+			return;
+		}
+		synchronized (SAVE_LOCK) {
+			Map<String, Entry> entries = new HashMap<>();
+			if (!pruneUnused) {
+				read(fCacheFile, entries);
+			}
+			entries.putAll(fUsed);
+			write(entries);
+		}
+	}
+
+	private void write(Map<String, Entry> entries) {
+		Path tempFile = null;
+		try {
+			tempFile = Files.createTempFile(fCacheFile.getParent(), CACHE_FILE, ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(VERSION);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> written : entries.entrySet()) {
+					Entry entry = written.getValue();
+					out.writeUTF(written.getKey());
+					out.writeLong(entry.length());
+					out.writeLong(entry.lastModified());
+					out.writeInt(entry.manifest().length);
+					out.write(entry.manifest());
+				}
+			}
+			Files.move(tempFile, fCacheFile, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			PDECore.log(e);
+			if (tempFile != null) {
+				tempFile.toFile().delete();
+			}
+		}
+	}
+
+	private static byte[] readManifestEntry(File jar) {
+		try (ZipFile zipFile = new ZipFile(jar, ZipFile.OPEN_READ)) {
+			ZipEntry manifestEntry = zipFile.getEntry(JarFile.MANIFEST_NAME);
+			if (manifestEntry != null) {
+				try (InputStream stream = zipFile.getInputStream(manifestEntry)) {
+					return stream.readAllBytes();
+				}
+			}
+		} catch (IOException e) {
+			// reported by ManifestUtils
+		}
+		return null;
+	}
+
+	private static Map<String, String> parse(byte[] manifest) {
+		try {
+			return ManifestElement.parseBundleManifest(new ByteArrayInputStream(manifest), null);
+		} catch (IOException | BundleException e) {
+			return null;
+		}
+	}
+}
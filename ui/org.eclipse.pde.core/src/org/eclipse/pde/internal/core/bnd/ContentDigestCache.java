@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.bnd;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Persistent cache of the SHA-256 digests of the target bundles, used for the
+ * content capabilities of the {@link TargetRepository}. Each entry is keyed by
+ * the location of the bundle jar and is only used if the length and
+ * modification time of the jar are unchanged, so the target bundles are not
+ * read again after a restart.
+ * <p>
+ * This class is thread safe, digests can be computed concurrently.
+ * </p>
+ */
+public final class ContentDigestCache {
+
+	/**
+	 * Version of the cache file format, must be incremented whenever the format
+	 * changes
+	 */
+	private static final int VERSION = 1;
+
+	private static final String CACHE_FILE = "bnd-content-digests.dat"; //$NON-NLS-1$
+
+	private static final int BUFFER_SIZE = 1024 * 1024;
+
+	private record Entry(long length, long lastModified, String digest) {
+	}
+
+	/**
+	 * The cache file, or <code>null</code> if the cache is not persisted
+	 */
+	private final Path fCacheFile;
+
+	private final Map<String, Entry> fEntries;
+
+	private volatile boolean fChanged;
+
+	/**
+	 * The cache of the {@link TargetRepository}, loaded on first use
+	 */
+	private static ContentDigestCache instance;
+
+	private ContentDigestCache(Path cacheFile, Map<String, Entry> entries) {
+		fCacheFile = cacheFile;
+		fEntries = entries;
+	}
+
+	/**
+	 * Returns the cache of the {@link TargetRepository}, loading it from the
+	 * state location of PDE core on first use. The cache is not persisted if
+	 * PDE core is not running.
+	 *
+	 * @return the cache, never <code>null</code>
+	 */
+	static synchronized ContentDigestCache getInstance() {
+		if (instance == null) {
+			PDECore pde = PDECore.getDefault();
+			instance = load(pde != null ? pde.getStateLocation().append(CACHE_FILE).toPath() : null);
+		}
+		return instance;
+	}
+
+	/**
+	 * Saves the cache of the {@link TargetRepository} if it was loaded and any
+	 * digest was computed since it was last saved. Neither the cache nor the
+	 * repository are loaded by this method.
+	 */
+	public static synchronized void saveInstance() {
+		if (instance != null) {
+			instance.save();
+		}
+	}
+
+	/**
+	 * Loads the cache from the given file. An empty cache is returned if the
+	 * cache file is missing, corrupt or of a different version.
+	 *
+	 * @param cacheFile the cache file, or <code>null</code> for a cache that
+	 *            is not persisted
+	 * @return the cache, never <code>null</code>
+	 */
+	public static ContentDigestCache load(Path cacheFile) {
+		Map<String, Entry> entries = new ConcurrentHashMap<>();
+		if (cacheFile == null) {
+			return new ContentDigestCache(null, entries);
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+			if (in.readInt() == VERSION) {
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String location = in.readUTF();
+					long length = in.readLong();
+					long lastModified = in.readLong();
+					String digest = in.readUTF();
+					entries.put(location, new Entry(length, lastModified, digest));
+				}
+			}
+		} catch (NoSuchFileException e) {
+			// no cache yet
+		} catch (IOException e) {
+			entries.clear();
+			PDECore.log(e);
+		}
+		return new ContentDigestCache(cacheFile, entries);
+	}
+
+	/**
+	 * Returns the SHA-256 digest of the given bundle as hex string, from the
+	 * cache if possible. The digest of a directory is the one of its path.
+	 *
+	 * @param file the bundle jar or directory
+	 * @return the digest
+	 * @throws IOException if the bundle can not be read
+	 */
+	public String getDigest(File file) throws IOException {
+		if (!file.isFile()) {
+			return computeDigest(file);
+		}
+		String location = file.getAbsolutePath();
+		long length = file.length();
+		long lastModified = file.lastModified();
+		Entry entry = fEntries.get(location);
+		if (entry == null || entry.length() != length || entry.lastModified() != lastModified) {
+			entry = new Entry(length, lastModified, computeDigest(file));
+			fEntries.put(location, entry);
+			fChanged = true;
+		}
+		return entry.digest();
+	}
+
+	/**
+	 * Computes the digests of the given bundles that are not cached yet,
+	 * concurrently by a bounded number of threads, and saves the cache if any
+	 * digest was computed.
+	 *
+	 * @param files the bundle jars or directories
+	 */
+	public void computeDigests(Collection<File> files) {
+		List<File> missing = new ArrayList<>();
+		for (File file : files) {
+			if (file.isFile()) {
+				Entry entry = fEntries.get(file.getAbsolutePath());
+				if (entry == null || entry.length() != file.length() || entry.lastModified() != file.lastModified()) {
+					missing.add(file);
+				}
+			}
+		}
+		if (missing.isEmpty()) {
+			return;
+		}
+		long start = System.currentTimeMillis();
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), missing.size());
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "PDE Content Digests"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<String>> futures = new ArrayList<>(missing.size());
+			for (File file : missing) {
+				futures.add(executor.submit(() -> getDigest(file)));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					futures.get(i).get();
+				} catch (ExecutionException e) {
+					// reported when the content capability is requested
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Computed digests of " + missing.size() + " bundles using " + threads + " threads in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$
+		}
+		save();
+	}
+
+	/**
+	 * Writes the entries of the bundles that still exist to the cache file, if
+	 * any digest was computed since the last save.
+	 */
+	public void save() {
+		if (!fChanged || fCacheFile == null) {
+			return;
+		}
+		fChanged = false;
+		List<Map.Entry<String, Entry>> entries = new ArrayList<>();
+		for (Map.Entry<String, Entry> entry : fEntries.entrySet()) {
+			if (new File(entry.getKey()).isFile()) {
+				entries.add(entry);
+			}
+		}
+		Path tempFile = null;
+		try {
+			tempFile = Files.createTempFile(fCacheFile.getParent(), CACHE_FILE, ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(VERSION);
+				out.writeInt(entries.size());
+				for (Map.Entry<String, Entry> stored : entries) {
+					Entry entry = stored.getValue();
+					out.writeUTF(stored.getKey());
+					out.writeLong(entry.length());
+					out.writeLong(entry.lastModified());
+					out.writeUTF(entry.digest());
+				}
+			}
+			Files.move(tempFile, fCacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			PDECore.log(e);
+			if (tempFile != null) {
+				tempFile.toFile().delete();
+			}
+		}
+	}
+
+	private static String computeDigest(File file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+		if (file.isDirectory()) {
+			// directories can not really have a SHA-256 ...
+			digest.update(file.getAbsolutePath().getBytes());
+		} else {
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+				while (channel.read(buffer) >= 0) {
+					buffer.flip();
+					digest.update(buffer);
+					buffer.clear();
+				}
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+}
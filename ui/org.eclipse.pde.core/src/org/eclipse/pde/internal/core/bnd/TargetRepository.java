@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,14 +21,12 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.Hashtable;
-import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,7 +47,9 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.PDECore;
+import org.osgi.framework.Constants;
 import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
 import org.osgi.resource.Requirement;
 import org.osgi.resource.Resource;
 import org.osgi.service.repository.ContentNamespace;
@@ -67,6 +67,12 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	private static final TargetRepository instance = new TargetRepository();
 	private static final Map<File, ContentCapabilityCache> contentCapabilityMap = new ConcurrentHashMap<>();
 
+	/**
+	 * The index of the capabilities of the bundles in the state it was built
+	 * for, rebuilt when a requirement is looked up after the state changed
+	 */
+	private volatile CapabilityIndex capabilityIndex;
+
 	private TargetRepository() {
 	}
 
@@ -170,13 +176,29 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	}
 
 	public List<Capability> findProvider(Requirement requirement) {
-		String namespace = requirement.getNamespace();
-		return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
-				.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
+		Optional<State> state = getTargetPlatformState();
+		if (state.isEmpty()) {
+			return List.of();
+		}
+		return getCapabilityIndex(state.get()).candidates(requirement)
 				.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
 				.collect(ResourceUtils.toCapabilities());
 	}
 
+	private CapabilityIndex getCapabilityIndex(State state) {
+		CapabilityIndex index = capabilityIndex;
+		if (index == null || !index.isValid(state)) {
+			synchronized (this) {
+				index = capabilityIndex;
+				if (index == null || !index.isValid(state)) {
+					index = new CapabilityIndex(this, state);
+					capabilityIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
 	/**
 	 * Aquires a stream of bundles from the current state
 	 *
@@ -236,6 +258,178 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 		return instance;
 	}
 
+	/**
+	 * Indexes the capabilities of all bundles of a state by their namespace and
+	 * by the value of the primary attribute of the namespace, i.e. the package
+	 * name, the symbolic name or the service interface. A requirement whose
+	 * filter demands a value of the primary attribute only has to be matched
+	 * against the capabilities having that value and the capabilities lacking
+	 * the attribute. The content capabilities are not indexed, as they require
+	 * the digest of each bundle, which are computed concurrently on the first
+	 * lookup of a content capability.
+	 */
+	private static final class CapabilityIndex {
+
+		private static final String SERVICE_NAMESPACE = "osgi.service"; //$NON-NLS-1$
+
+		private final State state;
+		private final long timeStamp;
+		private final List<BundleDescriptionRepositoryResource> resources;
+		private final Map<String, List<Capability>> capabilities = new HashMap<>();
+		private final Map<String, Map<String, List<Capability>>> capabilitiesByKey = new HashMap<>();
+		private final Map<String, List<Capability>> unkeyedCapabilities = new HashMap<>();
+
+		CapabilityIndex(Repository repository, State state) {
+			this.state = state;
+			this.timeStamp = state.getTimeStamp();
+			BundleDescription[] bundles = state.getBundles();
+			resources = new ArrayList<>(bundles.length);
+			for (BundleDescription bundle : bundles) {
+				BundleDescriptionRepositoryResource resource = new BundleDescriptionRepositoryResource(repository,
+						bundle);
+				resources.add(resource);
+				resource.bundleRequirements(null).forEach(this::add);
+			}
+		}
+
+		boolean isValid(State currentState) {
+			return state == currentState && timeStamp == currentState.getTimeStamp();
+		}
+
+		private void add(Capability capability) {
+			String namespace = capability.getNamespace();
+			capabilities.computeIfAbsent(namespace, n -> new ArrayList<>()).add(capability);
+			Object value = capability.getAttributes().get(getKeyAttribute(namespace));
+			if (value instanceof String key) {
+				addKeyed(namespace, key, capability);
+			} else if (value instanceof Collection<?> keys && keys.stream().allMatch(String.class::isInstance)) {
+				keys.stream().distinct().forEach(key -> addKeyed(namespace, (String) key, capability));
+			} else {
+				unkeyedCapabilities.computeIfAbsent(namespace, n -> new ArrayList<>()).add(capability);
+			}
+		}
+
+		private void addKeyed(String namespace, String key, Capability capability) {
+			capabilitiesByKey.computeIfAbsent(namespace, n -> new HashMap<>())
+					.computeIfAbsent(key, k -> new ArrayList<>()).add(capability);
+		}
+
+		/**
+		 * Returns the capabilities that possibly match the given requirement
+		 */
+		Stream<Capability> candidates(Requirement requirement) {
+			String namespace = requirement.getNamespace();
+			if (ContentNamespace.CONTENT_NAMESPACE.equals(namespace)) {
+				// compute the digests of all bundles at once
+				List<File> files = new ArrayList<>(resources.size());
+				for (BundleDescriptionRepositoryResource resource : resources) {
+					String location = resource.bundle.getLocation();
+					if (location != null) {
+						files.add(new File(location));
+					}
+				}
+				ContentDigestCache.getInstance().computeDigests(files);
+				return resources.stream().flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace));
+			}
+			String key = getFilterValue(requirement.getDirectives().get(Namespace.REQUIREMENT_FILTER_DIRECTIVE),
+					getKeyAttribute(namespace));
+			if (key == null) {
+				return capabilities.getOrDefault(namespace, List.of()).stream();
+			}
+			List<Capability> keyed = capabilitiesByKey.getOrDefault(namespace, Map.of()).getOrDefault(key, List.of());
+			List<Capability> unkeyed = unkeyedCapabilities.getOrDefault(namespace, List.of());
+			return unkeyed.isEmpty() ? keyed.stream() : Stream.concat(keyed.stream(), unkeyed.stream());
+		}
+
+		private static String getKeyAttribute(String namespace) {
+			return SERVICE_NAMESPACE.equals(namespace) ? Constants.OBJECTCLASS : namespace;
+		}
+
+		/**
+		 * Returns the value the given filter requires the given attribute to be
+		 * equal to, if the filter is such an equality or a conjunction
+		 * containing one.
+		 *
+		 * @return the required value or <code>null</code> if the filter does
+		 *         not require a single value of the attribute
+		 */
+		static String getFilterValue(String filter, String attribute) {
+			if (filter == null) {
+				return null;
+			}
+			filter = filter.strip();
+			if (!filter.startsWith("(&")) { //$NON-NLS-1$
+				return getEqualityValue(filter, attribute);
+			}
+			int i = 2;
+			while (i < filter.length() - 1) {
+				char c = filter.charAt(i);
+				if (Character.isWhitespace(c)) {
+					i++;
+					continue;
+				}
+				if (c != '(') {
+					return null;
+				}
+				int end = findClosingParenthesis(filter, i);
+				if (end < 0) {
+					return null;
+				}
+				String value = getEqualityValue(filter.substring(i, end + 1), attribute);
+				if (value != null) {
+					return value;
+				}
+				i = end + 1;
+			}
+			return null;
+		}
+
+		private static int findClosingParenthesis(String filter, int start) {
+			int depth = 0;
+			for (int i = start; i < filter.length(); i++) {
+				char c = filter.charAt(i);
+				if (c == '\\') {
+					i++;
+				} else if (c == '(') {
+					depth++;
+				} else if (c == ')' && --depth == 0) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private static String getEqualityValue(String item, String attribute) {
+			if (item.length() < 4 || item.charAt(0) != '(' || item.charAt(item.length() - 1) != ')') {
+				return null;
+			}
+			int equals = item.indexOf('=');
+			if (equals < 2 || "&|!".indexOf(item.charAt(1)) >= 0 || "~<>".indexOf(item.charAt(equals - 1)) >= 0) { //$NON-NLS-1$ //$NON-NLS-2$
+				return null;
+			}
+			if (!item.substring(1, equals).strip().equalsIgnoreCase(attribute)) {
+				return null;
+			}
+			String escaped = item.substring(equals + 1, item.length() - 1);
+			if (escaped.isEmpty() || escaped.isBlank() || !escaped.equals(escaped.strip())) {
+				return null;
+			}
+			StringBuilder value = new StringBuilder(escaped.length());
+			for (int i = 0; i < escaped.length(); i++) {
+				char c = escaped.charAt(i);
+				if (c == '*') {
+					// a substring match
+					return null;
+				}
+				if (c == '\\' && i + 1 < escaped.length()) {
+					c = escaped.charAt(++i);
+				}
+				value.append(c);
+			}
+			return value.toString();
+		}
+	}
+
 	private static final class BundleDescriptionRepositoryResource implements RepositoryContent, Resource, IAdaptable {
 
 		private BundleDescription bundle;
@@ -358,20 +552,8 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 				CapReqBuilder content = new CapReqBuilder(resource, ContentNamespace.CONTENT_NAMESPACE);
 				String sha;
 				try {
-					MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
-					if (file.isDirectory()) {
-						// directories can not really have a SHA-256 ...
-						digest.update(file.getAbsolutePath().getBytes());
-					} else {
-						try (DigestInputStream stream = new DigestInputStream(new FileInputStream(file), digest)) {
-							stream.readAllBytes();
-						} catch (IOException e) {
-							return Stream.empty();
-						}
-					}
-					byte[] bytes = digest.digest();
-					sha = HexFormat.of().formatHex(bytes);
-				} catch (NoSuchAlgorithmException e) {
+					sha = ContentDigestCache.getInstance().getDigest(file);
+				} catch (IOException e) {
 					return Stream.empty();
 				}
 				content.addAttribute(ContentNamespace.CONTENT_NAMESPACE, sha);
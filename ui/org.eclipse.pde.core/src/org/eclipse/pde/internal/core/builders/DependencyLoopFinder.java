@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,16 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core.builders;
 
-import java.util.Vector;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPlugin;
@@ -23,8 +32,31 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.PDECoreMessages;
 
+/**
+ * Finds the dependency loops a plug-in is part of.
+ * <p>
+ * The strongly connected components of the dependency graph are computed with
+ * Tarjan's algorithm, in time linear in the number of dependencies. Each
+ * component containing a loop is reported once, as one of the shortest loops
+ * through the first plug-in of the component that was visited.
+ * </p>
+ */
 public class DependencyLoopFinder {
 
+	private static final class Node<T> {
+		final T value;
+		int index = -1;
+		int lowlink;
+		boolean onStack;
+		int component = -1;
+		List<Node<T>> successors;
+		int nextSuccessor;
+
+		Node(T value) {
+			this.value = value;
+		}
+	}
+
 	public static DependencyLoop[] findLoops(IPlugin root) {
 		return findLoops(root, null);
 	}
@@ -33,95 +65,184 @@ public class DependencyLoopFinder {
 		return findLoops(root, candidates, false);
 	}
 
+	/**
+	 * Returns the dependency loops through the given plug-in. A plug-in is
+	 * part of at most one strongly connected component of the dependency
+	 * graph, so at most one loop is returned: one of the shortest loops
+	 * through the given plug-in.
+	 *
+	 * @param root the plug-in to find the loops for
+	 * @param candidates additional plug-ins the root plug-in is considered to
+	 *            depend on, or <code>null</code>
+	 * @param onlyCandidates whether the dependencies of the root plug-in are
+	 *            only the given candidates rather than its imports and the
+	 *            candidates
+	 * @return the loops, never <code>null</code>
+	 */
 	public static DependencyLoop[] findLoops(IPlugin root, IPlugin[] candidates, boolean onlyCandidates) {
-		Vector<DependencyLoop> loops = new Vector<>();
+		String rootId = root.getId();
+		Map<String, IPlugin> plugins = new HashMap<>();
+		List<String> rootDependencies = new ArrayList<>();
+		if (!onlyCandidates) {
+			addImports(root, rootDependencies, plugins);
+		}
+		if (candidates != null) {
+			for (IPlugin candidate : candidates) {
+				plugins.putIfAbsent(candidate.getId(), candidate);
+				rootDependencies.add(candidate.getId());
+			}
+		}
+		plugins.put(rootId, root);
 
-		Vector<IPlugin> path = new Vector<>();
-		findLoops(loops, path, root, candidates, onlyCandidates, new Vector<>());
-		return loops.toArray(new DependencyLoop[loops.size()]);
+		List<List<String>> cycles = findCycles(Collections.singletonList(rootId), id -> {
+			if (id.equals(rootId)) {
+				return rootDependencies;
+			}
+			List<String> dependencies = new ArrayList<>();
+			addImports(plugins.get(id), dependencies, plugins);
+			return dependencies;
+		});
+		for (List<String> cycle : cycles) {
+			if (cycle.get(0).equals(rootId)) {
+				DependencyLoop loop = new DependencyLoop();
+				loop.setMembers(cycle.stream().map(plugins::get).toArray(IPlugin[]::new));
+				loop.setName(NLS.bind(PDECoreMessages.Builders_DependencyLoopFinder_loopName, "1")); //$NON-NLS-1$
+				return new DependencyLoop[] {loop};
+			}
+		}
+		return new DependencyLoop[0];
 	}
 
-	private static void findLoops(Vector<DependencyLoop> loops, Vector<IPlugin> path, IPlugin subroot, IPlugin[] candidates, boolean onlyCandidates, Vector<String> exploredPlugins) {
-		if (!path.isEmpty()) {
-			// test the path so far
-			// is the subroot the same as root - if yes, that's it
-
-			IPlugin root = path.elementAt(0);
-			if (isEquivalent(root, subroot)) {
-				// our loop!!
-				DependencyLoop loop = new DependencyLoop();
-				loop.setMembers(path.toArray(new IPlugin[path.size()]));
-				int no = loops.size() + 1;
-				loop.setName(NLS.bind(PDECoreMessages.Builders_DependencyLoopFinder_loopName, ("" + no))); //$NON-NLS-1$
-				loops.add(loop);
-				return;
+	/**
+	 * Adds the ids of the plug-ins imported by the given plug-in that can be
+	 * found to the given list, remembering the found plug-ins in the given map
+	 */
+	private static void addImports(IPlugin plugin, List<String> dependencies, Map<String, IPlugin> plugins) {
+		for (IPluginImport iimport : plugin.getImports()) {
+			String id = iimport.getId();
+			//Be paranoid
+			if (id == null) {
+				continue;
 			}
-			// is the subroot the same as any other node?
-			// if yes, abort - local loop that is not ours
-			for (int i = 1; i < path.size(); i++) {
-				IPlugin node = path.elementAt(i);
-				if (isEquivalent(subroot, node)) {
-					// local loop
-					return;
-				}
+			if (plugins.containsKey(id) || plugins.computeIfAbsent(id, DependencyLoopFinder::findPlugin) != null) {
+				dependencies.add(id);
 			}
 		}
-		@SuppressWarnings("unchecked")
-		Vector<IPlugin> newPath = !path.isEmpty() ? ((Vector<IPlugin>) path.clone()) : path;
-		newPath.add(subroot);
+	}
 
-		if (!onlyCandidates) {
-			IPluginImport[] iimports = subroot.getImports();
-			for (IPluginImport iimport : iimports) {
-				String id = iimport.getId();
-				//Be paranoid
-				if (id == null) {
+	/**
+	 * Finds the loops in the graph reachable from the given nodes.
+	 * <p>
+	 * For each strongly connected component of the graph that contains a loop,
+	 * i.e. that has more than one node or a node depending on itself, exactly
+	 * one of the shortest loops through the first node of the component that
+	 * was visited is returned. The components are returned in the order their
+	 * first node was visited, so a loop through the first given node is
+	 * returned first. The graph is traversed iteratively, in time linear in the
+	 * number of nodes and edges.
+	 * </p>
+	 *
+	 * @param roots the nodes to start the traversal from
+	 * @param successors answers the nodes a node has edges to, called at most
+	 *            once per node
+	 * @return the loops, each given as the list of its nodes starting with the
+	 *         first visited node of its component
+	 */
+	public static <T> List<List<T>> findCycles(Collection<? extends T> roots, Function<? super T, ? extends Collection<? extends T>> successors) {
+		Map<T, Node<T>> nodes = new HashMap<>();
+		Deque<Node<T>> stack = new ArrayDeque<>();
+		Deque<Node<T>> path = new ArrayDeque<>();
+		List<Node<T>> componentRoots = new ArrayList<>();
+		int index = 0;
+		for (T root : roots) {
+			Node<T> rootNode = nodes.computeIfAbsent(root, Node::new);
+			if (rootNode.index >= 0) {
+				continue;
+			}
+			index = visit(rootNode, index, stack, path, nodes, successors);
+			while (!path.isEmpty()) {
+				Node<T> node = path.peek();
+				if (node.nextSuccessor < node.successors.size()) {
+					Node<T> successor = node.successors.get(node.nextSuccessor++);
+					if (successor.index < 0) {
+						index = visit(successor, index, stack, path, nodes, successors);
+					} else if (successor.onStack) {
+						node.lowlink = Math.min(node.lowlink, successor.index);
+					}
 					continue;
 				}
-				if (!exploredPlugins.contains(id)) {
-					// is plugin in list of non loop yielding plugins
-					//Commenting linear lookup - was very slow
-					//when called from here. We will use
-					//model manager instead because it
-					//has a hash table lookup that is much faster.
-					//IPlugin child = PDECore.getDefault().findPlugin(id);
-					IPlugin child = findPlugin(id);
-					if (child != null) {
-						// number of loops before traversing plugin
-						int oldLoopSize = loops.size();
-
-						findLoops(loops, newPath, child, null, false, exploredPlugins);
-
-						// number of loops after traversing plugin
-						int newLoopsSize = loops.size();
-
-						if (oldLoopSize == newLoopsSize) {// no change in number of loops
-							// no loops from going to this node, skip next time
-							exploredPlugins.add(id);
-						}
+				path.pop();
+				if (!path.isEmpty()) {
+					Node<T> parent = path.peek();
+					parent.lowlink = Math.min(parent.lowlink, node.lowlink);
+				}
+				if (node.lowlink == node.index) {
+					// node is the first visited node of a component
+					Node<T> member;
+					int size = 0;
+					do {
+						member = stack.pop();
+						member.onStack = false;
+						member.component = node.index;
+						size++;
+					} while (member != node);
+					if (size > 1 || node.successors.contains(node)) {
+						componentRoots.add(node);
 					}
 				}
-
 			}
-
 		}
-		if (candidates != null) {
-			for (IPlugin candidate : candidates) {
-				// number of loops before traversing plugin
-				int oldLoopSize = loops.size();
 
-				findLoops(loops, newPath, candidate, null, false, exploredPlugins);
+		componentRoots.sort(Comparator.comparingInt(node -> node.index));
+		List<List<T>> cycles = new ArrayList<>(componentRoots.size());
+		for (Node<T> componentRoot : componentRoots) {
+			cycles.add(findShortestCycle(componentRoot));
+		}
+		return cycles;
+	}
 
-				// number of loops after traversing plugin
-				int newLoopsSize = loops.size();
+	private static <T> int visit(Node<T> node, int index, Deque<Node<T>> stack, Deque<Node<T>> path, Map<T, Node<T>> nodes, Function<? super T, ? extends Collection<? extends T>> successors) {
+		node.index = index;
+		node.lowlink = index;
+		node.onStack = true;
+		Collection<? extends T> values = successors.apply(node.value);
+		node.successors = new ArrayList<>(values.size());
+		for (T value : values) {
+			node.successors.add(nodes.computeIfAbsent(value, Node::new));
+		}
+		stack.push(node);
+		path.push(node);
+		return index + 1;
+	}
 
-				if (oldLoopSize == newLoopsSize) { // no change in number of loops
-					// no loops from going to this node, skip next time
-					exploredPlugins.add(candidate.getId());
+	/**
+	 * Returns one of the shortest loops through the given node, found with a
+	 * breadth first search restricted to the component of the node
+	 */
+	private static <T> List<T> findShortestCycle(Node<T> start) {
+		Map<Node<T>, Node<T>> parents = new HashMap<>();
+		Deque<Node<T>> queue = new ArrayDeque<>();
+		queue.add(start);
+		while (!queue.isEmpty()) {
+			Node<T> node = queue.poll();
+			for (Node<T> successor : node.successors) {
+				if (successor == start) {
+					List<T> cycle = new ArrayList<>();
+					for (Node<T> member = node; member != start; member = parents.get(member)) {
+						cycle.add(member.value);
+					}
+					cycle.add(start.value);
+					Collections.reverse(cycle);
+					return cycle;
+				}
+				if (successor.component == start.component && !parents.containsKey(successor)) {
+					parents.put(successor, node);
+					queue.add(successor);
 				}
 			}
 		}
-
+		// not reached, the component contains a loop through its first node
+		return Collections.singletonList(start.value);
 	}
 
 	private static IPlugin findPlugin(String id) {
@@ -131,8 +252,4 @@ public class DependencyLoopFinder {
 		}
 		return (IPlugin) childModel.getPluginBase();
 	}
-
-	private static boolean isEquivalent(IPlugin left, IPlugin right) {
-		return left.getId().equals(right.getId());
-	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -100,8 +100,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		if (element == null) {
 			return;
 		}
-		String elementName = element.getNodeName();
-		if (!"plugin".equals(elementName) && !"fragment".equals(elementName)) { //$NON-NLS-1$ //$NON-NLS-2$
+		if (!isManifestRoot(element)) {
 			reportIllegalElement(element, CompilerFlags.ERROR);
 		} else {
 			int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DEPRECATED);
@@ -112,34 +111,13 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 				}
 			}
 
+			// the children parsed completely were validated while parsing
 			NodeList children = element.getChildNodes();
 			for (int i = 0; i < children.getLength(); i++) {
 				if (monitor.isCanceled()) {
 					break;
 				}
-				Element child = (Element) children.item(i);
-				String name = child.getNodeName();
-				switch (name) {
-					case "extension": //$NON-NLS-1$
-					validateExtension(child);
-					break;
-				case "extension-point": //$NON-NLS-1$
-					validateExtensionPoint(child);
-					break;
-				default:
-					if (!name.equals("runtime") && !name.equals("requires")) { //$NON-NLS-1$ //$NON-NLS-2$
-						severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
-						if (severity != CompilerFlags.IGNORE) {
-							reportIllegalElement(child, severity);
-						}
-					} else {
-						severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DEPRECATED);
-						if (severity != CompilerFlags.IGNORE) {
-							reportUnusedElement(child, severity);
-						}
-					}
-					break;
-				}
+				validateTopLevelElement((Element) children.item(i));
 			}
 
 			if (fModel != null) {
@@ -151,6 +129,55 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		}
 	}
 
+	@Override
+	protected boolean isStreaming() {
+		return true;
+	}
+
+	@Override
+	protected void validateParsedElement(Element element) {
+		if (isManifestRoot(element.getParentNode())) {
+			validateTopLevelElement(element);
+		}
+	}
+
+	private boolean isManifestRoot(Node element) {
+		String elementName = element.getNodeName();
+		return "plugin".equals(elementName) || "fragment".equals(elementName); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Validates a child of the <code>plugin</code> or <code>fragment</code>
+	 * root element
+	 *
+	 * @param child the child of the root element
+	 */
+	protected void validateTopLevelElement(Element child) {
+		String name = child.getNodeName();
+		int severity;
+		switch (name) {
+		case "extension": //$NON-NLS-1$
+			validateExtension(child);
+			break;
+		case "extension-point": //$NON-NLS-1$
+			validateExtensionPoint(child);
+			break;
+		default:
+			if (!name.equals("runtime") && !name.equals("requires")) { //$NON-NLS-1$ //$NON-NLS-2$
+				severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
+				if (severity != CompilerFlags.IGNORE) {
+					reportIllegalElement(child, severity);
+				}
+			} else {
+				severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_DEPRECATED);
+				if (severity != CompilerFlags.IGNORE) {
+					reportUnusedElement(child, severity);
+				}
+			}
+			break;
+		}
+	}
+
 	protected void validateExtension(Element element) {
 		if (!assertAttributeDefined(element, "point", CompilerFlags.ERROR)) { //$NON-NLS-1$
 			return;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,10 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
@@ -66,6 +68,49 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 
 	private final ClassChangeVisitor fClassFileVisitor = new ClassChangeVisitor();
 
+	/**
+	 * The problems found in the manifest files of a project, which have not
+	 * been applied as markers yet
+	 */
+	static final class ProjectProblems {
+		private final List<IFile> fFiles = new ArrayList<>();
+		private final List<Long> fStamps = new ArrayList<>();
+		private final List<Runnable> fMarkerUpdates = new ArrayList<>();
+
+		void add(IFile file, long stamp, Runnable markerUpdate) {
+			fFiles.add(file);
+			fStamps.add(stamp);
+			fMarkerUpdates.add(markerUpdate);
+		}
+
+		/**
+		 * Returns whether all manifest files are validated for the given kinds
+		 * of files
+		 */
+		static boolean isComplete(int type) {
+			return (type & (MANIFEST | EXTENSIONS | BUILD)) == (MANIFEST | EXTENSIONS | BUILD);
+		}
+
+		/**
+		 * Returns whether none of the files changed since they were validated
+		 */
+		boolean isUpToDate() {
+			for (int i = 0; i < fFiles.size(); i++) {
+				if (fFiles.get(i).getModificationStamp() != fStamps.get(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Replaces the markers of the validated files with the problems found
+		 */
+		void applyMarkers() {
+			fMarkerUpdates.forEach(Runnable::run);
+		}
+	}
+
 	static class ClassChangeVisitor implements IResourceDeltaVisitor {
 		boolean hasChanged = false;
 		boolean veto = false;
@@ -257,25 +302,49 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			validateProjectStructure(type, subMonitor.split(1));
 		}
 
+		IProject project = getProject();
+		SubMonitor filesMonitor = subMonitor.split(getWorkAmount(type) - 1);
+		ProjectProblems problems = ParallelManifestValidation.takeProblems(project, type, filesMonitor);
+		if (problems == null) {
+			problems = findProblems(project, type, filesMonitor);
+		}
+		if (!filesMonitor.isCanceled()) {
+			filesMonitor.subTask(PDECoreMessages.Builders_updating);
+			problems.applyMarkers();
+		}
+	}
+
+	/**
+	 * Finds the problems in the manifest files of the given project. The
+	 * workspace is not modified, so the files of several projects may be
+	 * validated concurrently.
+	 *
+	 * @param project the project to validate
+	 * @param type the kinds of files to validate
+	 * @param monitor progress monitor, only checked for cancellation
+	 * @return the problems found
+	 */
+	static ProjectProblems findProblems(IProject project, int type, IProgressMonitor monitor) {
+		ProjectProblems problems = new ProjectProblems();
 		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
-			IProject project = getProject();
 			IFile file = PDEProject.getPluginXml(project);
 			if (!file.exists()) {
 				file = PDEProject.getFragmentXml(project);
 			}
 
 			if (file.exists()) {
-				validateFiles(file, type, monitor);
+				findFileProblems(project, file, type, problems, monitor);
 			} else if ((type & MANIFEST) != 0) {
 				IFile manifestFile = PDEProject.getManifest(project);
 				if (manifestFile.exists()) {
-					validateManifestFile(manifestFile, subMonitor.split(1));
+					findManifestProblems(manifestFile, problems, monitor);
 				}
 			}
 		}
 		if ((type & BUILD) != 0) {
-			validateBuildProperties(subMonitor.split(1));
+			findBuildPropertiesProblems(project, problems, monitor);
 		}
+		return problems;
 	}
 
 	private int getWorkAmount(int type) {
@@ -307,27 +376,29 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		validateManifestCasing(project);
 	}
 
-	private void validateManifestFile(IFile file, IProgressMonitor monitor) {
+	private static void findManifestProblems(IFile file, ProjectProblems problems, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
 		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
 		monitor.subTask(message);
 
+		long stamp = file.getModificationStamp();
 		BundleErrorReporter reporter = new BundleErrorReporter(file);
-		reporter.validateContent(monitor);
-		monitor.subTask(PDECoreMessages.Builders_updating);
-		monitor.done();
+		reporter.validate(monitor);
+		problems.add(file, stamp, reporter::applyMarkers);
 	}
 
-	private void validateFiles(IFile file, int type, IProgressMonitor monitor) {
+	private static void findFileProblems(IProject project, IFile file, int type, ProjectProblems problems, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
 		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
 		monitor.subTask(message);
 
-		IFile bundleManifest = PDEProject.getManifest(getProject());
+		IFile bundleManifest = PDEProject.getManifest(project);
+		long stamp = file.getModificationStamp();
+		long bundleManifestStamp = bundleManifest.getModificationStamp();
 		XMLErrorReporter reporter = null;
 		BundleErrorReporter bundleReporter = null;
 		if (bundleManifest.exists()) {
@@ -338,34 +409,34 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 				bundleReporter = new BundleErrorReporter(bundleManifest);
 			}
 		} else if ((type & MANIFEST) != 0 || (type & EXTENSIONS) != 0) {
-			if (file.equals(PDEProject.getPluginXml(getProject()))) {
+			if (file.equals(PDEProject.getPluginXml(project))) {
 				reporter = new PluginErrorReporter(file);
-			} else if (file.equals(PDEProject.getFragmentXml(getProject()))) {
+			} else if (file.equals(PDEProject.getFragmentXml(project))) {
 				reporter = new FragmentErrorReporter(file);
 			}
 		}
 		if (reporter != null) {
 			DefaultSAXParser.parse(file, reporter);
-			reporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			reporter.validate(monitor);
+			problems.add(file, stamp, reporter::applyMarkers);
 		}
 		if (bundleReporter != null) {
-			bundleReporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			bundleReporter.validate(monitor);
+			problems.add(bundleManifest, bundleManifestStamp, bundleReporter::applyMarkers);
 		}
-		monitor.done();
 	}
 
-	private void validateBuildProperties(IProgressMonitor monitor) {
+	private static void findBuildPropertiesProblems(IProject project, ProjectProblems problems, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
-		IProject project = getProject();
 		IFile file = PDEProject.getBuildProperties(project);
 		if (file.exists()) {
 			monitor.subTask(PDECoreMessages.ManifestConsistencyChecker_buildPropertiesSubtask);
+			long stamp = file.getModificationStamp();
 			BuildErrorReporter ber = new BuildErrorReporter(file);
-			ber.validateContent(monitor);
+			ber.validate(monitor);
+			problems.add(file, stamp, ber::applyMarkers);
 		}
 	}
 
@@ -446,6 +517,8 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 	@Override
 	protected void clean(IProgressMonitor monitor) throws CoreException {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, NLS.bind(PDECoreMessages.ManifestConsistencyChecker_0, getProject().getName()), 1);
+		// the next build may validate all cleaned projects at once
+		ParallelManifestValidation.projectCleaned(getProject());
 		// clean problem markers on the project
 		cleanProblems(getProject(), IResource.DEPTH_ZERO);
 		// clean the manifest directory (since errors can be created on manifest
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.WorkspaceModelManager;
+import org.eclipse.pde.internal.core.builders.ManifestConsistencyChecker.ProjectProblems;
+
+/**
+ * Validates the manifest files of the plug-in projects rebuilt after a clean
+ * concurrently.
+ * <p>
+ * The workspace runs the {@link ManifestConsistencyChecker} of one project
+ * after the other, so a clean build validates the projects strictly one by
+ * one. Instead, when the first cleaned project is built, the MANIFEST.MF,
+ * plugin.xml and build.properties files of all cleaned projects are validated
+ * at once by a bounded pool of threads. Validating does not modify the
+ * workspace: the problems found are kept until the builder of each project
+ * applies them as markers, unless the project changed in the meantime. Since
+ * the other builders of a project run before its manifest builder, files they
+ * generate, like the component descriptions in OSGI-INF, are only created
+ * after the project was validated. The problems of a project are therefore
+ * only applied if none of its resources outside the Java output folders was
+ * added, removed or modified since; otherwise the builder validates the
+ * project again. Problems not applied by the end of the build are dropped,
+ * as are the projects cleaned but not built.
+ * </p>
+ */
+final class ParallelManifestValidation {
+
+	/**
+	 * The problems found in a project and the content stamp of the project
+	 * before it was validated, see {@link #getContentStamp(IProject)}
+	 */
+	private record Validation(ProjectProblems problems, long contentStamp) {
+	}
+
+	private static final Set<IProject> fCleanedProjects = ConcurrentHashMap.newKeySet();
+
+	private static final Map<IProject, Validation> fValidations = new ConcurrentHashMap<>();
+
+	private static final IResourceChangeListener fBuildListener = new IResourceChangeListener() {
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			// the cleaned projects are built by the build following the clean
+			if (event.getBuildKind() != IncrementalProjectBuilder.CLEAN_BUILD) {
+				fCleanedProjects.clear();
+				fValidations.clear();
+				ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+			}
+		}
+	};
+
+	private ParallelManifestValidation() {
+	}
+
+	/**
+	 * Remembers that the given project was cleaned, so its next full build
+	 * may be validated together with the other cleaned projects
+	 */
+	static void projectCleaned(IProject project) {
+		fCleanedProjects.add(project);
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(fBuildListener, IResourceChangeEvent.POST_BUILD);
+	}
+
+	/**
+	 * Returns the problems found in the manifest files of the given project in
+	 * the current build, validating all cleaned projects concurrently if the
+	 * given project is the first of them to be built.
+	 *
+	 * @param project the project being built
+	 * @param type the kinds of files to validate
+	 * @param monitor the monitor of the build
+	 * @return the problems, or <code>null</code> if the files of the project
+	 *         have to be validated by the caller
+	 */
+	static ProjectProblems takeProblems(IProject project, int type, IProgressMonitor monitor) {
+		boolean cleaned = fCleanedProjects.remove(project);
+		Validation validation = fValidations.remove(project);
+		if (validation == null && cleaned && isEnabled() && ProjectProblems.isComplete(type)) {
+			List<IProject> projects = new ArrayList<>();
+			projects.add(project);
+			for (IProject other : fCleanedProjects) {
+				if (other.isOpen() && PDEBuilderHelper.hasManifestBuilder(other) && !WorkspaceModelManager.isBinaryProject(other)) {
+					projects.add(other);
+				}
+			}
+			if (projects.size() > 1) {
+				validate(projects, type, monitor);
+				validation = fValidations.remove(project);
+			}
+		}
+		if (validation != null && ProjectProblems.isComplete(type) && validation.problems().isUpToDate()) {
+			try {
+				if (getContentStamp(project) == validation.contentStamp()) {
+					return validation.problems();
+				}
+			} catch (CoreException e) {
+				PDECore.log(e);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a stamp of the resources of the given project, which changes
+	 * whenever a resource is added, removed or modified. The Java output
+	 * folders are left out, as the manifest files are not validated against
+	 * class files and they are rewritten by the build of the project.
+	 */
+	private static long getContentStamp(IProject project) throws CoreException {
+		Set<IPath> outputLocations = getOutputLocations(project);
+		long[] stamp = { 1 };
+		project.accept(proxy -> {
+			if (proxy.getType() == IResource.FOLDER && outputLocations.contains(proxy.requestFullPath())) {
+				return false;
+			}
+			stamp[0] = 31 * (31 * stamp[0] + proxy.getName().hashCode()) + proxy.getModificationStamp();
+			return true;
+		}, IResource.NONE);
+		return stamp[0];
+	}
+
+	private static Set<IPath> getOutputLocations(IProject project) throws CoreException {
+		Set<IPath> outputLocations = new HashSet<>();
+		if (project.hasNature(JavaCore.NATURE_ID)) {
+			IJavaProject javaProject = JavaCore.create(project);
+			outputLocations.add(javaProject.getOutputLocation());
+			for (IClasspathEntry entry : javaProject.getRawClasspath()) {
+				if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE && entry.getOutputLocation() != null) {
+					outputLocations.add(entry.getOutputLocation());
+				}
+			}
+		}
+		return outputLocations;
+	}
+
+	private static boolean isEnabled() {
+		PDECore core = PDECore.getDefault();
+		return core != null && core.getPreferencesManager().getBoolean(ICoreConstants.PARALLEL_MANIFEST_VALIDATION);
+	}
+
+	private static void validate(List<IProject> projects, int type, IProgressMonitor monitor) {
+		long start = System.currentTimeMillis();
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), projects.size());
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "PDE Manifest Validation"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		// shared by all workers, canceled from the builder thread
+		NullProgressMonitor workerMonitor = new NullProgressMonitor();
+		try {
+			List<Future<?>> futures = new ArrayList<>(projects.size());
+			for (IProject project : projects) {
+				futures.add(executor.submit(() -> {
+					if (!workerMonitor.isCanceled()) {
+						long contentStamp = getContentStamp(project);
+						ProjectProblems problems = ManifestConsistencyChecker.findProblems(project, type, workerMonitor);
+						if (!workerMonitor.isCanceled()) {
+							fValidations.put(project, new Validation(problems, contentStamp));
+						}
+					}
+					return null;
+				}));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				if (!await(futures.get(i), projects.get(i), monitor)) {
+					workerMonitor.setCanceled(true);
+					fValidations.clear();
+					return;
+				}
+			}
+		} finally {
+			workerMonitor.setCanceled(true);
+			executor.shutdownNow();
+		}
+		if (PDECore.DEBUG_VALIDATION) {
+			System.out.println("Validated " + projects.size() + " projects using " + threads + " threads in " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	/**
+	 * Waits for the validation of the given project to complete. A project
+	 * whose validation failed is validated again by its builder.
+	 *
+	 * @return <code>false</code> if the build was canceled while waiting
+	 */
+	private static boolean await(Future<?> future, IProject project, IProgressMonitor monitor) {
+		while (!monitor.isCanceled()) {
+			try {
+				future.get(100, TimeUnit.MILLISECONDS);
+				return true;
+			} catch (TimeoutException e) {
+				// poll the monitor again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			} catch (ExecutionException e) {
+				PDECore.logException(e.getCause(), "Unable to validate the manifest files of project " + project.getName()); //$NON-NLS-1$
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2017 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -73,6 +73,12 @@ public abstract class PluginBaseErrorReporter extends ExtensionsErrorReporter {
 		}
 	}
 
+	@Override
+	protected boolean isStreaming() {
+		// legacy plug-in manifests are only validated once parsed completely
+		return false;
+	}
+
 	protected void validateTopLevelAttributes(Element element) {
 		if (assertAttributeDefined(element, "id", CompilerFlags.ERROR)) { //$NON-NLS-1$
 			validatePluginID(element, element.getAttributeNode("id")); //$NON-NLS-1$
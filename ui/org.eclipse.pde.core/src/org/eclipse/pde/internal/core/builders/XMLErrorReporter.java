@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2021 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -91,6 +91,12 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	private double fSchemaVersion = 2.1;
 
+	/**
+	 * Number of children of the root element that have been validated and
+	 * released while parsing, see {@link #isStreaming()}
+	 */
+	private int fReleasedChildren;
+
 	public XMLErrorReporter(IFile file) {
 		this(file, PDEMarkerFactory.MARKER_ID);
 	}
@@ -161,8 +167,13 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 			childIndex += 1;
 		}
 
-		StringBuilder sb = new StringBuilder();
 		Node parent = node.getParentNode();
+		if (parent != null && parent == fRootElement) {
+			// account for the siblings already released in streaming mode
+			childIndex += fReleasedChildren;
+		}
+
+		StringBuilder sb = new StringBuilder();
 		if (parent != null && !(parent instanceof Document)) {
 			sb.append(generateLocationPath(parent, null));
 			sb.append(F_CHILD_SEP);
@@ -242,7 +253,33 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	@Override
 	public void endElement(String uri, String localName, String qName) throws SAXException {
-		fElementStack.pop();
+		Element element = fElementStack.pop();
+		if (fElementStack.size() == 1 && isStreaming()) {
+			validateParsedElement(element);
+			releaseChildren();
+		}
+	}
+
+	/**
+	 * Removes the children of the root element from the document, together
+	 * with their offsets, once they have been validated in streaming mode.
+	 */
+	private void releaseChildren() {
+		Node child = fRootElement.getFirstChild();
+		while (child != null) {
+			Node next = child.getNextSibling();
+			releaseOffsets(child);
+			fRootElement.removeChild(child);
+			fReleasedChildren++;
+			child = next;
+		}
+	}
+
+	private void releaseOffsets(Node node) {
+		fOffsetTable.remove(node);
+		for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+			releaseOffsets(child);
+		}
 	}
 
 	private void generateErrorElementHierarchy() {
@@ -377,11 +414,55 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 
 	public final void validateContent(IProgressMonitor monitor) {
 		validate(monitor);
+		applyMarkers();
+	}
+
+	/**
+	 * Replaces the markers of the file with the problems reported so far.
+	 * Unlike validating, this modifies the workspace.
+	 */
+	final void applyMarkers() {
 		fErrorReporter.applyMarkers();
 	}
 
 	protected abstract void validate(IProgressMonitor monitor);
 
+	/**
+	 * Returns whether this reporter validates the document while it is parsed.
+	 * <p>
+	 * In streaming mode, each child of the root element is passed to
+	 * {@link #validateParsedElement(Element)} as soon as it has been parsed
+	 * completely and is then removed from the document, so only the root
+	 * element and the child being parsed are kept in memory, no matter how
+	 * large the document is. When {@link #validate(IProgressMonitor)} is
+	 * called, the root element only has the children that were not parsed
+	 * completely because parsing stopped on a fatal error.
+	 * </p>
+	 * <p>
+	 * The default implementation returns <code>false</code>.
+	 * </p>
+	 *
+	 * @return whether the children of the root element are validated while
+	 *         the document is parsed
+	 */
+	protected boolean isStreaming() {
+		return false;
+	}
+
+	/**
+	 * Validates a child of the root element that has just been parsed. Only
+	 * called in streaming mode, see {@link #isStreaming()}. The element is
+	 * still attached to the root element, but its previous siblings have
+	 * already been removed.
+	 * <p>
+	 * The default implementation does nothing.
+	 * </p>
+	 *
+	 * @param element the child of the root element
+	 */
+	protected void validateParsedElement(Element element) {
+	}
+
 	public Element getDocumentRoot() {
 		if (fRootElement != null) {
 			fRootElement.normalize();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2013 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.URIUtil;
@@ -29,8 +31,15 @@ import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 	private final URL fSchemaURL;
 	private String fSchemaLocation;
-	private Schema fSchema;
+	private volatile Schema fSchema;
 	private long fLastModified;
+	/**
+	 * The schemas being loaded by the threads loading them. Included schemas
+	 * may include each other, so a thread loading the schema must get the
+	 * schema being loaded rather than load it again. Other threads do not wait
+	 * for the schema being loaded, which could deadlock on cyclic includes.
+	 */
+	private final Map<Thread, Schema> fLoading = new ConcurrentHashMap<>(1);
 
 	public IncludedSchemaDescriptor(URL schemaURL) {
 		fSchemaURL = schemaURL;
@@ -159,11 +168,29 @@ public class IncludedSchemaDescriptor implements ISchemaDescriptor {
 
 	@Override
 	public ISchema getSchema(boolean abbreviated) {
-		if (fSchema == null && fSchemaURL != null) {
-			fSchema = new Schema(this, fSchemaURL, abbreviated);
-			fSchema.load();
+		Schema schema = fSchema;
+		if (schema == null && fSchemaURL != null) {
+			Thread thread = Thread.currentThread();
+			schema = fLoading.get(thread);
+			if (schema == null) {
+				schema = new Schema(this, fSchemaURL, abbreviated);
+				fLoading.put(thread, schema);
+				try {
+					schema.load();
+				} finally {
+					fLoading.remove(thread);
+				}
+				synchronized (this) {
+					// keep the schema of the first thread that loaded it
+					if (fSchema == null) {
+						fSchema = schema;
+					} else {
+						schema = fSchema;
+					}
+				}
+			}
 		}
-		return fSchema;
+		return schema;
 	}
 
 	@Override
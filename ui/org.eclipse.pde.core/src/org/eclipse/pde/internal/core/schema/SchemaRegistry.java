@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,34 +16,111 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.pde.core.plugin.IFragment;
 import org.eclipse.pde.core.plugin.IFragmentModel;
 import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.SourceLocationManager;
+import org.eclipse.pde.internal.core.ischema.IDocumentSection;
 import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
 import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
+import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
+/**
+ * Caches the schemas of extension points and of the schemas they include.
+ * <p>
+ * Schemas are parsed once per extension point and schema location, and
+ * parsed again when the schema location or its modification time changes.
+ * The registry may be accessed concurrently. The memory retained by the
+ * cached schemas is bounded, the least recently used schemas are dropped
+ * first. As the size of the schema models cannot be measured, it is estimated
+ * from the number of their objects and the length of their texts, see
+ * {@link #estimateSize(ISchema)}.
+ * </p>
+ */
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * Default maximum estimated size of the cached schemas in bytes
+	 */
+	private static final long MAX_SIZE = 32L * 1024 * 1024;
+
+	/**
+	 * Estimated size in bytes of a schema object, without its texts
+	 */
+	private static final long OBJECT_SIZE = 200;
+
+	private static final class Entry {
+		final ISchemaDescriptor descriptor;
+		volatile long lastAccess;
+		/**
+		 * The estimated size of the schema, or -1 if it has not been loaded
+		 */
+		volatile long size = -1;
+
+		Entry(ISchemaDescriptor descriptor) {
+			this.descriptor = descriptor;
+		}
+	}
+
+	private final Map<String, Entry> fRegistry = new ConcurrentHashMap<>();
+
+	private final Object fTrimLock = new Object();
+
+	private final long fMaxSize;
+
+	private final long fTrimmedSize;
+
+	private Job fPreloadJob;
+
+	public SchemaRegistry() {
+		this(MAX_SIZE);
+	}
+
+	/**
+	 * Creates a registry caching schemas up to the given estimated size
+	 *
+	 * @param maxSize
+	 *            the maximum estimated size of the cached schemas in bytes,
+	 *            the least recently used schemas are dropped until three
+	 *            quarters of it are left when it is exceeded
+	 */
+	public SchemaRegistry(long maxSize) {
+		fMaxSize = maxSize;
+		fTrimmedSize = maxSize * 3 / 4;
+	}
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			fRegistry.remove(extPointID);
 			return null;
 		}
 
@@ -52,13 +129,7 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
-		}
-
-		return desc.getSchema(true);
+		return getSchema(getEntry(extPointID, url, u -> new SchemaDescriptor(extPointID, u)));
 	}
 
 	public ISchema getIncludedSchema(ISchemaDescriptor parent, String schemaLocation) {
@@ -68,26 +139,154 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
-			}
-			return desc.getSchema(true);
+			return getSchema(getEntry(url.toString(), url, IncludedSchemaDescriptor::new));
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
+	/**
+	 * Returns the cached entry for the given key if its schema is still the
+	 * one at the given location, or caches a new entry with a descriptor
+	 * created by the given factory otherwise
+	 */
+	private Entry getEntry(String key, URL url, Function<URL, ISchemaDescriptor> factory) {
+		Entry entry = fRegistry.get(key);
+		if (entry == null || hasSchemaChanged(entry.descriptor, url)) {
+			entry = fRegistry.compute(key, (k, current) -> current == null || hasSchemaChanged(current.descriptor, url)
+					? new Entry(factory.apply(url))
+					: current);
+		}
+		entry.lastAccess = System.nanoTime();
+		return entry;
+	}
+
+	/**
+	 * Returns the schema of the given entry. The size of a schema is estimated
+	 * when it is first loaded, which is when the size of the cache grows.
+	 */
+	private ISchema getSchema(Entry entry) {
+		ISchema schema = entry.descriptor.getSchema(true);
+		if (entry.size < 0) {
+			entry.size = schema == null ? OBJECT_SIZE : estimateSize(schema);
+			if (getSize() > fMaxSize) {
+				trim();
 			}
 		}
-		return desc;
+		return schema;
+	}
+
+	/**
+	 * Returns the estimated size of the cached schemas
+	 */
+	private long getSize() {
+		long size = 0;
+		for (Entry entry : fRegistry.values()) {
+			size += Math.max(entry.size, 0);
+		}
+		return size;
+	}
+
+	/**
+	 * Drops the least recently used schemas until the estimated size of the
+	 * cached schemas is at most three quarters of the maximum size
+	 */
+	private void trim() {
+		synchronized (fTrimLock) {
+			long size = getSize();
+			if (size <= fTrimmedSize) {
+				return;
+			}
+			List<Map.Entry<String, Entry>> entries = new ArrayList<>(fRegistry.entrySet());
+			entries.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+			for (int i = 0; size > fTrimmedSize && i < entries.size(); i++) {
+				Map.Entry<String, Entry> entry = entries.get(i);
+				if (fRegistry.remove(entry.getKey(), entry.getValue())) {
+					size -= Math.max(entry.getValue().size, 0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the estimated number of bytes retained by the model of the given
+	 * schema: a fixed size for each schema object and two bytes for each
+	 * character of its names and descriptions. Included schemas are cached,
+	 * and estimated, on their own.
+	 *
+	 * @param schema
+	 *            the schema
+	 * @return the estimated size of the schema in bytes
+	 */
+	public static long estimateSize(ISchema schema) {
+		long size = OBJECT_SIZE + 2L * length(schema.getDescription());
+		for (IDocumentSection section : schema.getDocumentSections()) {
+			size += estimateSize(section);
+		}
+		for (ISchemaElement element : schema.getElements()) {
+			size += estimateSize(element);
+			for (ISchemaAttribute attribute : element.getAttributes()) {
+				size += estimateSize(attribute);
+				ISchemaSimpleType type = attribute.getType();
+				ISchemaRestriction restriction = type == null ? null : type.getRestriction();
+				if (restriction != null) {
+					size += estimateSize(restriction);
+					for (Object child : restriction.getChildren()) {
+						if (child instanceof ISchemaObject object) {
+							size += estimateSize(object);
+						}
+					}
+				}
+			}
+			if (element.getType() instanceof ISchemaComplexType type && type.getCompositor() != null) {
+				size += estimateSize(type.getCompositor());
+			}
+		}
+		return size;
+	}
+
+	private static long estimateSize(ISchemaObject object) {
+		long size = OBJECT_SIZE + 2L * (length(object.getName()) + length(object.getDescription()));
+		if (object instanceof ISchemaCompositor compositor) {
+			for (ISchemaObject child : compositor.getChildren()) {
+				size += estimateSize(child);
+			}
+		}
+		return size;
+	}
+
+	private static int length(String text) {
+		return text == null ? 0 : text.length();
+	}
+
+	/**
+	 * Parses the schemas of the extension points extended by the workspace
+	 * plug-ins in a background job, so that they are cached before the
+	 * plug-ins are built or edited. A preload still running is canceled.
+	 */
+	public synchronized void preloadWorkspaceSchemas() {
+		if (fPreloadJob != null) {
+			fPreloadJob.cancel();
+		}
+		fPreloadJob = Job.create(PDECoreMessages.SchemaRegistry_PreloadingSchemas, monitor -> {
+			Set<String> pointIds = new LinkedHashSet<>();
+			for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+				for (IPluginExtension extension : model.getPluginBase().getExtensions()) {
+					String pointId = extension.getPoint();
+					if (pointId != null) {
+						pointIds.add(pointId);
+					}
+				}
+			}
+			SubMonitor subMonitor = SubMonitor.convert(monitor, pointIds.size());
+			for (String pointId : pointIds) {
+				subMonitor.split(1);
+				getSchema(pointId);
+			}
+		});
+		fPreloadJob.setSystem(true);
+		fPreloadJob.setPriority(Job.DECORATE);
+		fPreloadJob.schedule();
 	}
 
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -183,6 +382,12 @@ public class SchemaRegistry {
 	}
 
 	public void shutdown() {
+		synchronized (this) {
+			if (fPreloadJob != null) {
+				fPreloadJob.cancel();
+				fPreloadJob = null;
+			}
+		}
 		fRegistry.clear();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -266,7 +266,7 @@ public class ProfileBundleContainer extends AbstractBundleContainer {
 	 * @return configuration area URL or <code>null</code>
 	 * @throws CoreException if unable to generate a URL or the user specified location does not exist
 	 */
-	private File getConfigurationArea() throws CoreException {
+	File getConfigurationArea() throws CoreException {
 		IPath home = resolveHomeLocation();
 		IPath configuration = null;
 		if (fConfiguration == null) {
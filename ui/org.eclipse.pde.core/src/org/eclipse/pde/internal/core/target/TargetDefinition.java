@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@
 package org.eclipse.pde.internal.core.target;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -27,11 +28,22 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -43,6 +55,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -51,6 +64,7 @@ import org.eclipse.core.variables.VariablesPlugin;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
 import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.simpleconfigurator.manipulator.SimpleConfiguratorManipulator;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.core.target.ITargetDefinition;
@@ -59,6 +73,7 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
 import org.eclipse.pde.internal.core.ExternalFeatureModelManager;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.core.PDECore;
@@ -109,6 +124,13 @@ public class TargetDefinition implements ITargetDefinition {
 	 */
 	private IStatus fResolutionStatus;
 
+	/**
+	 * Fingerprints of the content of the locations at the time they were last
+	 * resolved, see {@link #computeFingerprint(ITargetLocation)}
+	 */
+	private final Map<ITargetLocation, Long> fLocationFingerprints = Collections
+			.synchronizedMap(new IdentityHashMap<>());
+
 	// implicit dependencies
 	private NameVersionDescriptor[] fImplicit;
 
@@ -118,7 +140,7 @@ public class TargetDefinition implements ITargetDefinition {
 	public static final int MODE_FEATURE = 1;
 
 	// cache of features found for a given location, maps a string path location to a array of IFeatureModels (IFeatureModel[])
-	private static Map<String, TargetFeature[]> fFeaturesInLocation = new HashMap<>();
+	private static Map<String, TargetFeature[]> fFeaturesInLocation = new ConcurrentHashMap<>();
 
 	// internal cache for features.  A target managed by features will contain a set of features as well as a set of plug-ins that don't belong to a feature
 	private TargetFeature[] fFeatures;
@@ -377,9 +399,53 @@ public class TargetDefinition implements ITargetDefinition {
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
+			// locations whose content did not change since they were resolved
+			// the last time are not resolved again
+			Map<ITargetLocation, Long> fingerprints = new IdentityHashMap<>();
+			Set<ITargetLocation> unchangedLocations = Collections.newSetFromMap(new IdentityHashMap<>());
+			if (isIncrementalResolution()) {
+				for (ITargetLocation location : targetLocations) {
+					Long fingerprint = computeFingerprint(location);
+					if (fingerprint != null) {
+						fingerprints.put(location, fingerprint);
+						if (location.isResolved() && fingerprint.equals(fLocationFingerprints.get(location))) {
+							unchangedLocations.add(location);
+						}
+					}
+				}
+			}
+			fLocationFingerprints.keySet().retainAll(fingerprints.keySet());
+			List<ITargetLocation> concurrentLocations = new ArrayList<>();
+			if (isConcurrentResolution()) {
+				for (ITargetLocation location : targetLocations) {
+					if (isIndependentLocation(location) && !unchangedLocations.contains(location)) {
+						concurrentLocations.add(location);
+					}
+				}
+				if (concurrentLocations.size() < 2) {
+					concurrentLocations.clear();
+				}
+			}
+			Map<ITargetLocation, IStatus> concurrentStatus = resolveConcurrently(concurrentLocations, subMonitor);
 			for (ITargetLocation location : targetLocations) {
 				subMonitor.checkCanceled();
 				subMonitor.subTask(Messages.TargetDefinition_4);
+				if (unchangedLocations.contains(location)) {
+					IStatus s = location.getStatus();
+					if (s != null && !s.isOK()) {
+						status.add(s);
+					}
+					subMonitor.worked(100);
+					continue;
+				}
+				IStatus resolved = concurrentStatus.get(location);
+				if (resolved != null) {
+					// already resolved together with the other independent locations
+					if (!resolved.isOK()) {
+						status.add(resolved);
+					}
+					continue;
+				}
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
 					// a usual target definition location
@@ -415,6 +481,11 @@ public class TargetDefinition implements ITargetDefinition {
 					}
 				}
 			}
+			fingerprints.forEach((location, fingerprint) -> {
+				if (location.isResolved()) {
+					fLocationFingerprints.put(location, fingerprint);
+				}
+			});
 			if (status.isOK()) {
 				return fResolutionStatus = Status.OK_STATUS;
 			}
@@ -428,6 +499,180 @@ public class TargetDefinition implements ITargetDefinition {
 		}
 	}
 
+	/**
+	 * Returns whether independent locations should be resolved concurrently,
+	 * see {@link ICoreConstants#TARGET_CONCURRENT_RESOLUTION}.
+	 */
+	private static boolean isConcurrentResolution() {
+		PDECore core = PDECore.getDefault();
+		return core != null && core.getPreferencesManager().getBoolean(ICoreConstants.TARGET_CONCURRENT_RESOLUTION);
+	}
+
+	/**
+	 * Returns whether locations that did not change since they were last
+	 * resolved should be skipped, see
+	 * {@link ICoreConstants#TARGET_INCREMENTAL_RESOLUTION}.
+	 */
+	private static boolean isIncrementalResolution() {
+		PDECore core = PDECore.getDefault();
+		return core != null && core.getPreferencesManager().getBoolean(ICoreConstants.TARGET_INCREMENTAL_RESOLUTION);
+	}
+
+	/**
+	 * Computes a fingerprint of the configuration and the content of the given
+	 * location. The content is represented by the names, sizes and modification
+	 * times of the files in the root of the location and its
+	 * <code>plugins</code> and <code>features</code> folders, together with the
+	 * modification times of the manifest files of directory bundles, which
+	 * covers added, removed, replaced and edited bundles without opening any of
+	 * them. The fingerprint of an installation also covers the files listing
+	 * its bundles, i.e. its <code>config.ini</code>, <code>bundles.info</code>,
+	 * <code>source.info</code> and p2 profile.
+	 *
+	 * @param location the location
+	 * @return the fingerprint or <code>null</code> if the content of the
+	 *         location cannot be fingerprinted and it must always be resolved
+	 */
+	private static Long computeFingerprint(ITargetLocation location) {
+		if (!isIndependentLocation(location)) {
+			return null;
+		}
+		try {
+			String path = location.getLocation(true);
+			if (path == null) {
+				return null;
+			}
+			File root = new File(path);
+			long fingerprint = Objects.hashCode(location.serialize());
+			fingerprint = 31 * fingerprint + computeFingerprint(root);
+			fingerprint = 31 * fingerprint + computeFingerprint(new File(root, IPDEBuildConstants.DEFAULT_PLUGIN_LOCATION));
+			fingerprint = 31 * fingerprint + computeFingerprint(new File(root, IPDEBuildConstants.DEFAULT_FEATURE_LOCATION));
+			if (location instanceof ProfileBundleContainer profile) {
+				File configurationArea = profile.getConfigurationArea();
+				if (configurationArea != null) {
+					fingerprint = 31 * fingerprint + computeFingerprint(configurationArea);
+					fingerprint = 31 * fingerprint + computeFileFingerprint(
+							new File(configurationArea, SimpleConfiguratorManipulator.BUNDLES_INFO_PATH));
+					fingerprint = 31 * fingerprint + computeFileFingerprint(
+							new File(configurationArea, SimpleConfiguratorManipulator.SOURCE_INFO_PATH));
+				}
+				File profileLocation = profile.getProfileFileLocation();
+				if (profileLocation != null) {
+					fingerprint = 31 * fingerprint + computeFingerprint(profileLocation);
+				}
+			}
+			return fingerprint;
+		} catch (CoreException e) {
+			return null;
+		}
+	}
+
+	private static long computeFingerprint(File directory) {
+		File[] files = directory.listFiles();
+		if (files == null) {
+			return 0;
+		}
+		// independent of the order of the files
+		long fingerprint = files.length;
+		for (File file : files) {
+			long hash = computeFileFingerprint(file);
+			if (file.isDirectory()) {
+				// a directory bundle may be edited in place
+				hash = 31 * hash + new File(file, ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR).lastModified();
+				hash = 31 * hash + new File(file, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR).lastModified();
+				hash = 31 * hash + new File(file, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR).lastModified();
+			}
+			fingerprint += hash;
+		}
+		return fingerprint;
+	}
+
+	private static long computeFileFingerprint(File file) {
+		long hash = file.getName().hashCode();
+		hash = 31 * hash + file.length();
+		hash = 31 * hash + file.lastModified();
+		return hash;
+	}
+
+	/**
+	 * Returns whether the given location only reads from its own location on
+	 * disk and can therefore be resolved concurrently with other independent
+	 * locations. Target references are not independent, as resolving the
+	 * referenced target resets the shared p2 artifact maps; p2 locations are
+	 * resolved in a separate batch and locations contributed by other plug-ins
+	 * make no guarantees about thread safety.
+	 */
+	private static boolean isIndependentLocation(ITargetLocation location) {
+		return location instanceof DirectoryBundleContainer || location instanceof ProfileBundleContainer
+				|| location instanceof FeatureBundleContainer;
+	}
+
+	/**
+	 * Resolves the given locations concurrently. The locations are resolved in
+	 * background threads while the calling thread waits for them, reports
+	 * progress on the given monitor and forwards cancellation to the
+	 * background threads.
+	 *
+	 * @param locations the locations to resolve, possibly empty
+	 * @param subMonitor the monitor of {@link #resolve(IProgressMonitor)}, 100
+	 *            units of work are consumed per location
+	 * @return the resolution status of each location
+	 * @throws OperationCanceledException if the monitor is canceled
+	 */
+	private Map<ITargetLocation, IStatus> resolveConcurrently(List<ITargetLocation> locations, SubMonitor subMonitor) {
+		if (locations.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		subMonitor.subTask(Messages.TargetDefinition_4);
+		int threads = Math.min(locations.size(), Runtime.getRuntime().availableProcessors());
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "Target Location Resolution " + threadCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		// progress of the workers is not reported, only their cancellation
+		IProgressMonitor workerMonitor = new NullProgressMonitor();
+		try {
+			Map<ITargetLocation, Future<IStatus>> futures = new LinkedHashMap<>();
+			for (ITargetLocation location : locations) {
+				futures.put(location, executor.submit(() -> location.resolve(this, workerMonitor)));
+			}
+			Map<ITargetLocation, IStatus> result = new IdentityHashMap<>();
+			for (Entry<ITargetLocation, Future<IStatus>> entry : futures.entrySet()) {
+				result.put(entry.getKey(), await(entry.getValue(), subMonitor, workerMonitor));
+				subMonitor.worked(100);
+			}
+			return result;
+		} finally {
+			workerMonitor.setCanceled(true);
+			executor.shutdownNow();
+		}
+	}
+
+	private static IStatus await(Future<IStatus> future, SubMonitor subMonitor, IProgressMonitor workerMonitor) {
+		while (true) {
+			if (subMonitor.isCanceled()) {
+				workerMonitor.setCanceled(true);
+				throw new OperationCanceledException();
+			}
+			try {
+				return future.get(100, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// check for cancellation again
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof OperationCanceledException canceled) {
+					throw canceled;
+				}
+				return Status.error(Messages.TargetDefinition_2, cause);
+			}
+		}
+	}
+
 	@Override
 	public boolean isResolved() {
 		ITargetLocation[] containers = getTargetLocations();
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the model of a document that is updated incrementally with the
+ * changes of the document is the same as the model of a full parse of the
+ * changed document.
+ */
+public class IncrementalParsingTests {
+
+	private static final String TARGET = """
+			<?xml version="1.0" encoding="UTF-8" standalone="no"?>
+			<?pde version="3.8"?>
+			<target name="test">
+				<locations>
+					<!-- the first location -->
+					<location includeAllPlatforms="false" includeMode="planner" type="InstallableUnit">
+						<repository location="https://download.eclipse.org/releases/2026-03/"/>
+						<unit id="org.eclipse.a" version="1.0.0"/>
+						<unit id="org.eclipse.b" version="2.0.0"/>
+					</location>
+					<location path="/tmp" type="Directory"/>
+					<location includeMode="slicer" type="InstallableUnit">
+						<unit id="org.eclipse.c" version="0.0.0"></unit>
+						<repository location="https://download.eclipse.org/eclipse/updates/4.39/"/>
+					</location>
+				</locations>
+			</target>
+			""";
+
+	private IDocument document;
+
+	@Before
+	public void setUp() {
+		document = new Document(TARGET);
+		assertModelOfDocument();
+	}
+
+	@Test
+	public void testEditsInsideUnit() throws BadLocationException {
+		int version = TARGET.indexOf("1.0.0");
+		replace(version, 5, "1.0.10");
+		replace(version + 4, 2, "");
+		int id = TARGET.indexOf("org.eclipse.b") + "org.eclipse.b".length();
+		for (char c : ".core".toCharArray()) {
+			replace(id++, 0, String.valueOf(c));
+		}
+		replace(TARGET.indexOf(" version=\"2.0.0\"") + 5, 16, "");
+		int unit = document.get().indexOf("org.eclipse.c");
+		replace(unit, 0, "x");
+		replace(document.get().indexOf("\"></unit>") + 1, 0, " ");
+	}
+
+	@Test
+	public void testSeveralEditsBeforeUpdate() throws BadLocationException {
+		int version = TARGET.indexOf("1.0.0");
+		document.replace(version, 1, "3");
+		document.replace(version + 2, 1, "4");
+		assertModelOfDocument();
+		document.replace(version, 1, "5");
+		document.replace(TARGET.indexOf("org.eclipse.c"), 0, "x");
+		assertModelOfDocument();
+	}
+
+	@Test
+	public void testEditsInsideRepository() throws BadLocationException {
+		int release = TARGET.indexOf("2026-03");
+		replace(release, 7, "2026-06");
+		replace(release, 7, "latest");
+		replace(document.get().indexOf("<repository") + "<repository".length(), 0, " id=\"releases\"");
+		int updates = document.get().indexOf("4.39");
+		replace(updates, 4, "4.40");
+	}
+
+	@Test
+	public void testEditsBetweenUnits() throws BadLocationException {
+		int between = TARGET.indexOf("<unit id=\"org.eclipse.b\"");
+		String unit = "<unit id=\"org.eclipse.d\" version=\"0.0.0\"/>\n\t\t\t";
+		replace(between, 0, unit);
+		replace(between, unit.length(), "");
+		for (char c : unit.toCharArray()) {
+			replace(between++, 0, String.valueOf(c));
+		}
+		replace(document.get().indexOf("</location>"), 0, "\n");
+		replace(document.get().indexOf("<location path"), 0, "\t");
+	}
+
+	@Test
+	public void testEditsAtElementBoundaries() throws BadLocationException {
+		int unit = TARGET.indexOf("<unit id=\"org.eclipse.a\"");
+		replace(unit, 1, "");
+		replace(unit, 0, "<");
+		int unitEnd = TARGET.indexOf("/>", unit);
+		replace(unitEnd, 1, "");
+		replace(unitEnd, 0, "/");
+		replace(unitEnd + 2, 0, "<unit id=\"org.eclipse.e\"/>");
+		int closingTag = document.get().indexOf("</unit>");
+		replace(closingTag, 7, "");
+		replace(closingTag, 0, "</unit>");
+		int location = document.get().indexOf("<location path");
+		replace(location, 9, "<locations");
+		replace(location, 10, "<location");
+		replace(document.get().indexOf("</location>"), 11, "");
+		replace(document.get().indexOf("</locations>"), 0, "</location>");
+		replace(document.get().indexOf("<target"), 7, "<targets");
+	}
+
+	@Test
+	public void testEditsInsideComments() throws BadLocationException {
+		int comment = TARGET.indexOf("the first location");
+		replace(comment, 9, "the 1st");
+		replace(document.get().indexOf("<location includeMode"), 0, "<!-- ");
+		replace(document.get().indexOf("</location>\n\t</locations>") + 11, 0, " -->");
+		replace(document.get().indexOf("org.eclipse.c"), 0, "x");
+		replace(document.get().indexOf("<!-- <location"), 5, "");
+		replace(document.get().indexOf(" -->\n\t</locations>"), 4, "");
+		int unit = document.get().indexOf("<unit id=\"org.eclipse.a\"");
+		replace(unit, 0, "<!--");
+		replace(unit + 4, 0, "-->");
+		replace(unit, 7, "");
+	}
+
+	@Test
+	public void testRandomEdits() throws BadLocationException {
+		Random random = new Random(2026);
+		String[] texts = { "", "a", " ", "\"", "<", ">", "/", "=", "!--", "--", "<unit id=\"x\"/>", "</unit>",
+				"<repository location=\"y\"/>" };
+		for (int i = 0; i < 1000; i++) {
+			if (i % 50 == 0) {
+				document.set(TARGET);
+			}
+			int offset = random.nextInt(document.getLength() + 1);
+			int length = Math.min(random.nextInt(4), document.getLength() - offset);
+			replace(offset, length, texts[random.nextInt(texts.length)]);
+		}
+	}
+
+	@Test
+	public void testReturnedModelIsNotModified() throws BadLocationException {
+		Node rootNode = Parser.getParser(document).getRootNode(document);
+		String model = toString(rootNode);
+		int version = TARGET.indexOf("1.0.0");
+		replace(version, 5, "1.0.10");
+		replace(0, 0, "\n");
+		assertEquals(model, toString(rootNode));
+	}
+
+	private void replace(int offset, int length, String text) throws BadLocationException {
+		document.replace(offset, length, text);
+		assertModelOfDocument();
+	}
+
+	private void assertModelOfDocument() {
+		String text = document.get();
+		Node parsed = new Parser().getRootNode(new Document(text));
+		Node updated = Parser.getParser(document).getRootNode(document);
+		assertEquals(text, toString(parsed), toString(updated));
+	}
+
+	private static String toString(Node node) {
+		StringBuilder builder = new StringBuilder();
+		if (node != null) {
+			append(node, "", builder);
+		}
+		return builder.toString();
+	}
+
+	private static void append(Node node, String indent, StringBuilder builder) {
+		builder.append(indent).append(node.getNodeTag()).append(' ').append(node.getOffsetStart()).append('-')
+				.append(node.getOffsetEnd());
+		if (node instanceof UnitNode unit) {
+			builder.append(' ').append(unit.getId()).append(' ').append(unit.getVersion());
+		} else if (node instanceof LocationNode location) {
+			builder.append(' ').append(location.getRepositoryLocations());
+		}
+		builder.append('\n');
+		for (Node child : node.getChildNodes()) {
+			if (child.getParentNode() != node) {
+				builder.append(indent).append("wrong parent\n");
+			}
+			append(child, indent + "\t", builder);
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.TargetDefinitionContentAssist;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.FrameworkUtil;
+
+public class RepositoryCacheTests {
+
+	private Path repository;
+
+	@Before
+	public void setUp() throws Exception {
+		repository = Files.createTempDirectory(getClass().getSimpleName());
+		copyContent("MultipleUnitsConfirmSorting");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RepositoryCache.flush();
+		Files.deleteIfExists(repository.resolve("content.jar"));
+		Files.deleteIfExists(repository);
+	}
+
+	@Test
+	public void testGetUnitsByPrefix() {
+		String location = repository.toUri().toString();
+		assertEquals(List.of("org.eclipse.fake.1 2.0.0", "org.eclipse.fake.1 1.0.0"),
+				toStrings(RepositoryCache.getUnitsByPrefix(location, "org.eclipse.fake.1")));
+		assertEquals(14, RepositoryCache.getUnitsByPrefix(location, "org.eclipse.").size());
+		assertEquals(List.of(), RepositoryCache.getUnitsByPrefix(location, "Org.Eclipse."));
+		assertEquals(List.of(), RepositoryCache.getUnitsByPrefix(location, "eclipse"));
+	}
+
+	@Test
+	public void testGetUnitsBySearchTerm() {
+		String location = repository.toUri().toString();
+		assertEquals(List.of("org.eclipse.fake.6 1.10.0", "org.eclipse.fake.6 1.9.0"),
+				toStrings(RepositoryCache.getUnitsBySearchTerm(location, "fake.6")));
+		assertEquals(14, RepositoryCache.getUnitsBySearchTerm(location, "eclipse").size());
+		assertEquals(14, RepositoryCache.getUnitsBySearchTerm(location, "e").size());
+		assertEquals(List.of(), RepositoryCache.getUnitsBySearchTerm(location, "Fake"));
+		assertEquals(List.of(), RepositoryCache.getUnitsBySearchTerm(location, "fake.8"));
+	}
+
+	@Test
+	public void testGetUnitIdCandidates() {
+		List<String> locations = List.of(repository.toUri().toString());
+		List<String> ids = List.copyOf(RepositoryCache.fetchP2UnitsFromRepos(locations).keySet());
+		for (String searchTerm : List.of("", "o", "E", "7", "fake", "FAKE.7", "e.f", "oef", "oe7", "oEf", "fake.8")) {
+			List<String> candidates = RepositoryCache.fetchUnitIdCandidatesFromRepos(locations, searchTerm);
+			assertEquals(searchTerm, filter(ids, searchTerm), filter(candidates, searchTerm));
+		}
+		assertEquals(List.of("org.eclipse.fake.6"), RepositoryCache.fetchUnitIdCandidatesFromRepos(locations, "fake.6"));
+		// camel case abbreviation
+		assertEquals(List.of("org.eclipse.fake.7"), RepositoryCache.fetchUnitIdCandidatesFromRepos(locations, "oe7"));
+		assertEquals(List.of(), RepositoryCache.fetchUnitIdCandidatesFromRepos(locations, "x"));
+	}
+
+	/**
+	 * Tests that the units of a local repository are stored and used again
+	 * when the cache was flushed, as long as the repository is unchanged
+	 */
+	@Test
+	public void testUnitsAreStored() throws Exception {
+		String location = repository.toUri().toString();
+		List<String> ids = List.of("org.eclipse.fake.1", "org.eclipse.fake.2", "org.eclipse.fake.3",
+				"org.eclipse.fake.4", "org.eclipse.fake.5", "org.eclipse.fake.6", "org.eclipse.fake.7");
+		assertEquals(ids, getIds(location));
+
+		RepositoryCache.flush();
+		// replaced content that is not detected, so the stored units are used
+		FileTime lastModified = Files.getLastModifiedTime(repository.resolve("content.jar"));
+		copyContent("SingleUnitSingleVersion");
+		Files.setLastModifiedTime(repository.resolve("content.jar"), lastModified);
+		assertEquals(ids, getIds(location));
+	}
+
+	/**
+	 * Tests that the units of a changed local repository are fetched again
+	 * instead of using the stored units
+	 */
+	@Test
+	public void testStoredUnitsAreRevalidated() throws Exception {
+		String location = repository.toUri().toString();
+		assertEquals(7, getIds(location).size());
+
+		RepositoryCache.flush();
+		changeContent("SingleUnitSingleVersion");
+		assertEquals(List.of("org.eclipse.fake"), getIds(location));
+	}
+
+	/**
+	 * Tests that the units of a changed local repository are fetched again
+	 * instead of using the cached units
+	 */
+	@Test
+	public void testCachedUnitsAreRevalidated() throws Exception {
+		String location = repository.toUri().toString();
+		assertEquals(7, getIds(location).size());
+
+		changeContent("SingleUnitSingleVersion");
+		// the timestamps of a cached repository are checked once per second
+		Thread.sleep(1500);
+		assertEquals(List.of("org.eclipse.fake"), getIds(location));
+	}
+
+	private static List<String> filter(List<String> ids, String searchTerm) {
+		return ids.stream().filter(id -> TargetDefinitionContentAssist.getFilteredStyledString(id, searchTerm) != null)
+				.toList();
+	}
+
+	private static List<String> toStrings(List<IVersionedId> units) {
+		return units.stream().map(unit -> unit.getId() + " " + unit.getVersion()).toList();
+	}
+
+	private static List<String> getIds(String location) {
+		return List.copyOf(RepositoryCache.fetchP2UnitsFromRepos(List.of(location)).keySet());
+	}
+
+	private void changeContent(String site) throws IOException {
+		FileTime lastModified = Files.getLastModifiedTime(repository.resolve("content.jar"));
+		copyContent(site);
+		// the modification time has to differ on file systems with a coarse resolution
+		Files.setLastModifiedTime(repository.resolve("content.jar"),
+				FileTime.fromMillis(lastModified.toMillis() + 10000));
+	}
+
+	private void copyContent(String site) throws IOException {
+		try (InputStream content = FrameworkUtil.getBundle(getClass())
+				.getEntry("testing-files/testing-sites/" + site + "/content.jar").openStream()) {
+			Files.copy(content, repository.resolve("content.jar"), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,8 +20,6 @@ import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import javax.xml.stream.XMLStreamException;
-
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -37,6 +35,7 @@ import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.proc
 import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.processors.AttributeValueCompletionProcessor;
 import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.processors.TagCompletionProcessor;
 import org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.processors.TagValueCompletionProcessor;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 
 /**
@@ -91,11 +90,7 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 	public ICompletionProposal[] computeCompletionProposals(ITextViewer viewer, int offset) {
 		IDocument document = viewer.getDocument();
 		String text = document.get();
-		try {
-			Parser.getDefault().parse(document);
-		} catch (XMLStreamException e) {
-			// TODO handle parsing errors
-		}
+		Node rootNode = Parser.getParser(document).getRootNode(document);
 
 		int completionType = detectCompletionType(document, text, offset);
 		if (completionType == COMPLETION_TYPE_UNKNOWN) {
@@ -103,7 +98,7 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 		}
 
 		if (completionType == COMPLETION_TYPE_TAG) {
-			TagCompletionProcessor processor = new TagCompletionProcessor(searchTerm, acKey, offset);
+			TagCompletionProcessor processor = new TagCompletionProcessor(searchTerm, acKey, offset, rootNode);
 			return processor.getCompletionProposals();
 		}
 
@@ -115,7 +110,7 @@ public class TargetDefinitionContentAssist implements IContentAssistProcessor {
 
 		if (completionType == COMPLETION_TYPE_ATTRIBUTE_VALUE) {
 			AttributeValueCompletionProcessor processor = new AttributeValueCompletionProcessor(searchTerm, acKey,
-					offset);
+					offset, rootNode);
 			return processor.getCompletionProposals();
 		}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2024 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,7 +30,6 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNod
 import org.eclipse.pde.internal.genericeditor.target.extension.model.Node;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
-import org.eclipse.pde.internal.genericeditor.target.extension.model.xml.Parser;
 
 /**
  * Class that computes autocompletions for attribute values. Example:
@@ -46,17 +45,17 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 	private final String searchTerm;
 	private final String acKey;
 	private final int offset;
+	private final Node rootNode;
 
-	public AttributeValueCompletionProcessor(String searchTerm, String acKey, int offset) {
+	public AttributeValueCompletionProcessor(String searchTerm, String acKey, int offset, Node rootNode) {
 		this.searchTerm = searchTerm;
 		this.acKey = acKey;
 		this.offset = offset;
+		this.rootNode = rootNode;
 	}
 
 	@Override
 	public ICompletionProposal[] getCompletionProposals() {
-		Parser parser = Parser.getDefault();
-		Node rootNode = parser.getRootNode();
 		if (rootNode == null)
 			return new ICompletionProposal[] {};
 		List<Node> locationsNode = rootNode.getChildNodesByTag(ITargetConstants.LOCATIONS_TAG);
@@ -87,8 +86,8 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 				if (repoLocations.isEmpty()) {
 					return getErrorCompletion();
 				}
-				Map<String, List<IVersionedId>> units = RepositoryCache.fetchP2UnitsFromRepos(repoLocations);
-				return toProposals(units.keySet().stream());
+				List<String> ids = RepositoryCache.fetchUnitIdCandidatesFromRepos(repoLocations, searchTerm);
+				return toProposals(ids.stream());
 			}
 		}
 
@@ -1,5 +1,5 @@
 /********************************************************************************
- * Copyright (c) 2018 vogella GmbH and others
+ * Copyright (c) 2018, 2026 vogella GmbH and others
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -48,9 +48,9 @@ public class TargetDefinitionCodeMiningProvider extends AbstractCodeMiningProvid
 	void fillCodeMinings(IDocument document, List<ICodeMining> minings) throws BadLocationException {
 		int line = 0;
 		try {
-			Parser parser = Parser.getDefault();
+			Parser parser = Parser.getParser(document);
 			parser.parse(document);
-			Node target = parser.getRootNode();
+			Node target = parser.getRootNode(document);
 			if (target != null) {
 				line = document.getLineOfOffset(target.getOffsetStart());
 				minings.add(new TargetDefinitionActivationCodeMining(line, document, this, null));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2024 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,13 +52,13 @@ public class UpdateUnitVersions extends AbstractHandler {
 				return null;
 			}
 
-			Parser parser = Parser.getDefault();
+			Parser parser = Parser.getParser(document);
 			try {
 				parser.parse(document);
 			} catch (XMLStreamException e) {
 				return null;
 			}
-			Node rootNode = parser.getRootNode();
+			Node rootNode = parser.getRootNode(document);
 			if (rootNode == null)
 				return null;
 			List<Node> locationsNode = rootNode.getChildNodesByTag(ITargetConstants.LOCATIONS_TAG);
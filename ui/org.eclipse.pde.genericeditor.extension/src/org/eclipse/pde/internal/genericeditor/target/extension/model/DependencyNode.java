@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Red Hat Inc. and others
+ * Copyright (c) 2022, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,4 +16,9 @@ package org.eclipse.pde.internal.genericeditor.target.extension.model;
  */
 public class DependencyNode extends Node {
 
+	@Override
+	protected Node createCopy() {
+		return new DependencyNode();
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,4 +34,11 @@ public class LocationNode extends Node {
 		}
 	}
 
+	@Override
+	protected Node createCopy() {
+		LocationNode copy = new LocationNode();
+		copy.repositoryLocations.addAll(repositoryLocations);
+		return copy;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,38 @@ public class Node {
 		child.setParentNode(this);
 	}
 
+	/**
+	 * Replaces the given child node by the given node, at the same position.
+	 */
+	public void replaceChildNode(Node child, Node newChild) {
+		int index = childNodes.indexOf(child);
+		childNodes.set(index, newChild);
+		newChild.setParentNode(this);
+		child.setParentNode(null);
+	}
+
+	/**
+	 * Returns a copy of this node and of its descendants, without parent.
+	 */
+	public Node copy() {
+		Node copy = createCopy();
+		copy.offsetStart = offsetStart;
+		copy.offsetEnd = offsetEnd;
+		copy.nodeTag = nodeTag;
+		for (Node child : getChildNodes()) {
+			copy.addChildNode(child.copy());
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns a new node with the attributes specific to the class of this
+	 * node copied, see {@link #copy()}.
+	 */
+	protected Node createCopy() {
+		return new Node();
+	}
+
 	public Node getParentNode() {
 		return parentNode;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,21 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.model;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -24,11 +37,15 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.equinox.p2.metadata.IVersionedId;
 import org.eclipse.equinox.p2.metadata.VersionedId;
@@ -36,6 +53,8 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.Messages;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher.RepositoryContent;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * This class is used to cache the p2 repositories completion information order
@@ -44,6 +63,13 @@ import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher.Repo
  *
  * There will be only one cache shared between editors. In the future a function
  * will be added for the user to be able to flush this cache.
+ *
+ * The units of local repositories are also stored in the state location, so
+ * they are not fetched again after a restart. A stored or cached repository is
+ * only used as long as the timestamps of the metadata files of the repository
+ * and its children are unchanged. The timestamps of a cached repository are
+ * checked at most once per {@link #REVALIDATION_INTERVAL}, and stored units
+ * that were not used for {@link #UNUSED_UNITS_FILE_AGE} are deleted.
  */
 public class RepositoryCache {
 
@@ -51,9 +77,51 @@ public class RepositoryCache {
 		// avoid instantiation
 	}
 
-	private static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children) {
+	/**
+	 * @param timestamp
+	 *            the timestamp of the metadata of the repository, or
+	 *            <code>-1</code> if the repository is not local
+	 * @param validated
+	 *            the time the timestamp was last compared with the metadata of
+	 *            the repository
+	 */
+	private static record RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children,
+			long timestamp, UnitIndex index, AtomicLong validated) {
+		RepositoryMetadata(Map<String, List<IVersionedId>> units, List<URI> children, long timestamp) {
+			this(units, children, timestamp, new UnitIndex(units), new AtomicLong(System.currentTimeMillis()));
+		}
 	}
 
+	/**
+	 * Minimum time in milliseconds between two checks whether a cached local
+	 * repository has changed, so that completion requests don't access the
+	 * file system each time
+	 */
+	private static final long REVALIDATION_INTERVAL = 1000;
+
+	/**
+	 * Time in milliseconds after which stored units that were not used are
+	 * deleted
+	 */
+	private static final long UNUSED_UNITS_FILE_AGE = TimeUnit.DAYS.toMillis(30);
+
+	private static final String UNITS_FILE_PREFIX = "units-";
+
+	private static final AtomicBoolean UNUSED_UNITS_FILES_DELETED = new AtomicBoolean();
+
+	/**
+	 * Version of the format of the stored units, must be incremented whenever
+	 * the format changes
+	 */
+	private static final int UNITS_FILE_VERSION = 1;
+
+	/**
+	 * The files of a local repository whose timestamps identify the state of
+	 * its metadata
+	 */
+	private static final List<String> METADATA_FILES = List.of("content.jar", "content.xml", "content.xml.xz",
+			"compositeContent.jar", "compositeContent.xml", "p2.index");
+
 	private static final Map<URI, CompletableFuture<RepositoryMetadata>> CACHE = new ConcurrentHashMap<>();
 
 	/**
@@ -79,6 +147,30 @@ public class RepositoryCache {
 				.map(Map::values).flatMap(Collection::stream).flatMap(List::stream));
 	}
 
+	/**
+	 * Fetches information and caches it.
+	 * <p>
+	 * Returns the IDs of the IUs available in the {@code repositories} that
+	 * may match the given search term of the unit ID completion, in
+	 * alphabetical order. The IDs are looked up in the index of each
+	 * repository and are a superset of the matching IDs, so they still have
+	 * to be filtered by the completion.
+	 * </p>
+	 *
+	 * @return the IDs of the units in the specified {@code repositories} that
+	 *         may match the {@code searchTerm}
+	 */
+	public static List<String> fetchUnitIdCandidatesFromRepos(List<String> repositories, String searchTerm) {
+		var repos = repositories.stream().map(RepositoryCache::fetchP2DataOfRepo).toList();
+		// Fetch all repos at once to await pending metadata in parallel
+		Stream<List<String>> candidates = repos.stream().map(r -> getFutureValue(r,
+				metadata -> metadata.index().getCompletionCandidates(searchTerm), List.<String>of()));
+		if (repos.size() == 1) {
+			return candidates.findFirst().orElseThrow();
+		}
+		return candidates.flatMap(List::stream).distinct().sorted(String.CASE_INSENSITIVE_ORDER).toList();
+	}
+
 	public static List<URI> fetchChildrenOfRepo(String repository) {
 		return getFutureValue(fetchP2DataOfRepo(repository), RepositoryMetadata::children, List.of());
 	}
@@ -94,19 +186,33 @@ public class RepositoryCache {
 		} catch (URISyntaxException e) {
 			return CompletableFuture.failedFuture(e);
 		}
+		CompletableFuture<RepositoryMetadata> cached = CACHE.get(location);
+		if (cached != null && isValid(location, cached)) {
+			return cached; // computation is running or has succeeded
+		}
 		return CACHE.compute(location, (repo, f) -> {
-			if (f != null && (!f.isDone() || !f.isCompletedExceptionally() && !f.isCancelled())) {
-				return f; // computation is running or has succeeded
+			if (f != null && f != cached) {
+				return f; // fetched again by another thread in the meantime
 			}
 			CompletableFuture<RepositoryMetadata> future = new CompletableFuture<>();
 			// Fetching P2 repository information is a costly operation
 			// time-wise. Thus it is done in a job.
 			Job job = Job.create(NLS.bind(Messages.UpdateJob_P2DataFetch, repo), m -> {
 				try {
-					RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, m);
-					Map<String, List<IVersionedId>> units = toSortedMap(
-							content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
-					future.complete(new RepositoryMetadata(units, content.children()));
+					if (UNUSED_UNITS_FILES_DELETED.compareAndSet(false, true)) {
+						deleteUnusedUnitsFiles();
+					}
+					RepositoryMetadata metadata = readUnits(repo);
+					if (metadata == null) {
+						long repositoryTimestamp = getTimestamp(repo);
+						RepositoryContent content = P2Fetcher.fetchAvailableUnits(repo, m);
+						Map<String, List<IVersionedId>> units = toSortedMap(
+								content.units().stream().map(iu -> new VersionedId(iu.getId(), iu.getVersion())));
+						long timestamp = getTimestamp(repositoryTimestamp, content.children());
+						metadata = new RepositoryMetadata(units, content.children(), timestamp);
+						writeUnits(repo, metadata);
+					}
+					future.complete(metadata);
 				} catch (Throwable e) {
 					future.completeExceptionally(e);
 					// Only log the failure, don't open an error-dialog.
@@ -119,6 +225,194 @@ public class RepositoryCache {
 		});
 	}
 
+	/**
+	 * Returns whether the given cached computation can be used: it is running,
+	 * or it has succeeded and the repository is unchanged. The timestamps of a
+	 * local repository are only checked if they were not checked within the
+	 * {@link #REVALIDATION_INTERVAL}.
+	 */
+	private static boolean isValid(URI repository, CompletableFuture<RepositoryMetadata> future) {
+		if (!future.isDone()) {
+			return true;
+		}
+		if (future.isCompletedExceptionally()) {
+			return false;
+		}
+		RepositoryMetadata metadata = future.join();
+		if (metadata.timestamp() == -1) {
+			return true;
+		}
+		long now = System.currentTimeMillis();
+		long validated = metadata.validated().get();
+		if (now - validated < REVALIDATION_INTERVAL || !metadata.validated().compareAndSet(validated, now)) {
+			return true; // checked recently or being checked by another thread
+		}
+		return getTimestamp(getTimestamp(repository), metadata.children()) == metadata.timestamp();
+	}
+
+	/**
+	 * Returns the timestamp of the metadata files of the given repository, or
+	 * <code>-1</code> if it is not a local repository.
+	 */
+	private static long getTimestamp(URI repository) {
+		if (!"file".equals(repository.getScheme())) {
+			return -1;
+		}
+		File location;
+		try {
+			location = new File(repository);
+		} catch (IllegalArgumentException e) {
+			return -1;
+		}
+		if (location.isFile()) { // archived repository
+			return location.lastModified();
+		}
+		long timestamp = -1;
+		for (String name : METADATA_FILES) {
+			long lastModified = new File(location, name).lastModified();
+			if (lastModified != 0) {
+				timestamp = 31 * (timestamp + name.hashCode()) + lastModified;
+			}
+		}
+		return timestamp;
+	}
+
+	/**
+	 * Returns the timestamp of a repository with the given timestamp of its
+	 * own metadata and the given children, or <code>-1</code> if any of them
+	 * is not a local repository.
+	 */
+	private static long getTimestamp(long repositoryTimestamp, List<URI> children) {
+		long timestamp = repositoryTimestamp;
+		for (int i = 0; i < children.size() && timestamp != -1; i++) {
+			long childTimestamp = getTimestamp(children.get(i));
+			timestamp = childTimestamp == -1 ? -1 : 31 * timestamp + childTimestamp;
+		}
+		return timestamp;
+	}
+
+	private static Path getStateLocation() {
+		Bundle bundle = FrameworkUtil.getBundle(RepositoryCache.class);
+		if (bundle == null) {
+			return null;
+		}
+		return Platform.getStateLocation(bundle).toPath();
+	}
+
+	private static Path getUnitsFile(URI repository) {
+		Path stateLocation = getStateLocation();
+		if (stateLocation == null) {
+			return null;
+		}
+		return stateLocation.resolve(UNITS_FILE_PREFIX + Integer.toHexString(repository.toString().hashCode()) + ".dat");
+	}
+
+	/**
+	 * Deletes the stored units that were not used for
+	 * {@link #UNUSED_UNITS_FILE_AGE}, like those of removed repositories, and
+	 * the leftovers of interrupted writes.
+	 */
+	private static void deleteUnusedUnitsFiles() {
+		Path stateLocation = getStateLocation();
+		if (stateLocation == null) {
+			return;
+		}
+		long oldest = System.currentTimeMillis() - UNUSED_UNITS_FILE_AGE;
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(stateLocation, UNITS_FILE_PREFIX + "*")) {
+			for (Path file : files) {
+				if (Files.getLastModifiedTime(file).toMillis() < oldest) {
+					Files.deleteIfExists(file);
+				}
+			}
+		} catch (IOException e) {
+			ILog.get().warn(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Reads the stored units of the given repository.
+	 *
+	 * @return the metadata of the repository, or <code>null</code> if the
+	 *         repository is not local, not stored or changed since it was
+	 *         stored
+	 */
+	private static RepositoryMetadata readUnits(URI repository) {
+		long repositoryTimestamp = getTimestamp(repository);
+		Path file = repositoryTimestamp != -1 ? getUnitsFile(repository) : null;
+		if (file == null) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != UNITS_FILE_VERSION || !in.readUTF().equals(repository.toString())) {
+				return null;
+			}
+			long timestamp = in.readLong();
+			int childCount = in.readInt();
+			List<URI> children = new ArrayList<>(childCount);
+			for (int i = 0; i < childCount; i++) {
+				children.add(new URI(in.readUTF()));
+			}
+			if (getTimestamp(repositoryTimestamp, children) != timestamp) {
+				return null;
+			}
+			int idCount = in.readInt();
+			Map<String, List<IVersionedId>> units = new LinkedHashMap<>(idCount * 4 / 3 + 1);
+			for (int i = 0; i < idCount; i++) {
+				String id = in.readUTF();
+				IVersionedId[] versions = new IVersionedId[in.readInt()];
+				for (int j = 0; j < versions.length; j++) {
+					versions[j] = new VersionedId(id, in.readUTF());
+				}
+				units.put(id, List.of(versions));
+			}
+			// the modification time of the file is the time it was last used
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+			return new RepositoryMetadata(units, List.copyOf(children), timestamp);
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException | URISyntaxException | IllegalArgumentException e) {
+			ILog.get().warn(e.getMessage(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the units of the given repository, if it is a local repository.
+	 */
+	private static void writeUnits(URI repository, RepositoryMetadata metadata) {
+		Path file = metadata.timestamp() != -1 ? getUnitsFile(repository) : null;
+		if (file == null) {
+			return;
+		}
+		Path tempFile = null;
+		try {
+			tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(UNITS_FILE_VERSION);
+				out.writeUTF(repository.toString());
+				out.writeLong(metadata.timestamp());
+				out.writeInt(metadata.children().size());
+				for (URI child : metadata.children()) {
+					out.writeUTF(child.toString());
+				}
+				out.writeInt(metadata.units().size());
+				for (Map.Entry<String, List<IVersionedId>> unit : metadata.units().entrySet()) {
+					out.writeUTF(unit.getKey());
+					out.writeInt(unit.getValue().size());
+					for (IVersionedId version : unit.getValue()) {
+						out.writeUTF(version.getVersion().toString());
+					}
+				}
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			ILog.get().warn(e.getMessage(), e);
+			if (tempFile != null) {
+				tempFile.toFile().delete();
+			}
+		}
+	}
+
 	private static final Comparator<IVersionedId> BY_ID_FIRST_THEN_DESCENDING_VERSION = Comparator
 			.comparing(IVersionedId::getId, String.CASE_INSENSITIVE_ORDER)
 			.thenComparing(IVersionedId::getVersion, Comparator.reverseOrder());
@@ -155,9 +449,8 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id starts with 'prefix'
 	 */
 	public static List<IVersionedId> getUnitsByPrefix(String repo, String prefix) {
-		Map<String, List<IVersionedId>> allUnits = fetchP2UnitsFromRepos(List.of(repo));
-		return allUnits.values().stream().flatMap(List::stream) //
-				.filter(unit -> unit.getId().startsWith(prefix)).toList();
+		UnitIndex index = getFutureValue(fetchP2DataOfRepo(repo), RepositoryMetadata::index, null);
+		return index != null ? index.getUnitsByPrefix(prefix) : List.of();
 	}
 
 	/**
@@ -179,8 +472,16 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id contains 'searchTerm'
 	 */
 	public static List<IVersionedId> getUnitsBySearchTerm(String repo, String searchTerm) {
-		Map<String, List<IVersionedId>> allUnits = fetchP2UnitsFromRepos(List.of(repo));
-		return allUnits.values().stream().flatMap(List::stream) //
-				.filter(unit -> unit.getId().contains(searchTerm)).toList();
+		UnitIndex index = getFutureValue(fetchP2DataOfRepo(repo), RepositoryMetadata::index, null);
+		return index != null ? index.getUnitsBySearchTerm(searchTerm) : List.of();
+	}
+
+	/**
+	 * Removes all repositories from the cache. The stored units of local
+	 * repositories are kept, they are used again as long as the repositories
+	 * are unchanged.
+	 */
+	public static void flush() {
+		CACHE.clear();
 	}
 }
@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+
+/**
+ * Immutable index of the IDs of the units of a repository, for the completion
+ * of unit IDs.
+ * <p>
+ * The IDs are sorted case insensitively, so all IDs starting with a prefix are
+ * found by a binary search. The IDs are also indexed by the trigrams they
+ * contain, ignoring case, so the IDs containing a search term are found
+ * without testing all IDs. For the camel case matching of the completion, the
+ * IDs are indexed by the first characters of their parts and each ID has a
+ * bit set of the characters it contains.
+ * </p>
+ */
+final class UnitIndex {
+
+	/**
+	 * The IDs, sorted with {@link String#CASE_INSENSITIVE_ORDER}
+	 */
+	private final String[] fIds;
+
+	/**
+	 * The versions of each ID, sorted in descending order
+	 */
+	private final List<List<IVersionedId>> fVersions;
+
+	/**
+	 * The ascending indexes of the IDs containing each trigram
+	 */
+	private final Map<Long, int[]> fTrigrams;
+
+	/**
+	 * The ascending indexes of the IDs with a part starting with each
+	 * character
+	 */
+	private final Map<Character, int[]> fInitials;
+
+	/**
+	 * The characters of each ID ignoring case, see {@link #signature(String)}
+	 */
+	private final long[] fSignatures;
+
+	/**
+	 * The ascending indexes of the IDs with other than ASCII characters, which
+	 * are always tested by the completion
+	 */
+	private final int[] fOthers;
+
+	/**
+	 * @param units
+	 *            the versions of the units by ID, with the IDs in
+	 *            case insensitive order
+	 */
+	UnitIndex(Map<String, List<IVersionedId>> units) {
+		fIds = units.keySet().toArray(new String[units.size()]);
+		fVersions = List.copyOf(units.values());
+		fSignatures = new long[fIds.length];
+		Map<Long, int[]> trigrams = new HashMap<>();
+		Map<Character, int[]> initials = new HashMap<>();
+		List<Integer> others = new ArrayList<>();
+		for (int i = 0; i < fIds.length; i++) {
+			String id = fold(fIds[i]);
+			for (int j = 0; j + 3 <= id.length(); j++) {
+				add(trigrams, trigram(id, j), i);
+			}
+			for (int j = 0; j < fIds[i].length(); j++) {
+				if (isPartStart(fIds[i], j)) {
+					add(initials, fIds[i].charAt(j), i);
+				}
+			}
+			fSignatures[i] = signature(fIds[i]);
+			if (fSignatures[i] == -1) {
+				others.add(i);
+			}
+		}
+		trigrams.replaceAll((trigram, posting) -> Arrays.copyOfRange(posting, 1, posting[0] + 1));
+		initials.replaceAll((initial, posting) -> Arrays.copyOfRange(posting, 1, posting[0] + 1));
+		fTrigrams = trigrams;
+		fInitials = initials;
+		fOthers = others.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Adds the given index of an ID to the posting of the given key, unless it
+	 * was already added. Postings are grown by doubling, with their size in the
+	 * first slot.
+	 */
+	private static <K> void add(Map<K, int[]> postings, K key, int i) {
+		int[] posting = postings.get(key);
+		if (posting == null) {
+			posting = new int[4];
+			postings.put(key, posting);
+		} else if (posting[0] > 0 && posting[posting[0]] == i) {
+			return; // key occurs more than once in the ID
+		} else if (posting[0] + 1 == posting.length) {
+			posting = Arrays.copyOf(posting, posting.length * 2);
+			postings.put(key, posting);
+		}
+		posting[++posting[0]] = i;
+	}
+
+	/**
+	 * Returns the versions of the units whose ID starts with the given prefix,
+	 * in the order of their IDs.
+	 */
+	List<IVersionedId> getUnitsByPrefix(String prefix) {
+		List<IVersionedId> units = new ArrayList<>();
+		int i = Arrays.binarySearch(fIds, prefix, String.CASE_INSENSITIVE_ORDER);
+		if (i < 0) {
+			i = -i - 1;
+		} else {
+			// there may be equal IDs differing in case before
+			while (i > 0 && fIds[i - 1].equalsIgnoreCase(prefix)) {
+				i--;
+			}
+		}
+		for (; i < fIds.length && fIds[i].regionMatches(true, 0, prefix, 0, prefix.length()); i++) {
+			if (fIds[i].startsWith(prefix)) {
+				units.addAll(fVersions.get(i));
+			}
+		}
+		return units;
+	}
+
+	/**
+	 * Returns the versions of the units whose ID contains the given search
+	 * term, in the order of their IDs.
+	 */
+	List<IVersionedId> getUnitsBySearchTerm(String searchTerm) {
+		List<IVersionedId> units = new ArrayList<>();
+		int[] candidates = getCandidates(searchTerm);
+		if (candidates == null) {
+			for (int i = 0; i < fIds.length; i++) {
+				if (fIds[i].contains(searchTerm)) {
+					units.addAll(fVersions.get(i));
+				}
+			}
+		} else {
+			for (int i : candidates) {
+				if (fIds[i].contains(searchTerm)) {
+					units.addAll(fVersions.get(i));
+				}
+			}
+		}
+		return units;
+	}
+
+	/**
+	 * Returns the IDs that may match the given search term of the unit ID
+	 * completion, in their order. The completion proposes the IDs containing
+	 * the search term ignoring case, and the IDs whose parts start with the
+	 * characters of the search term in order, see
+	 * <code>TargetDefinitionContentAssist.getFilteredStyledString()</code>.
+	 * So only the IDs containing the trigrams of the search term, and the IDs
+	 * with a part starting with its first character, are tested. Any of them
+	 * must contain all characters of the search term, ignoring case. IDs and
+	 * search terms with other than ASCII characters are not narrowed down.
+	 * <p>
+	 * The returned IDs are a superset of the IDs matching the search term and
+	 * still have to be filtered by the completion.
+	 * </p>
+	 */
+	List<String> getCompletionCandidates(String searchTerm) {
+		long signature = signature(searchTerm);
+		if (searchTerm.isEmpty() || signature == -1) {
+			return List.of(fIds);
+		}
+		int[] substrings = getCandidates(searchTerm);
+		List<String> candidates = new ArrayList<>();
+		if (substrings == null) {
+			for (int i = 0; i < fIds.length; i++) {
+				if ((fSignatures[i] & signature) == signature) {
+					candidates.add(fIds[i]);
+				}
+			}
+			return candidates;
+		}
+		BitSet matches = new BitSet(fIds.length);
+		for (int i : substrings) {
+			matches.set(i);
+		}
+		for (int i : fInitials.getOrDefault(searchTerm.charAt(0), new int[0])) {
+			if ((fSignatures[i] & signature) == signature) {
+				matches.set(i);
+			}
+		}
+		for (int i : fOthers) {
+			matches.set(i);
+		}
+		for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+			candidates.add(fIds[i]);
+		}
+		return candidates;
+	}
+
+	/**
+	 * Returns the ascending indexes of the IDs containing all trigrams of the
+	 * given search term, or <code>null</code> if the search term is too short
+	 * to have a trigram.
+	 */
+	private int[] getCandidates(String searchTerm) {
+		if (searchTerm.length() < 3) {
+			return null;
+		}
+		String term = fold(searchTerm);
+		List<int[]> postings = new ArrayList<>();
+		for (int j = 0; j + 3 <= term.length(); j++) {
+			int[] posting = fTrigrams.get(trigram(term, j));
+			if (posting == null) {
+				return new int[0];
+			}
+			postings.add(posting);
+		}
+		postings.sort(Comparator.comparingInt(posting -> posting.length));
+		int[] candidates = postings.get(0);
+		for (int i = 1; i < postings.size() && candidates.length > 0; i++) {
+			candidates = intersect(candidates, postings.get(i));
+		}
+		return candidates;
+	}
+
+	private static int[] intersect(int[] a, int[] b) {
+		int[] result = new int[Math.min(a.length, b.length)];
+		int size = 0;
+		for (int i = 0, j = 0; i < a.length && j < b.length;) {
+			if (a[i] < b[j]) {
+				i++;
+			} else if (a[i] > b[j]) {
+				j++;
+			} else {
+				result[size++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Returns whether a part of the given ID starts at the given index, where
+	 * the completion splits IDs before upper case letters and digit sequences
+	 * and after '.' and '_'.
+	 */
+	private static boolean isPartStart(String id, int index) {
+		if (index == 0) {
+			return true;
+		}
+		char c = id.charAt(index);
+		char previous = id.charAt(index - 1);
+		return c >= 'A' && c <= 'Z' || previous == '.' || previous == '_'
+				|| c >= '0' && c <= '9' && (previous < '0' || previous > '9');
+	}
+
+	/**
+	 * Returns the bit set of the characters of the given string ignoring case,
+	 * with one bit per ASCII character modulo 64, or <code>-1</code> if it
+	 * contains other characters, whose case conversion depends on the locale.
+	 */
+	private static long signature(String s) {
+		long signature = 0;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c >= 128) {
+				return -1;
+			}
+			signature |= 1L << Character.toLowerCase(c);
+		}
+		return signature;
+	}
+
+	private static long trigram(String s, int index) {
+		return ((long) s.charAt(index) << 32) | ((long) s.charAt(index + 1) << 16) | s.charAt(index + 2);
+	}
+
+	private static String fold(String s) {
+		char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		return new String(chars);
+	}
+}
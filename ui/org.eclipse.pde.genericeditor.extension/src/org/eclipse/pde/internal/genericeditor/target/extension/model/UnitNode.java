@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,15 @@ public class UnitNode extends Node {
 		this.parent = parent;
 	}
 
+	@Override
+	protected Node createCopy() {
+		UnitNode copy = new UnitNode();
+		copy.id = id;
+		copy.version = version;
+		copy.availableVersions = new ArrayList<>(availableVersions);
+		return copy;
+	}
+
 	public List<String> getAvailableVersions() {
 		return availableVersions;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ package org.eclipse.pde.internal.genericeditor.target.extension.model.xml;
 
 import java.io.ByteArrayInputStream;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -24,7 +26,11 @@ import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.DependencyNode;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetConstants;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
@@ -33,15 +39,79 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
 
 /**
  * Class used to parse the XML code into the model.
+ * <p>
+ * There is one parser per document, shared by all editors and services of the
+ * document. The model is kept up to date with the changes of the document:
+ * when a change is inside an element, like a &lt;unit&gt; or &lt;location&gt;,
+ * only that element is parsed again and the offsets of the following nodes are
+ * shifted. The well-formedness of the document is only checked by
+ * {@link #parse(IDocument)}, once per modification of the document.
+ * </p>
+ * <p>
+ * The nodes returned by {@link #getRootNode(IDocument)} are never modified
+ * afterwards, so that they can be read by any thread: the model is copied
+ * before a change of the document is applied to it.
+ * </p>
  */
 public class Parser {
 
-	private static Parser instance;
+	private static final Map<IDocument, Parser> PARSERS = new WeakHashMap<>();
+
+	private static final Pattern TAG_PATTERN = Pattern.compile("(?<tag><[\\w|/][^<]+?>)", Pattern.DOTALL);
+	private static final Pattern COMMENT_PATTERN = Pattern.compile("(<!--.*?-->)", Pattern.DOTALL);
+
+	private static final String COMMENT_START = "<!--";
+	private static final String COMMENT_END = "-->";
 
 	private Node target;
 
+	/**
+	 * Whether the model was returned to clients and has to be copied before it
+	 * is modified
+	 */
+	private boolean shared;
+
 	private XMLInputFactory inputFactory;
 
+	/**
+	 * The modification stamp of the document the model is up to date with,
+	 * except for the {@link #dirtyNode}
+	 */
+	private long modelStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+
+	/**
+	 * Whether the model is not up to date and the document has to be parsed
+	 * again completely
+	 */
+	private boolean parseAll = true;
+
+	/**
+	 * The node containing the changes of the document not parsed yet, its
+	 * offsets are up to date but its children are not
+	 */
+	private Node dirtyNode;
+
+	/**
+	 * Whether the change about to be made can be applied to the model
+	 */
+	private boolean changeApplicable;
+
+	private long validatedStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	private XMLStreamException validationError;
+
+	private final IDocumentListener documentListener = new IDocumentListener() {
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			changeAboutToBeMade(event);
+		}
+
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			changeMade(event);
+		}
+	};
+
 	public Parser() {
 		initializeParser();
 	}
@@ -50,13 +120,243 @@ public class Parser {
 		inputFactory = XMLInputFactory.newInstance();
 	}
 
+	/**
+	 * Returns the parser of the given document, which keeps its model up to
+	 * date with the changes of the document.
+	 *
+	 * @param document
+	 *            the target definition document
+	 * @return the parser of the document
+	 */
+	public static Parser getParser(IDocument document) {
+		synchronized (PARSERS) {
+			Parser parser = PARSERS.get(document);
+			if (parser == null) {
+				parser = new Parser();
+				document.addPrenotifiedDocumentListener(parser.documentListener);
+				PARSERS.put(document, parser);
+			}
+			return parser;
+		}
+	}
+
+	/**
+	 * Brings the model up to date with the given document and checks that the
+	 * document is well-formed.
+	 *
+	 * @param document
+	 *            the document of this parser
+	 * @throws XMLStreamException
+	 *             if the document is not well-formed
+	 */
 	public void parse(IDocument document) throws XMLStreamException {
-		target = null;
-		Node currentParent = null;
-		Node currentNode = null;
-		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(document.get());
+		long stamp = getModificationStamp(document);
+		String text = document.get();
+		if (stamp != getModificationStamp(document)) {
+			stamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		}
+		synchronized (this) {
+			update(text, stamp);
+			if (stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && stamp == validatedStamp) {
+				if (validationError != null) {
+					throw validationError;
+				}
+				return;
+			}
+		}
+		XMLStreamException error = null;
+		synchronized (inputFactory) {
+			try {
+				ByteArrayInputStream inputStream = new ByteArrayInputStream(text.getBytes());
+				XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
+				while (eventReader.hasNext()) {
+					eventReader.nextEvent();
+				}
+			} catch (XMLStreamException e) {
+				error = e;
+			}
+		}
+		synchronized (this) {
+			validatedStamp = stamp;
+			validationError = error;
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	/**
+	 * Brings the model up to date with the given document, without checking
+	 * that the document is well-formed.
+	 *
+	 * @param document
+	 *            the document of this parser
+	 * @return the root node of the model, or <code>null</code> if the document
+	 *         has no target
+	 */
+	public Node getRootNode(IDocument document) {
+		long stamp = getModificationStamp(document);
+		String text = document.get();
+		if (stamp != getModificationStamp(document)) {
+			stamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		}
+		synchronized (this) {
+			update(text, stamp);
+			shared = target != null;
+			return target;
+		}
+	}
+
+	private void update(String text, long stamp) {
+		if (stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP || stamp != modelStamp || parseAll) {
+			parseAll(text);
+			modelStamp = stamp;
+			// changes of documents without stamps can not be tracked
+			parseAll = stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		} else if (dirtyNode != null && !parseDirtyNode(text)) {
+			parseAll(text);
+		}
+		dirtyNode = null;
+	}
+
+	private void parseAll(String text) {
+		TreeBuilder builder = new TreeBuilder();
+		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(text, 0, text.length());
+		while (tagReaderIterator.hasNext()) {
+			builder.add(tagReaderIterator.next());
+		}
+		target = builder.target;
+		shared = false;
+	}
+
+	/**
+	 * Parses the dirty node again and replaces it in the model.
+	 *
+	 * @return whether the node was replaced, <code>false</code> if the changed
+	 *         text is no longer a single element of the same kind
+	 */
+	private boolean parseDirtyNode(String text) {
+		int start = dirtyNode.getOffsetStart();
+		int end = dirtyNode.getOffsetEnd();
+		if (end > text.length() || containsCommentMarker(text.substring(start, end))) {
+			return false;
+		}
+		TreeBuilder builder = new TreeBuilder();
+		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(text, start, end);
 		while (tagReaderIterator.hasNext()) {
-			XMLElement event = tagReaderIterator.next();
+			builder.add(tagReaderIterator.next());
+		}
+		Node node = builder.topNode;
+		if (builder.target != null || builder.topNodes != 1 || builder.currentNode != null
+				|| !dirtyNode.getNodeTag().equalsIgnoreCase(node.getNodeTag()) || node.getOffsetStart() != start
+				|| node.getOffsetEnd() != end) {
+			return false;
+		}
+		dirtyNode.getParentNode().replaceChildNode(dirtyNode, node);
+		return true;
+	}
+
+	private void changeAboutToBeMade(DocumentEvent event) {
+		// the document is never read while holding the lock of the parser, as
+		// synchronizable documents notify their listeners holding their lock
+		long stamp = getModificationStamp(event.getDocument());
+		boolean applicable;
+		try {
+			String replaced = event.getDocument().get(event.getOffset(), event.getLength());
+			applicable = !containsCommentMarker(replaced)
+					&& (event.getText() == null || !containsCommentMarker(event.getText()));
+		} catch (BadLocationException e) {
+			applicable = false; // parse the document again
+		}
+		synchronized (this) {
+			changeApplicable = applicable && !parseAll && target != null && stamp == modelStamp;
+		}
+	}
+
+	private synchronized void changeMade(DocumentEvent event) {
+		if (event.getModificationStamp() == modelStamp) {
+			return; // the model was updated to the document in between
+		}
+		int start = event.getOffset();
+		int end = start + event.getLength();
+		if (changeApplicable && shared) {
+			// there is no dirty node, it was parsed before the model was shared
+			target = target.copy();
+			shared = false;
+		}
+		Node node = changeApplicable ? findChangedNode(target, start, end) : null;
+		if (node == null || dirtyNode != null && node != dirtyNode) {
+			parseAll = true;
+			return;
+		}
+		int delta = (event.getText() == null ? 0 : event.getText().length()) - event.getLength();
+		shiftOffsets(target, end, delta);
+		dirtyNode = node;
+		modelStamp = event.getModificationStamp();
+	}
+
+	/**
+	 * Returns the deepest node below the given node strictly containing the
+	 * given range, the node to parse again after the range was changed, or
+	 * <code>null</code> if the range is not inside a child of the given node.
+	 */
+	private Node findChangedNode(Node node, int start, int end) {
+		Node changed = null;
+		for (Node child : node.getChildNodes()) {
+			if (child.getOffsetStart() < start && end < child.getOffsetEnd()) {
+				if (child == dirtyNode) {
+					return child; // its children are not up to date
+				}
+				Node deeper = findChangedNode(child, start, end);
+				changed = deeper != null ? deeper : child;
+				break;
+			}
+		}
+		if (changed != null && ITargetConstants.REPOSITORY_TAG.equalsIgnoreCase(changed.getNodeTag())) {
+			// repositories are part of the model of their location
+			changed = changed.getParentNode() != target ? changed.getParentNode() : null;
+		}
+		return changed;
+	}
+
+	private static void shiftOffsets(Node node, int changeEnd, int delta) {
+		if (node.getOffsetStart() > changeEnd) {
+			node.setOffsetStart(node.getOffsetStart() + delta);
+		}
+		if (node.getOffsetEnd() > changeEnd) {
+			node.setOffsetEnd(node.getOffsetEnd() + delta);
+			for (Node child : node.getChildNodes()) {
+				shiftOffsets(child, changeEnd, delta);
+			}
+		}
+	}
+
+	private static boolean containsCommentMarker(String text) {
+		return text.contains(COMMENT_START) || text.contains(COMMENT_END);
+	}
+
+	private static long getModificationStamp(IDocument document) {
+		if (document instanceof IDocumentExtension4 extension) {
+			return extension.getModificationStamp();
+		}
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
+	/**
+	 * Builds the nodes of the model from the elements of a document, or of a
+	 * part of a document.
+	 */
+	private static class TreeBuilder {
+		private Node target;
+		private Node currentParent;
+		private Node currentNode;
+		/**
+		 * The first node without parent and the number of such nodes
+		 */
+		private Node topNode;
+		private int topNodes;
+
+		void add(XMLElement event) {
 			if (event.isStartElement()) {
 				String name = event.getName();
 				if (ITargetConstants.UNIT_TAG.equalsIgnoreCase(name)) {
@@ -90,6 +390,11 @@ public class Parser {
 				currentNode.setOffsetStart(event.getStartOffset());
 				if (currentParent != null) {
 					currentParent.addChildNode(currentNode);
+				} else {
+					if (topNode == null) {
+						topNode = currentNode;
+					}
+					topNodes++;
 				}
 				currentParent = currentNode;
 			}
@@ -102,60 +407,43 @@ public class Parser {
 				}
 			}
 		}
-		ByteArrayInputStream inputStream = new ByteArrayInputStream(document.get().getBytes());
-		XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
-		while (eventReader.hasNext()) {
-			eventReader.nextEvent();
-		}
 	}
 
-	private Iterator<XMLElement> createXMLTagItterator(String document) {
+	/**
+	 * Iterates over the tags between the given offsets of the given document,
+	 * skipping comments.
+	 */
+	private Iterator<XMLElement> createXMLTagItterator(String document, int start, int end) {
 		return new Iterator<>() {
-			private final String tagRegex = "(?<tag><[\\w|/][^<]+?>)";
-			private final String commentRegex = "(<!--.*?-->)";
-			private final String beforeTagRegex = ".*?(?=".concat(tagRegex).concat(")");
+			private int position = start;
 
-			private String text = document;
-
-			private final Pattern tagPattern = Pattern.compile(tagRegex, Pattern.DOTALL);
-			private final Pattern commentPattern = Pattern.compile(commentRegex, Pattern.DOTALL);
-			private final Pattern beforeTagPattern = Pattern.compile(beforeTagRegex, Pattern.DOTALL);
+			private final Matcher tagMatcher = TAG_PATTERN.matcher(document);
+			private final Matcher commentMatcher = COMMENT_PATTERN.matcher(document);
 
 			@Override
 			public boolean hasNext() {
 				skipComments();
-				return text.length() > 0 && beforeTagPattern.matcher(text).find();
+				return position < end && tagMatcher.region(position, end).find();
 			}
 
 			@Override
 			public XMLElement next() {
 				skipComments();
-				text = beforeTagPattern.matcher(text).replaceFirst("");
-				Matcher tag = tagPattern.matcher(text);
-				tag.find();
-				int offset = document.length() - text.length();
-				text = text.substring(tag.end());
-				return new XMLElement(tag.group("tag"), offset);
+				tagMatcher.region(position, end).find();
+				position = tagMatcher.end();
+				return new XMLElement(tagMatcher.group("tag"), tagMatcher.start());
 			}
 
 			private void skipComments() {
-				Matcher comment = commentPattern.matcher(text);
-				Matcher tag = tagPattern.matcher(text);
-				if (comment.find() && tag.find() && comment.start() < tag.start()) {
-					text = text.substring(comment.end());
+				if (position >= end) {
+					return;
+				}
+				if (commentMatcher.region(position, end).find() && tagMatcher.region(position, end).find()
+						&& commentMatcher.start() < tagMatcher.start()) {
+					position = commentMatcher.end();
 				}
 			}
 		};
 	}
-	public static Parser getDefault() {
-		if (instance == null) {
-			instance = new Parser();
-		}
-		return instance;
-	}
-
-	public Node getRootNode() {
-		return target;
-	}
 
 }
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.eclipse.pde.internal.core.bnd.ContentDigestCache;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the persistent cache of the content digests of the target bundles.
+ */
+public class ContentDigestCacheTest {
+
+	private static final String ABC_DIGEST = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+	private static final String ABD_DIGEST = "a52d159f262b2c6ddb724a61840befc36eb30c88877a4030b65cbe86298449c9";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path cacheFile;
+
+	@Before
+	public void setUp() {
+		cacheFile = folder.getRoot().toPath().resolve("digests.dat");
+	}
+
+	@Test
+	public void testDigestIsStored() throws Exception {
+		File bundle = writeBundle("bundle.jar", "abc");
+		FileTime lastModified = Files.getLastModifiedTime(bundle.toPath());
+		ContentDigestCache cache = ContentDigestCache.load(cacheFile);
+		assertThat(cache.getDigest(bundle)).isEqualTo(ABC_DIGEST);
+		cache.save();
+		assertThat(cacheFile).exists();
+
+		// content of the same length and modification time is not read again
+		writeBundle("bundle.jar", "abd");
+		Files.setLastModifiedTime(bundle.toPath(), lastModified);
+		assertThat(ContentDigestCache.load(cacheFile).getDigest(bundle)).isEqualTo(ABC_DIGEST);
+
+		Files.setLastModifiedTime(bundle.toPath(), FileTime.fromMillis(lastModified.toMillis() + 10000));
+		assertThat(ContentDigestCache.load(cacheFile).getDigest(bundle)).isEqualTo(ABD_DIGEST);
+	}
+
+	@Test
+	public void testComputeDigests() throws Exception {
+		File first = writeBundle("first.jar", "abc");
+		File second = writeBundle("second.jar", "abd");
+		ContentDigestCache.load(cacheFile).computeDigests(List.of(first, second));
+		// the computed digests are saved
+		assertThat(cacheFile).exists();
+
+		// a stored digest is used even though the content changed
+		FileTime lastModified = Files.getLastModifiedTime(first.toPath());
+		writeBundle("first.jar", "abd");
+		Files.setLastModifiedTime(first.toPath(), lastModified);
+		ContentDigestCache cache = ContentDigestCache.load(cacheFile);
+		assertThat(cache.getDigest(first)).isEqualTo(ABC_DIGEST);
+		assertThat(cache.getDigest(second)).isEqualTo(ABD_DIGEST);
+	}
+
+	@Test
+	public void testUnchangedCacheIsNotSaved() throws Exception {
+		File bundle = writeBundle("bundle.jar", "abc");
+		ContentDigestCache cache = ContentDigestCache.load(cacheFile);
+		cache.getDigest(bundle);
+		cache.save();
+		assertThat(cacheFile).exists();
+
+		ContentDigestCache reloaded = ContentDigestCache.load(cacheFile);
+		assertThat(reloaded.getDigest(bundle)).isEqualTo(ABC_DIGEST);
+		Files.delete(cacheFile);
+		// neither a cached digest nor a second save write the cache again
+		reloaded.save();
+		cache.save();
+		assertThat(cacheFile).doesNotExist();
+	}
+
+	@Test
+	public void testDeletedBundlesAreNotSaved() throws Exception {
+		File deleted = writeBundle("deleted.jar", "abc");
+		File kept = writeBundle("kept.jar", "abc");
+		FileTime lastModified = Files.getLastModifiedTime(deleted.toPath());
+		ContentDigestCache cache = ContentDigestCache.load(cacheFile);
+		cache.getDigest(deleted);
+		cache.getDigest(kept);
+		Files.delete(deleted.toPath());
+		cache.save();
+
+		// a new bundle at the location of the deleted one is read
+		writeBundle("deleted.jar", "abd");
+		Files.setLastModifiedTime(deleted.toPath(), lastModified);
+		assertThat(ContentDigestCache.load(cacheFile).getDigest(deleted)).isEqualTo(ABD_DIGEST);
+	}
+
+	@Test
+	public void testCorruptCacheIsIgnored() throws Exception {
+		File bundle = writeBundle("bundle.jar", "abc");
+		Files.writeString(cacheFile, "corrupt");
+		assertThat(ContentDigestCache.load(cacheFile).getDigest(bundle)).isEqualTo(ABC_DIGEST);
+	}
+
+	private File writeBundle(String name, String content) throws Exception {
+		Path bundle = folder.getRoot().toPath().resolve(name);
+		Files.writeString(bundle, content, StandardCharsets.UTF_8);
+		return bundle.toFile();
+	}
+}
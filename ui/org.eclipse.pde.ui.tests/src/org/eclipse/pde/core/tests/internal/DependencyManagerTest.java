@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -340,6 +340,48 @@ public class DependencyManagerTest {
 		assertThat(optionalClosure).isEqualTo(Set.of(bundleOptional, bundleA1, bundleA2, bundleProvider));
 	}
 
+	@Test
+	public void testFindRequirementsClosure_cachedClosures() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")),
+
+				bundle("bundle.c", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.b")),
+
+				bundle("bundle.d", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.b")));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+		BundleDescription bundleC = bundleDescription("bundle.c", "1.0.0");
+		BundleDescription bundleD = bundleDescription("bundle.d", "1.0.0");
+
+		assertThat(findRequirementsClosure(Set.of(bundleB))).isEqualTo(Set.of(bundleA, bundleB));
+		// the closure of bundle.b is shared by the closures of bundle.c and bundle.d
+		assertThat(findRequirementsClosure(Set.of(bundleC))).isEqualTo(Set.of(bundleA, bundleB, bundleC));
+		assertThat(findRequirementsClosure(Set.of(bundleC))).isEqualTo(Set.of(bundleA, bundleB, bundleC));
+		assertThat(findRequirementsClosure(List.of(bundleC, bundleD)))
+				.isEqualTo(Set.of(bundleA, bundleB, bundleC, bundleD));
+
+		// changing the target platform invalidates the cached closures
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.b", "1.0.0"),
+
+				bundle("bundle.c", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.b")));
+
+		BundleDescription newBundleB = bundleDescription("bundle.b", "1.0.0");
+		BundleDescription newBundleC = bundleDescription("bundle.c", "1.0.0");
+
+		assertThat(findRequirementsClosure(Set.of(newBundleC))).isEqualTo(Set.of(newBundleB, newBundleC));
+	}
+
 	// --- utility methods ---
 
 	@SafeVarargs
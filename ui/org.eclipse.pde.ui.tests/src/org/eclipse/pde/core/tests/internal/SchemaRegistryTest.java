@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
+import org.eclipse.pde.internal.core.schema.IncludedSchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the cache of the parsed extension point schemas.
+ */
+public class SchemaRegistryTest {
+
+	private static final int THREADS = 8;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ISchemaDescriptor parent;
+
+	@Before
+	public void setUp() throws Exception {
+		Path parentFile = writeSchema("parent.exsd", "parent", "parent", null, 1);
+		parent = new IncludedSchemaDescriptor(parentFile.toUri().toURL());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedSchemasAreDropped() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			// schemas of the same estimated size
+			writeSchema("s" + i + ".exsd", "a", "b", null, 1);
+		}
+		long size = SchemaRegistry.estimateSize(new SchemaRegistry().getIncludedSchema(parent, "s0.exsd"));
+		assertThat(size).isPositive();
+
+		// room for four and a half schemas, trimmed to three
+		SchemaRegistry registry = new SchemaRegistry(size * 9 / 2);
+		List<ISchema> schemas = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			schemas.add(registry.getIncludedSchema(parent, "s" + i + ".exsd"));
+		}
+		assertThat(registry.getIncludedSchema(parent, "s0.exsd")).isSameAs(schemas.get(0));
+		schemas.add(registry.getIncludedSchema(parent, "s4.exsd"));
+
+		assertThat(registry.getIncludedSchema(parent, "s0.exsd")).isSameAs(schemas.get(0));
+		assertThat(registry.getIncludedSchema(parent, "s3.exsd")).isSameAs(schemas.get(3));
+		assertThat(registry.getIncludedSchema(parent, "s4.exsd")).isSameAs(schemas.get(4));
+		ISchema reloaded = registry.getIncludedSchema(parent, "s1.exsd");
+		assertThat(reloaded).isNotSameAs(schemas.get(1));
+		assertThat(reloaded.getElementNames()).containsExactly("a", "b");
+	}
+
+	@Test
+	public void testSchemaSizeIsEstimated() throws Exception {
+		writeSchema("small.exsd", "a", "b", null, 1);
+		writeSchema("large.exsd", "a", "b", null, 101);
+		SchemaRegistry registry = new SchemaRegistry();
+		long small = SchemaRegistry.estimateSize(registry.getIncludedSchema(parent, "small.exsd"));
+		long large = SchemaRegistry.estimateSize(registry.getIncludedSchema(parent, "large.exsd"));
+		// at least the size of the additional attribute objects
+		assertThat(large - small).isGreaterThanOrEqualTo(100 * 100);
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		writeSchema("a.exsd", "a", "b", "b.exsd", 1);
+		writeSchema("b.exsd", "b", "a", "a.exsd", 1);
+		SchemaRegistry registry = new SchemaRegistry();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<ISchema>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(() -> {
+					registry.preloadWorkspaceSchemas();
+					return registry.getIncludedSchema(parent, "a.exsd");
+				}));
+			}
+			ISchema schema = futures.get(0).get(1, TimeUnit.MINUTES);
+			for (Future<ISchema> future : futures) {
+				assertThat(future.get(1, TimeUnit.MINUTES)).isSameAs(schema);
+			}
+			assertThat(schema.getElementNames()).containsExactly("a");
+		} finally {
+			executor.shutdownNow();
+			registry.shutdown();
+		}
+	}
+
+	@Test
+	public void testConcurrentCyclicIncludes() throws Exception {
+		// the registry of the included schemas
+		SchemaRegistry registry = PDECore.getDefault().getSchemaRegistry();
+		writeSchema("a.exsd", "a", "b", "b.exsd", 1);
+		writeSchema("b.exsd", "b", "a", "a.exsd", 1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Callable<ISchema>> tasks = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				String location = i % 2 == 0 ? "a.exsd" : "b.exsd";
+				tasks.add(() -> registry.getIncludedSchema(parent, location));
+			}
+			List<Future<ISchema>> futures = executor.invokeAll(tasks, 1, TimeUnit.MINUTES);
+			for (int i = 0; i < THREADS; i++) {
+				ISchema schema = futures.get(i).get();
+				String name = i % 2 == 0 ? "a" : "b";
+				assertThat(schema).isSameAs(futures.get(i % 2).get());
+				assertThat(schema.getElementNames()).containsExactly(name);
+				assertThat(schema.getResolvedElements()).hasSize(2);
+				assertReferenceResolved(schema.findElement(name));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void assertReferenceResolved(ISchemaElement element) {
+		ISchemaComplexType type = (ISchemaComplexType) element.getType();
+		ISchemaObjectReference reference = (ISchemaObjectReference) type.getCompositor().getChildren()[0];
+		assertThat(reference.getReferencedObject()).isNotNull();
+	}
+
+	/**
+	 * Writes a schema declaring the given element, which contains the given
+	 * referenced element and has the given number of attributes. The
+	 * referenced element is declared too, unless the schema includes another
+	 * schema.
+	 */
+	private Path writeSchema(String fileName, String element, String reference, String include, int attributes)
+			throws Exception {
+		StringBuilder schema = new StringBuilder();
+		schema.append("<?xml version='1.0' encoding='UTF-8'?>\n");
+		schema.append("<schema targetNamespace=\"test\" xmlns=\"http://www.w3.org/2001/XMLSchema\">\n");
+		if (include != null) {
+			schema.append("   <include schemaLocation=\"").append(include).append("\"/>\n");
+		}
+		schema.append("   <element name=\"").append(element).append("\">\n");
+		schema.append("      <complexType>\n");
+		schema.append("         <sequence>\n");
+		schema.append("            <element ref=\"").append(reference).append("\"/>\n");
+		schema.append("         </sequence>\n");
+		for (int i = 0; i < attributes; i++) {
+			schema.append("         <attribute name=\"attribute").append(i).append("\" type=\"string\"/>\n");
+		}
+		schema.append("      </complexType>\n");
+		schema.append("   </element>\n");
+		if (include == null && !element.equals(reference)) {
+			schema.append("   <element name=\"").append(reference).append("\"/>\n");
+		}
+		schema.append("</schema>\n");
+		return Files.writeString(folder.getRoot().toPath().resolve(fileName), schema);
+	}
+}
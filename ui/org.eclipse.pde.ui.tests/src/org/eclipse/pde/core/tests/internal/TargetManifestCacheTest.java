@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDEState;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the cache of the manifests of target bundles that is used when a
+ * {@link PDEState} is created.
+ * <p>
+ * A jar is rewritten with a different manifest of the same length and its
+ * modification time is restored, so that a cached manifest is still
+ * considered current and is observable in the version of the created bundle.
+ * </p>
+ */
+public class TargetManifestCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testManifestIsCached() throws Exception {
+		Path jar = writeBundle("cached.bundle", "1.0.0");
+		FileTime lastModified = Files.getLastModifiedTime(jar);
+		assertThat(getVersion(jar, "cached.bundle", false)).isEqualTo("1.0.0");
+
+		rewriteBundle(jar, "cached.bundle", "2.0.0", lastModified);
+		assertThat(getVersion(jar, "cached.bundle", false)).isEqualTo("1.0.0");
+
+		// a modified jar is read again
+		Files.setLastModifiedTime(jar, FileTime.fromMillis(lastModified.toMillis() + 10000));
+		assertThat(getVersion(jar, "cached.bundle", false)).isEqualTo("2.0.0");
+	}
+
+	@Test
+	public void testOtherStatesKeepEntries() throws Exception {
+		Path jar = writeBundle("kept.bundle", "1.0.0");
+		FileTime lastModified = Files.getLastModifiedTime(jar);
+		assertThat(getVersion(jar, "kept.bundle", false)).isEqualTo("1.0.0");
+
+		// a state that is not the active target must not drop the entries of
+		// the bundles it does not contain
+		Path other = writeBundle("other.bundle", "1.0.0");
+		assertThat(getVersion(other, "other.bundle", false)).isEqualTo("1.0.0");
+
+		rewriteBundle(jar, "kept.bundle", "2.0.0", lastModified);
+		assertThat(getVersion(jar, "kept.bundle", false)).isEqualTo("1.0.0");
+	}
+
+	@Test
+	public void testActiveTargetPrunesEntries() throws Exception {
+		Path jar = writeBundle("pruned.bundle", "1.0.0");
+		FileTime lastModified = Files.getLastModifiedTime(jar);
+		assertThat(getVersion(jar, "pruned.bundle", false)).isEqualTo("1.0.0");
+
+		// the active target does not contain the bundle anymore
+		Path other = writeBundle("other.bundle", "1.0.0");
+		assertThat(getVersion(other, "other.bundle", true)).isEqualTo("1.0.0");
+
+		rewriteBundle(jar, "pruned.bundle", "2.0.0", lastModified);
+		assertThat(getVersion(jar, "pruned.bundle", false)).isEqualTo("2.0.0");
+	}
+
+	private static String getVersion(Path jar, String id, boolean activeTarget) {
+		PDEState state = new PDEState(new URI[] { jar.toUri() }, false, false, activeTarget, null);
+		BundleDescription[] bundles = state.getState().getBundles(id);
+		assertThat(bundles).hasSize(1);
+		return bundles[0].getVersion().toString();
+	}
+
+	private Path writeBundle(String id, String version) throws IOException {
+		Path jar = folder.getRoot().toPath().resolve(id + ".jar");
+		Files.write(jar, createJar(id, version));
+		return jar;
+	}
+
+	private static void rewriteBundle(Path jar, String id, String version, FileTime lastModified)
+			throws IOException {
+		byte[] content = createJar(id, version);
+		assertThat(content).hasSize((int) Files.size(jar));
+		Files.write(jar, content);
+		Files.setLastModifiedTime(jar, lastModified);
+	}
+
+	/**
+	 * Creates a jar with an uncompressed manifest, so that jars of versions
+	 * with the same number of characters have the same length
+	 */
+	private static byte[] createJar(String id, String version) throws IOException {
+		byte[] manifest = ("Manifest-Version: 1.0\r\n" //
+				+ "Bundle-ManifestVersion: 2\r\n" //
+				+ "Bundle-SymbolicName: " + id + "\r\n" //
+				+ "Bundle-Version: " + version + "\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+		CRC32 crc = new CRC32();
+		crc.update(manifest);
+		ZipEntry entry = new ZipEntry(JarFile.MANIFEST_NAME);
+		entry.setMethod(ZipEntry.STORED);
+		entry.setSize(manifest.length);
+		entry.setCrc(crc.getValue());
+		entry.setTime(0);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (JarOutputStream out = new JarOutputStream(bytes)) {
+			out.putNextEntry(entry);
+			out.write(manifest);
+			out.closeEntry();
+		}
+		return bytes.toByteArray();
+	}
+}
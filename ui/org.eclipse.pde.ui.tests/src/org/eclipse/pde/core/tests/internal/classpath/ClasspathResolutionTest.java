@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 Red Hat Inc. and others.
+ * Copyright (c) 2020, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,19 +17,29 @@ package org.eclipse.pde.core.tests.internal.classpath;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.jdt.core.IAccessRule;
 import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
@@ -37,20 +47,30 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.project.IBundleProjectDescription;
+import org.eclipse.pde.core.project.IBundleProjectService;
+import org.eclipse.pde.core.project.IPackageExportDescription;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
 import org.eclipse.pde.internal.core.MinimalState;
 import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDECoreMessages;
 import org.eclipse.pde.internal.core.RequiredPluginsClasspathContainer;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.ui.tests.project.ProjectCreationTests;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
 import org.eclipse.pde.ui.tests.util.ProjectUtils;
 import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
 import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.rules.TestRule;
 import org.mockito.Mockito;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.Constants;
 import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.VersionRange;
 
 public class ClasspathResolutionTest {
 
@@ -61,6 +81,8 @@ public class ClasspathResolutionTest {
 	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
 	@Rule
 	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
 
 	private static String jakartaAnnotationProviderBSN;
 
@@ -147,8 +169,98 @@ public class ClasspathResolutionTest {
 		}
 	}
 
+	@Test
+	public void testAccessRulesOfRequiredBundle() throws Exception {
+		String exports = "bundle.a.api,bundle.a.internal;x-internal:=true,bundle.a.friends;x-friends:=\"consumer.one\"";
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries( //
+				TargetPlatformUtil.bundle("bundle.a", "1.0.0", Map.entry(Constants.EXPORT_PACKAGE, exports))),
+				List.of(), folder.newFolder("TPJarDirectory").toPath());
+
+		IAccessRule[] friendRules = getAccessRulesOfRequiredBundle("consumer.one", "bundle.a");
+		IAccessRule[] rules = getAccessRulesOfRequiredBundle("consumer.two", "bundle.a");
+		IAccessRule[] otherRules = getAccessRulesOfRequiredBundle("consumer.three", "bundle.a");
+
+		assertThat(friendRules).extracting(r -> r.getPattern().toString() + ":" + r.getKind()).containsExactly( //
+				"bundle/a/api/*:" + IAccessRule.K_ACCESSIBLE, //
+				"bundle/a/internal/*:" + IAccessRule.K_DISCOURAGED, //
+				"bundle/a/friends/*:" + IAccessRule.K_ACCESSIBLE, //
+				"**/*:" + (IAccessRule.K_NON_ACCESSIBLE | IAccessRule.IGNORE_IF_BETTER));
+		assertThat(rules).extracting(r -> r.getPattern().toString() + ":" + r.getKind()).containsExactly( //
+				"bundle/a/api/*:" + IAccessRule.K_ACCESSIBLE, //
+				"bundle/a/internal/*:" + IAccessRule.K_DISCOURAGED, //
+				"bundle/a/friends/*:" + IAccessRule.K_DISCOURAGED, //
+				"**/*:" + (IAccessRule.K_NON_ACCESSIBLE | IAccessRule.IGNORE_IF_BETTER));
+		// the rules of dependents seeing the same packages are shared
+		assertThat(otherRules).isSameAs(rules);
+	}
+
+	@Test
+	public void testClasspathUpdatesAreCoalesced() throws Exception {
+		IBundleProjectService service = ProjectCreationTests.getBundleProjectService();
+		IProject provider = ProjectUtils.createPluginProject("provider", "provider", "1.0.0");
+		IProject consumerOne = createConsumerProject("consumer.one", "provider");
+		IProject consumerTwo = createConsumerProject("consumer.two", "provider");
+		TestUtils.waitForJobs(getClass().getName(), 100, 10000);
+
+		AtomicInteger runs = new AtomicInteger();
+		IJobChangeListener listener = new JobChangeAdapter() {
+			@Override
+			public void done(IJobChangeEvent event) {
+				if (PDECoreMessages.PluginModelManager_1.equals(event.getJob().getName())) {
+					runs.incrementAndGet();
+				}
+			}
+		};
+		Job.getJobManager().addJobChangeListener(listener);
+		try {
+			// holding the workspace rule keeps the update job waiting while the
+			// manifest of the provider is changed several times
+			IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+			Job.getJobManager().beginRule(root, null);
+			try {
+				List<IPackageExportDescription> exports = new ArrayList<>();
+				for (String packageName : List.of("provider.a", "provider.b", "provider.c")) {
+					exports.add(service.newPackageExport(packageName, null, true, List.of()));
+					IBundleProjectDescription description = service.getDescription(provider);
+					description.setPackageExports(exports.toArray(IPackageExportDescription[]::new));
+					description.apply(null);
+				}
+			} finally {
+				Job.getJobManager().endRule(root);
+			}
+			TestUtils.waitForJobs(getClass().getName(), 100, 10000);
+		} finally {
+			Job.getJobManager().removeJobChangeListener(listener);
+		}
+
+		assertThat(runs.get()).isEqualTo(1);
+		for (IProject consumer : List.of(consumerOne, consumerTwo)) {
+			IClasspathContainer container = JavaCore.getClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH,
+					JavaCore.create(consumer));
+			IClasspathEntry entry = Arrays.stream(container.getClasspathEntries())
+					.filter(e -> e.getPath().lastSegment().equals("provider")).findFirst().orElseThrow();
+			assertThat(entry.getAccessRules()).extracting(r -> r.getPattern().toString()).contains("provider/a/*",
+					"provider/b/*", "provider/c/*");
+		}
+	}
+
 	// --- utilitiy methods ---
 
+	private IProject createConsumerProject(String consumer, String required) throws CoreException {
+		return ProjectUtils.createPluginProject(consumer, consumer, "1.0.0", (d, s) -> {
+			d.setRequiredBundles(new IRequiredBundleDescription[] { s.newRequiredBundle(required, (VersionRange) null, false, false) });
+		});
+	}
+
+	private IAccessRule[] getAccessRulesOfRequiredBundle(String consumer, String required) throws CoreException {
+		IProject project = createConsumerProject(consumer, required);
+		IPluginModelBase model = PDECore.getDefault().getModelManager().findModel(project);
+		IClasspathContainer container = new RequiredPluginsClasspathContainer(model, project);
+		return Arrays.stream(container.getClasspathEntries())
+				.filter(e -> e.getPath().lastSegment().startsWith(required)).findFirst().orElseThrow()
+				.getAccessRules();
+	}
+
 	private List<String> getRequiredPluginContainerEntries(IProject project) throws CoreException {
 		project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 		IPluginModelBase model = PDECore.getDefault().getModelManager().findModel(project);
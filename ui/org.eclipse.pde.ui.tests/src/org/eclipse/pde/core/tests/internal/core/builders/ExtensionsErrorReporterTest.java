@@ -0,0 +1,81 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExtensionsErrorReporterTest {
+
+	private IProject project;
+
+	@Before
+	public void setup() throws Exception {
+		project = ProjectUtils.createPluginProject(getClass().getName(),
+				JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-17")).getProject();
+	}
+
+	@Test
+	public void testMarkersOfStreamedElements() throws Exception {
+		String content = """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<plugin>
+				   <extension point="missing.point1"/>
+				   <extension point="missing.point2">
+				      <element name="value"/>
+				   </extension>
+				   <unknown/>
+				   <extension point="missing.point3"/>
+				</plugin>
+				""";
+		IFile pluginXml = project.getFile("plugin.xml");
+		pluginXml.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), true, null);
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+
+		List<IMarker> markers = Arrays.asList(pluginXml.findMarkers(PDEMarkerFactory.MARKER_ID, false, 0));
+		assertThat(markers).filteredOn(m -> m.getAttribute(IMarker.MESSAGE, "").contains("missing.point"))
+				.extracting(m -> m.getAttribute(IMarker.LINE_NUMBER, -1)).containsExactlyInAnyOrder(3, 4, 8);
+
+		// the location of the elements validated while parsing accounts for
+		// their previous siblings
+		assertThat(markers).filteredOn(m -> m.getAttribute(PDEMarkerFactory.MPK_LOCATION_PATH, null) != null)
+				.extracting(m -> m.getAttribute(PDEMarkerFactory.MPK_LOCATION_PATH, null))
+				.containsExactly("(0)plugin>(2)unknown");
+		assertThat(markers).filteredOn(m -> "(0)plugin>(2)unknown".equals(m.getAttribute(PDEMarkerFactory.MPK_LOCATION_PATH, null)))
+				.extracting(m -> m.getAttribute(IMarker.LINE_NUMBER, -1)).containsExactly(7);
+	}
+
+	@After
+	public void tearDown() throws CoreException {
+		if (project.exists()) {
+			project.delete(true, null);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.eclipse.pde.internal.core.builders.DependencyLoopFinder;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the loop detection of {@link DependencyLoopFinder} on synthetic,
+ * densely connected dependency graphs of 5000 plug-ins.
+ */
+public class DependencyLoopFinderPerfTest extends PerformanceTestCase {
+
+	private static final int NODES = 5000;
+
+	private static final int DEPENDENCIES = 20;
+
+	private static final int LOOPS = 50;
+
+	private List<List<Integer>> fGraph;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		Random random = new Random(4711);
+		fGraph = new ArrayList<>(NODES);
+		for (int i = 0; i < NODES; i++) {
+			// dependencies on lower nodes only, so the graph is acyclic
+			List<Integer> dependencies = new ArrayList<>(DEPENDENCIES);
+			for (int j = 0; j < DEPENDENCIES && i > 0; j++) {
+				dependencies.add(random.nextInt(i));
+			}
+			fGraph.add(dependencies);
+		}
+		// close some loops spanning large parts of the graph
+		for (int i = 0; i < LOOPS; i++) {
+			int node = NODES - 1 - i * (NODES / LOOPS);
+			fGraph.get(0).add(node);
+		}
+	}
+
+	public void testFindCycles() throws Exception {
+		List<Integer> roots = IntStream.range(0, NODES).boxed().toList();
+		List<List<Integer>> cycles = DependencyLoopFinder.findCycles(roots, fGraph::get);
+		assertEquals(1, cycles.size());
+		assertEquals(Integer.valueOf(0), cycles.get(0).get(0));
+
+		for (int i = 0; i < 10; i++) {
+			DependencyLoopFinder.findCycles(roots, fGraph::get);
+		}
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			DependencyLoopFinder.findCycles(roots, fGraph::get);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures a clean build of many plug-in projects, whose manifest files are
+ * validated concurrently.
+ */
+public class ManifestValidationPerfTest extends PerformanceTestCase {
+
+	private static final int PROJECTS = 40;
+
+	private static final int EXTENSIONS = 50;
+
+	private final List<IProject> fProjects = new ArrayList<>();
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		StringBuilder content = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<plugin>\n");
+		for (int i = 0; i < EXTENSIONS; i++) {
+			content.append("   <extension point=\"org.eclipse.core.runtime.adapters\">\n");
+			content.append("      <factory adaptableType=\"java.lang.Object\" class=\"missing.Factory" + i + "\">\n");
+			content.append("         <adapter type=\"java.lang.String\"/>\n");
+			content.append("      </factory>\n");
+			content.append("   </extension>\n");
+		}
+		content.append("</plugin>\n");
+		for (int i = 0; i < PROJECTS; i++) {
+			IProject project = ProjectUtils.createPluginProject(getClass().getSimpleName() + i,
+					JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-17")).getProject();
+			IFile pluginXml = project.getFile("plugin.xml");
+			pluginXml.create(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)), true, null);
+			fProjects.add(project);
+		}
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		PDECore.getDefault().getPreferencesManager().setToDefault(ICoreConstants.PARALLEL_MANIFEST_VALIDATION);
+		for (IProject project : fProjects) {
+			project.delete(true, null);
+		}
+		super.tearDown();
+	}
+
+	public void testCleanBuild() throws Exception {
+		PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+		preferences.setValue(ICoreConstants.PARALLEL_MANIFEST_VALIDATION, false);
+		cleanBuild();
+		Set<String> expected = getMarkers();
+		preferences.setValue(ICoreConstants.PARALLEL_MANIFEST_VALIDATION, true);
+		cleanBuild();
+		assertEquals(expected, getMarkers());
+
+		for (int i = 0; i < 5; i++) {
+			startMeasuring();
+			cleanBuild();
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void cleanBuild() throws CoreException {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		workspace.build(IncrementalProjectBuilder.CLEAN_BUILD, null);
+		workspace.build(IncrementalProjectBuilder.FULL_BUILD, null);
+	}
+
+	private Set<String> getMarkers() throws CoreException {
+		Set<String> markers = new TreeSet<>();
+		for (IProject project : fProjects) {
+			for (IMarker marker : project.findMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_INFINITE)) {
+				markers.add(marker.getResource().getFullPath() + ":" + marker.getAttribute(IMarker.LINE_NUMBER, -1) + ":" + marker.getAttribute(IMarker.MESSAGE, ""));
+			}
+		}
+		return markers;
+	}
+}
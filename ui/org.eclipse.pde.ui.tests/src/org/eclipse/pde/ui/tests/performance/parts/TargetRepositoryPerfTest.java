@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.core.target.ITargetPlatformService;
+import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.bnd.TargetRepository;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.osgi.framework.Constants;
+import org.osgi.framework.namespace.BundleNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
+import org.osgi.resource.Requirement;
+import org.osgi.resource.Resource;
+
+/**
+ * Measures the lookup of the providers of the requirements of a bnd project
+ * in the {@link TargetRepository} of a target platform of 3000 bundles.
+ */
+public class TargetRepositoryPerfTest extends PerformanceTestCase {
+
+	private static final int BUNDLES = 3000;
+
+	private static final int REQUIREMENTS = 300;
+
+	private Path fJarDirectory;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fJarDirectory = Files.createTempDirectory(getClass().getSimpleName());
+		Map<NameVersionDescriptor, Map<String, String>> bundles = new HashMap<>();
+		for (int i = 0; i < BUNDLES; i++) {
+			var bundle = bundle("perf.bundle" + i, "1.0.0", //
+					Map.entry(Constants.EXPORT_PACKAGE, "perf.pack" + i + ";version=\"1.0.0\""));
+			bundles.put(bundle.getKey(), bundle.getValue());
+		}
+		TargetPlatformUtil.setDummyBundlesAsTarget(bundles, List.of(), fJarDirectory);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		ITargetPlatformService tps = PDECore.getDefault().acquireService(ITargetPlatformService.class);
+		new LoadTargetDefinitionJob(tps.newDefaultTarget()).runInWorkspace(new NullProgressMonitor());
+		try (Stream<Path> files = Files.walk(fJarDirectory)) {
+			files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+		super.tearDown();
+	}
+
+	public void testFindProviders() throws Exception {
+		List<Requirement> requirements = new ArrayList<>(REQUIREMENTS);
+		for (int i = 0; i < REQUIREMENTS / 2; i++) {
+			int bundle = i * (BUNDLES / REQUIREMENTS) * 2;
+			requirements.add(requirement(PackageNamespace.PACKAGE_NAMESPACE,
+					"(&(osgi.wiring.package=perf.pack" + bundle + ")(version>=1.0.0)(!(version>=2.0.0)))"));
+			requirements.add(requirement(BundleNamespace.BUNDLE_NAMESPACE,
+					"(osgi.wiring.bundle=perf.bundle" + (bundle + 1) + ")"));
+		}
+		TargetRepository repository = TargetRepository.getTargetRepository();
+		Map<Requirement, Collection<Capability>> providers = repository.findProviders(requirements);
+		for (Requirement requirement : requirements) {
+			assertEquals(requirement.toString(), 1, providers.get(requirement).size());
+		}
+
+		for (int i = 0; i < 5; i++) {
+			repository.findProviders(requirements);
+		}
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			repository.findProviders(requirements);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static Requirement requirement(String namespace, String filter) {
+		return new Requirement() {
+			@Override
+			public String getNamespace() {
+				return namespace;
+			}
+
+			@Override
+			public Map<String, String> getDirectives() {
+				return Map.of(Namespace.REQUIREMENT_FILTER_DIRECTIVE, filter);
+			}
+
+			@Override
+			public Map<String, Object> getAttributes() {
+				return Map.of();
+			}
+
+			@Override
+			public Resource getResource() {
+				return null;
+			}
+
+			@Override
+			public String toString() {
+				return namespace + ": " + filter;
+			}
+		};
+	}
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.IStateDeltaListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests that changing the content of a location of the active target applies
+ * only the added, removed and changed bundles to the plug-in models.
+ */
+public class TargetChangeDeltaTests {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testChangedLocationAppliesDelta() throws Exception {
+		Path directory = folder.newFolder("target").toPath();
+		Path plugins = Files.createDirectories(directory.resolve("plugins"));
+		for (int i = 0; i < 10; i++) {
+			writeBundle(plugins, "bundle." + i, Map.of());
+		}
+		TargetPlatformUtil.createAndSetTarget(null,
+				List.of(TargetPlatformUtil.TPS.newDirectoryLocation(directory.toString())), null);
+		assertThat(PluginRegistry.findModel("bundle.1")).isNotNull();
+
+		List<PluginModelDelta> deltas = new ArrayList<>();
+		List<StateDelta> stateDeltas = new ArrayList<>();
+		List<State> newStates = new ArrayList<>();
+		IPluginModelListener listener = deltas::add;
+		IStateDeltaListener stateListener = new IStateDeltaListener() {
+			@Override
+			public void stateResolved(StateDelta delta) {
+				stateDeltas.add(delta);
+			}
+
+			@Override
+			public void stateChanged(State newState) {
+				newStates.add(newState);
+			}
+		};
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		manager.addPluginModelListener(listener);
+		manager.addStateDeltaListener(stateListener);
+		try {
+			Files.delete(plugins.resolve("bundle.1_1.0.0.jar"));
+			Path changed = writeBundle(plugins, "bundle.2", Map.of(Constants.EXPORT_PACKAGE, "bundle.two"));
+			// the modification time has to differ on file systems with a coarse resolution
+			Files.setLastModifiedTime(changed,
+					FileTime.fromMillis(Files.getLastModifiedTime(changed).toMillis() + 10000));
+			writeBundle(plugins, "bundle.10", Map.of());
+			ITargetDefinition target = TargetPlatformUtil.TPS.getWorkspaceTargetDefinition();
+			target.resolve(null);
+			TargetPlatformUtil.loadAndSetTarget(target);
+		} finally {
+			manager.removePluginModelListener(listener);
+			manager.removeStateDeltaListener(stateListener);
+		}
+
+		assertThat(deltas).hasSize(1);
+		PluginModelDelta delta = deltas.get(0);
+		assertThat(getIds(delta.getAddedEntries())).containsExactly("bundle.10");
+		assertThat(getIds(delta.getRemovedEntries())).containsExactly("bundle.1");
+		assertThat(getIds(delta.getChangedEntries())).containsExactly("bundle.2");
+		assertThat(stateDeltas).hasSize(1);
+		// the target content differs from the saved list of external plug-ins
+		assertThat(newStates).hasSize(1);
+
+		assertThat(PluginRegistry.findModel("bundle.1")).isNull();
+		assertThat(PluginRegistry.findModel("bundle.10")).isNotNull();
+		IPluginModelBase model = PluginRegistry.findModel("bundle.2");
+		assertThat(model.getBundleDescription().getExportPackages()).extracting(ExportPackageDescription::getName)
+				.containsExactly("bundle.two");
+	}
+
+	private static List<String> getIds(ModelEntry[] entries) {
+		return Arrays.stream(entries).map(ModelEntry::getId).toList();
+	}
+
+	private static Path writeBundle(Path plugins, String id, Map<String, String> headers) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, id);
+		attributes.putValue(Constants.BUNDLE_VERSION, "1.0.0");
+		headers.forEach(attributes::putValue);
+		Path jar = plugins.resolve(id + "_1.0.0.jar");
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+			// only the manifest
+		}
+		return jar;
+	}
+}
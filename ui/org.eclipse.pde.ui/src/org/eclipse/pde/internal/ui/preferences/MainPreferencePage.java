@@ -172,6 +172,7 @@ public class MainPreferencePage extends PreferencePage implements IWorkbenchPref
 	private Button fAlwaysPreferWorkspace;
 	private Button fDisableAPIAnalysisBuilder;
 	private Button fRunAPIAnalysisBuilderAsJob;
+	private Button fRunAPIAnalysisInParallel;
 	private Button fAddSwtNonDisposalReporting;
 
 	private Text fRuntimeWorkspaceLocation;
@@ -240,8 +241,15 @@ public class MainPreferencePage extends PreferencePage implements IWorkbenchPref
 		fRunAPIAnalysisBuilderAsJob.setSelection(
 				PDECore.getDefault().getPreferencesManager().getBoolean(ICoreConstants.RUN_API_ANALYSIS_AS_JOB));
 
+		fRunAPIAnalysisInParallel = new Button(optionComp, SWT.CHECK);
+		fRunAPIAnalysisInParallel.setText(PDEUIMessages.MainPreferencePage_RunAPIAnalysisInParallel);
+		fRunAPIAnalysisInParallel.setSelection(
+				PDECore.getDefault().getPreferencesManager().getBoolean(ICoreConstants.PARALLEL_API_ANALYSIS));
+		fRunAPIAnalysisInParallel.setEnabled(!fDisableAPIAnalysisBuilder.getSelection());
+
 		fDisableAPIAnalysisBuilder.addSelectionListener(SelectionListener.widgetSelectedAdapter(e -> {
 			fRunAPIAnalysisBuilderAsJob.setEnabled(!fDisableAPIAnalysisBuilder.getSelection());
+			fRunAPIAnalysisInParallel.setEnabled(!fDisableAPIAnalysisBuilder.getSelection());
 		}));
 
 		fAddSwtNonDisposalReporting = new Button(optionComp, SWT.CHECK);
@@ -468,6 +476,13 @@ public class MainPreferencePage extends PreferencePage implements IWorkbenchPref
 			prefs.setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, runAPIAnalysisAsJob);
 		}
 
+		boolean runAPIAnalysisInParallel = fRunAPIAnalysisInParallel.getSelection();
+		if (PDECore.getDefault().getPreferencesManager()
+				.getBoolean(ICoreConstants.PARALLEL_API_ANALYSIS) != runAPIAnalysisInParallel) {
+			PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+			prefs.setValue(ICoreConstants.PARALLEL_API_ANALYSIS, runAPIAnalysisInParallel);
+		}
+
 		boolean addSwtNonDisposalReporting = fAddSwtNonDisposalReporting.getSelection();
 		if (store.getBoolean(IPreferenceConstants.ADD_SWT_NON_DISPOSAL_REPORTING) != addSwtNonDisposalReporting) {
 			store.setValue(IPreferenceConstants.ADD_SWT_NON_DISPOSAL_REPORTING, addSwtNonDisposalReporting);
@@ -518,6 +533,10 @@ public class MainPreferencePage extends PreferencePage implements IWorkbenchPref
 		fRunAPIAnalysisBuilderAsJob.setEnabled(true);
 		fRunAPIAnalysisBuilderAsJob.setSelection(
 				PDECore.getDefault().getPreferencesManager().getDefaultBoolean(ICoreConstants.RUN_API_ANALYSIS_AS_JOB));
+		fRunAPIAnalysisInParallel
+				.setEnabled(!store.getDefaultBoolean(IPreferenceConstants.DISABLE_API_ANALYSIS_BUILDER));
+		fRunAPIAnalysisInParallel.setSelection(
+				PDECore.getDefault().getPreferencesManager().getDefaultBoolean(ICoreConstants.PARALLEL_API_ANALYSIS));
 		fDisableAPIAnalysisBuilder
 				.setSelection(store.getDefaultBoolean(IPreferenceConstants.DISABLE_API_ANALYSIS_BUILDER));
 		fAddSwtNonDisposalReporting